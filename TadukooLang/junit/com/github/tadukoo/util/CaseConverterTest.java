@@ -0,0 +1,155 @@
+package com.github.tadukoo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class CaseConverterTest{
+	
+	@Test
+	public void testMaximumSize(){
+		assertEquals(100, new CaseConverter(100).getMaximumSize());
+	}
+	
+	@Test
+	public void testBadMaximumSize(){
+		try{
+			new CaseConverter(0);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Maximum size must be positive, but was 0!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testConversions(){
+		CaseConverter converter = new CaseConverter(64);
+		String text = "someTest string_here";
+		assertEquals(StringUtil.toPascalCase(text), converter.toPascalCase(text));
+		assertEquals(StringUtil.toCamelCase(text), converter.toCamelCase(text));
+		assertEquals(StringUtil.toSnakeCase(text), converter.toSnakeCase(text));
+		assertEquals(StringUtil.toKebabCase(text), converter.toKebabCase(text));
+		assertEquals(StringUtil.toScreamingSnakeCase(text), converter.toScreamingSnakeCase(text));
+	}
+	
+	@Test
+	public void testCachedConversion(){
+		CaseConverter converter = new CaseConverter(64);
+		String first = converter.toSnakeCase("someTestString");
+		assertEquals("some_test_string", first);
+		assertSame(first, converter.toSnakeCase("someTestString"));
+		assertEquals(1, converter.getHits());
+		assertEquals(1, converter.getMisses());
+		assertEquals(0.5, converter.getHitRate());
+	}
+	
+	@Test
+	public void testCasesCachedSeparately(){
+		CaseConverter converter = new CaseConverter(64);
+		assertEquals("some_test", converter.toSnakeCase("someTest"));
+		assertEquals("some-test", converter.toKebabCase("someTest"));
+		assertEquals("SomeTest", converter.toPascalCase("someTest"));
+		assertEquals(0, converter.getHits());
+		assertEquals(3, converter.getMisses());
+		assertEquals(3, converter.getCachedCount());
+	}
+	
+	@Test
+	public void testHitRateNothingConverted(){
+		assertEquals(0, new CaseConverter(64).getHitRate());
+	}
+	
+	@Test
+	public void testEviction(){
+		CaseConverter converter = new CaseConverter(2);
+		converter.toSnakeCase("aTest");
+		converter.toSnakeCase("bTest");
+		converter.toSnakeCase("aTest");
+		converter.toSnakeCase("cTest");
+		assertEquals(2, converter.getCachedCount());
+		
+		// bTest was the least recently used, so it was evicted
+		converter.resetStats();
+		converter.toSnakeCase("aTest");
+		converter.toSnakeCase("cTest");
+		assertEquals(2, converter.getHits());
+		converter.toSnakeCase("bTest");
+		assertEquals(1, converter.getMisses());
+	}
+	
+	@Test
+	public void testBounded(){
+		CaseConverter converter = new CaseConverter(100);
+		for(int i = 0; i < 1000; i++){
+			converter.toCamelCase("some_name_" + i);
+		}
+		assertTrue(converter.getCachedCount() <= 100);
+		assertEquals(1000, converter.getMisses());
+	}
+	
+	@Test
+	public void testBoundedUnevenSegments(){
+		// 1000 doesn't split evenly into 16 segments, but the cache still never holds more than 1000
+		CaseConverter converter = new CaseConverter(1000);
+		for(int i = 0; i < 10000; i++){
+			converter.toCamelCase("some_name_" + i);
+		}
+		assertEquals(1000, converter.getCachedCount());
+	}
+	
+	@Test
+	public void testResetStats(){
+		CaseConverter converter = new CaseConverter(64);
+		converter.toCamelCase("some_test");
+		converter.toCamelCase("some_test");
+		converter.resetStats();
+		assertEquals(0, converter.getHits());
+		assertEquals(0, converter.getMisses());
+		assertEquals(1, converter.getCachedCount());
+	}
+	
+	@Test
+	public void testClear(){
+		CaseConverter converter = new CaseConverter(64);
+		converter.toCamelCase("some_test");
+		converter.toPascalCase("some_test");
+		converter.clear();
+		assertEquals(0, converter.getCachedCount());
+		assertEquals(2, converter.getMisses());
+		converter.toCamelCase("some_test");
+		assertEquals(3, converter.getMisses());
+	}
+	
+	@Test
+	public void testConcurrentConversions() throws Exception{
+		CaseConverter converter = new CaseConverter(256);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			List<Future<?>> futures = new ArrayList<>();
+			for(int t = 0; t < 4; t++){
+				futures.add(executor.submit(() -> {
+					for(int i = 0; i < 10000; i++){
+						String name = "someName" + (i % 50);
+						assertEquals(StringUtil.toSnakeCase(name), converter.toSnakeCase(name));
+					}
+				}));
+			}
+			for(Future<?> future: futures){
+				future.get();
+			}
+		}finally{
+			executor.shutdown();
+		}
+		assertEquals(40000, converter.getHits() + converter.getMisses());
+		assertEquals(50, converter.getCachedCount());
+	}
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class CharacterUtilTest{
 	
@@ -152,4 +153,178 @@ public class CharacterUtilTest{
 	public void testToLowerCaseNotALetter(){
 		assertEquals('!', CharacterUtil.toLowerCase('!'));
 	}
+	
+	@Test
+	public void testUnicodeIsUpperCase(){
+		assertTrue(CharacterUtil.Unicode.isUpperCase('A'));
+		assertTrue(CharacterUtil.Unicode.isUpperCase('\u00C9'));
+		assertTrue(CharacterUtil.Unicode.isUpperCase('\u0394'));
+		assertFalse(CharacterUtil.Unicode.isUpperCase('\u00E9'));
+		assertFalse(CharacterUtil.Unicode.isUpperCase('?'));
+	}
+	
+	@Test
+	public void testUnicodeIsLowerCase(){
+		assertTrue(CharacterUtil.Unicode.isLowerCase('a'));
+		assertTrue(CharacterUtil.Unicode.isLowerCase('\u00E9'));
+		assertTrue(CharacterUtil.Unicode.isLowerCase('\u03B4'));
+		assertFalse(CharacterUtil.Unicode.isLowerCase('\u00C9'));
+		assertFalse(CharacterUtil.Unicode.isLowerCase('1'));
+	}
+	
+	@Test
+	public void testUnicodeIsLetter(){
+		assertTrue(CharacterUtil.Unicode.isLetter('z'));
+		assertTrue(CharacterUtil.Unicode.isLetter('\u00F1'));
+		assertTrue(CharacterUtil.Unicode.isLetter('\u4E2D'));
+		assertFalse(CharacterUtil.Unicode.isLetter('\u00D7'));
+		assertFalse(CharacterUtil.Unicode.isLetter('_'));
+	}
+	
+	@Test
+	public void testUnicodeIsNumber(){
+		assertTrue(CharacterUtil.Unicode.isNumber('7'));
+		assertTrue(CharacterUtil.Unicode.isNumber('\u0663'));
+		assertFalse(CharacterUtil.Unicode.isNumber('\u00BD'));
+		assertFalse(CharacterUtil.Unicode.isNumber('x'));
+	}
+	
+	@Test
+	public void testUnicodeToUpperCase(){
+		assertEquals('A', CharacterUtil.Unicode.toUpperCase('a'));
+		assertEquals('\u00C9', CharacterUtil.Unicode.toUpperCase('\u00E9'));
+		assertEquals('\u0394', CharacterUtil.Unicode.toUpperCase('\u03B4'));
+		assertEquals('?', CharacterUtil.Unicode.toUpperCase('?'));
+	}
+	
+	@Test
+	public void testUnicodeToLowerCase(){
+		assertEquals('a', CharacterUtil.Unicode.toLowerCase('A'));
+		assertEquals('\u00E9', CharacterUtil.Unicode.toLowerCase('\u00C9'));
+		assertEquals('\u03B4', CharacterUtil.Unicode.toLowerCase('\u0394'));
+		assertEquals('?', CharacterUtil.Unicode.toLowerCase('?'));
+	}
+	
+	@Test
+	public void testUnicodeMatchesCharacterForAllChars(){
+		for(int i = 0; i <= Character.MAX_VALUE; i++){
+			char c = (char) i;
+			assertEquals(Character.isUpperCase(c), CharacterUtil.Unicode.isUpperCase(c));
+			assertEquals(Character.isLowerCase(c), CharacterUtil.Unicode.isLowerCase(c));
+			assertEquals(Character.isLetter(c), CharacterUtil.Unicode.isLetter(c));
+			assertEquals(Character.isDigit(c), CharacterUtil.Unicode.isNumber(c));
+			assertEquals(Character.toUpperCase(c), CharacterUtil.Unicode.toUpperCase(c));
+			assertEquals(Character.toLowerCase(c), CharacterUtil.Unicode.toLowerCase(c));
+		}
+	}
+	
+	@Test
+	public void testUnicodeCodePoints(){
+		// U+10400 and U+10428 are an uppercase and lowercase letter (Deseret) outside the Basic Multilingual Plane
+		assertTrue(CharacterUtil.Unicode.isUpperCase(0x10400));
+		assertTrue(CharacterUtil.Unicode.isLowerCase(0x10428));
+		assertTrue(CharacterUtil.Unicode.isLetter(0x10400));
+		assertEquals(0x10428, CharacterUtil.Unicode.toLowerCase(0x10400));
+		assertEquals(0x10400, CharacterUtil.Unicode.toUpperCase(0x10428));
+		
+		// U+1D7CE is a mathematical bold digit zero
+		assertTrue(CharacterUtil.Unicode.isNumber(0x1D7CE));
+		
+		// Code points in the Basic Multilingual Plane use the tables
+		assertTrue(CharacterUtil.Unicode.isUpperCase((int) '\u00C9'));
+		assertEquals((int) 'A', CharacterUtil.Unicode.toUpperCase((int) 'a'));
+		assertFalse(CharacterUtil.Unicode.isLetter(-1));
+	}
+	
+	@Test
+	public void testIndexOfNonLetter(){
+		assertEquals(5, CharacterUtil.indexOfNonLetter("hello_world", 0));
+		assertEquals(-1, CharacterUtil.indexOfNonLetter("helloWorld", 0));
+		assertEquals(-1, CharacterUtil.indexOfNonLetter("", 0));
+	}
+	
+	@Test
+	public void testIndexOfNonLetterFrom(){
+		assertEquals(8, CharacterUtil.indexOfNonLetter("a1bcdefg2", 2));
+		assertEquals(-1, CharacterUtil.indexOfNonLetter("a1", 5));
+	}
+	
+	@Test
+	public void testIndexOfNonLetterLongText(){
+		String letters = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+		assertEquals(-1, CharacterUtil.indexOfNonLetter(letters, 0));
+		for(char c: new char[]{'@', '[', '`', '{', '0', ' ', '\u00E9', '\u0141'}){
+			for(int index = 0; index < letters.length(); index++){
+				String text = letters.substring(0, index) + c + letters.substring(index);
+				assertEquals(index, CharacterUtil.indexOfNonLetter(text, 0));
+				assertEquals(index, CharacterUtil.indexOfNonLetter(new StringBuilder(text), 0));
+			}
+		}
+	}
+	
+	@Test
+	public void testIndexOfNonNumber(){
+		assertEquals(3, CharacterUtil.indexOfNonNumber("123.45", 0));
+		assertEquals(-1, CharacterUtil.indexOfNonNumber("123", 0));
+		assertEquals(-1, CharacterUtil.indexOfNonNumber("123.45", 4));
+		
+		String digits = "01234567890123456789012345678901234567890";
+		for(int index = 0; index < digits.length(); index++){
+			String text = digits.substring(0, index) + '/' + digits.substring(index);
+			assertEquals(index, CharacterUtil.indexOfNonNumber(text, 0));
+			text = digits.substring(0, index) + ':' + digits.substring(index);
+			assertEquals(index, CharacterUtil.indexOfNonNumber(text, 0));
+		}
+	}
+	
+	@Test
+	public void testAllLetters(){
+		char[] chars = "12abcDEF34".toCharArray();
+		assertTrue(CharacterUtil.allLetters(chars, 2, 6));
+		assertFalse(CharacterUtil.allLetters(chars, 1, 6));
+		assertFalse(CharacterUtil.allLetters(chars, 2, 7));
+		assertTrue(CharacterUtil.allLetters(chars, 0, 0));
+	}
+	
+	@Test
+	public void testAllLettersLong(){
+		char[] chars = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+		assertTrue(CharacterUtil.allLetters(chars, 0, chars.length));
+		chars[40] = '_';
+		assertFalse(CharacterUtil.allLetters(chars, 0, chars.length));
+		assertTrue(CharacterUtil.allLetters(chars, 0, 40));
+	}
+	
+	@Test
+	public void testAllDigits(){
+		char[] chars = "ab0123456789012345678cd".toCharArray();
+		assertTrue(CharacterUtil.allDigits(chars, 2, 19));
+		assertFalse(CharacterUtil.allDigits(chars, 1, 19));
+		assertFalse(CharacterUtil.allDigits(chars, 2, 20));
+		assertTrue(CharacterUtil.allDigits(chars, 5, 0));
+	}
+	
+	@Test
+	public void testAllDigitsBadRange(){
+		try{
+			CharacterUtil.allDigits(new char[4], 2, 3);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("Range [2, 2 + 3) out of bounds for length 4", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testCountUpperCase(){
+		assertEquals(3, CharacterUtil.countUpperCase("HelloBigWorld!"));
+		assertEquals(0, CharacterUtil.countUpperCase("@[\u00C9"));
+		assertEquals(2, CharacterUtil.countUpperCase("HelloBigWorld!".toCharArray(), 1, 8));
+	}
+	
+	@Test
+	public void testCountLowerCase(){
+		assertEquals(10, CharacterUtil.countLowerCase("HelloBigWorld!"));
+		assertEquals(0, CharacterUtil.countLowerCase("`{\u00E9"));
+		assertEquals(6, CharacterUtil.countLowerCase("HelloBigWorld!".toCharArray(), 1, 8));
+	}
 }
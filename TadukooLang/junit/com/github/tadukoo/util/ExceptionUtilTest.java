@@ -2,10 +2,14 @@ package com.github.tadukoo.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class ExceptionUtilTest{
 	
@@ -33,4 +37,39 @@ public class ExceptionUtilTest{
 			assertEquals(expectedString, asString);
 		}
 	}
+	
+	@Test
+	public void testUnwrapIOIOException(){
+		IOException cause = new IOException("Bad file");
+		assertSame(cause, ExceptionUtil.unwrapIO(new ExecutionException(cause)));
+	}
+	
+	@Test
+	public void testUnwrapIORuntimeException(){
+		IllegalStateException cause = new IllegalStateException("Bad state");
+		try{
+			ExceptionUtil.unwrapIO(new ExecutionException(cause));
+			fail();
+		}catch(IllegalStateException e){
+			assertSame(cause, e);
+		}
+	}
+	
+	@Test
+	public void testUnwrapIOError(){
+		AssertionError cause = new AssertionError("Bad assertion");
+		try{
+			ExceptionUtil.unwrapIO(new ExecutionException(cause));
+			fail();
+		}catch(AssertionError e){
+			assertSame(cause, e);
+		}
+	}
+	
+	@Test
+	public void testUnwrapIOCheckedException(){
+		Exception cause = new Exception("Checked");
+		IOException e = ExceptionUtil.unwrapIO(new ExecutionException(cause));
+		assertSame(cause, e.getCause());
+	}
 }
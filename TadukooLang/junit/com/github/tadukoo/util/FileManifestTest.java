@@ -0,0 +1,107 @@
+package com.github.tadukoo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class FileManifestTest{
+	private final FileManifest.Entry a = new FileManifest.Entry("a.txt", 1, 100, "AA");
+	private final FileManifest.Entry b = new FileManifest.Entry("sub/b.txt", 2, 200, "BB");
+	private final FileManifest.Entry c = new FileManifest.Entry("sub/c.txt", 3, 300, "CC");
+	private final FileManifest manifest = new FileManifest(Arrays.asList(c, a, b));
+	
+	@Test
+	public void testEntryGetters(){
+		assertEquals("a.txt", a.getPath());
+		assertEquals(1, a.getSize());
+		assertEquals(100, a.getLastModified());
+		assertEquals("AA", a.getHash());
+	}
+	
+	@Test
+	public void testEntrySameSizeAndTime(){
+		assertTrue(a.sameSizeAndTime(new FileManifest.Entry("a.txt", 1, 100, null)));
+		assertFalse(a.sameSizeAndTime(new FileManifest.Entry("a.txt", 2, 100, "AA")));
+		assertFalse(a.sameSizeAndTime(new FileManifest.Entry("a.txt", 1, 101, "AA")));
+		assertFalse(a.sameSizeAndTime(null));
+	}
+	
+	@Test
+	public void testEntryEquals(){
+		assertEquals(a, new FileManifest.Entry("a.txt", 1, 100, "AA"));
+		assertEquals(a.hashCode(), new FileManifest.Entry("a.txt", 1, 100, "AA").hashCode());
+		assertFalse(a.equals(new FileManifest.Entry("a.txt", 1, 100, "AB")));
+	}
+	
+	@Test
+	public void testGetEntries(){
+		assertEquals(3, manifest.size());
+		assertEquals(Arrays.asList("a.txt", "sub/b.txt", "sub/c.txt"), Arrays.asList(
+				manifest.getEntries().keySet().toArray(new String[0])));
+		assertEquals(b, manifest.getEntry("sub/b.txt"));
+		assertNull(manifest.getEntry("d.txt"));
+	}
+	
+	@Test
+	public void testDiffNoPrevious(){
+		FileManifest.Diff diff = manifest.diff(null);
+		assertEquals(Arrays.asList("a.txt", "sub/b.txt", "sub/c.txt"), diff.getAdded());
+		assertTrue(diff.getModified().isEmpty());
+		assertTrue(diff.getRemoved().isEmpty());
+		assertFalse(diff.isEmpty());
+	}
+	
+	@Test
+	public void testDiffSame(){
+		assertTrue(manifest.diff(new FileManifest(Arrays.asList(a, b, c))).isEmpty());
+	}
+	
+	@Test
+	public void testDiffTouchedOnly(){
+		FileManifest touched = new FileManifest(Arrays.asList(new FileManifest.Entry("a.txt", 1, 999, "AA"), b, c));
+		assertTrue(touched.diff(manifest).isEmpty());
+	}
+	
+	@Test
+	public void testDiff(){
+		FileManifest current = new FileManifest(Arrays.asList(new FileManifest.Entry("a.txt", 1, 100, "A2"), c,
+				new FileManifest.Entry("d.txt", 4, 400, "DD")));
+		FileManifest.Diff diff = current.diff(manifest);
+		assertEquals(Collections.singletonList("d.txt"), diff.getAdded());
+		assertEquals(Collections.singletonList("a.txt"), diff.getModified());
+		assertEquals(Collections.singletonList("sub/b.txt"), diff.getRemoved());
+		assertEquals(Arrays.asList("d.txt", "a.txt"), diff.getChanged());
+	}
+	
+	@Test
+	public void testSaveAndLoad() throws IOException{
+		String filepath = "target/test-files/fileManifestSaveAndLoad/manifest.txt";
+		FileManifest.Entry weird = new FileManifest.Entry("we\tird\\na\nme\r.txt", 5, 500, "EE");
+		FileManifest original = new FileManifest(Arrays.asList(a, b, c, weird));
+		original.save(filepath);
+		
+		FileManifest loaded = FileManifest.load(filepath);
+		assertEquals(original.getEntries(), loaded.getEntries());
+		assertEquals(weird, loaded.getEntry("we\tird\\na\nme\r.txt"));
+	}
+	
+	@Test
+	public void testLoadInvalid() throws IOException{
+		String filepath = "target/test-files/fileManifestLoadInvalid/manifest.txt";
+		FileUtil.writeFile(filepath, "AA\t1\tnot a number\ta.txt");
+		try{
+			FileManifest.load(filepath);
+			fail();
+		}catch(IOException e){
+			assertEquals("Invalid file manifest line in " + filepath + ": AA\t1\tnot a number\ta.txt", e.getMessage());
+		}
+	}
+}
@@ -2,17 +2,49 @@ package com.github.tadukoo.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileWriter;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class FileUtilTest{
 	
@@ -392,4 +424,893 @@ public class FileUtilTest{
 		assertEquals(1, lines2.size());
 		assertEquals("Some other content", lines2.get(0));
 	}
+	
+	@Test
+	public void testMapFilepath() throws IOException{
+		MappedByteBuffer buffer = FileUtil.map("junit-resource/test.txt");
+		assertTrue(buffer.isReadOnly());
+		assertEquals(11, buffer.remaining());
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		assertEquals("simple test", new String(bytes));
+	}
+	
+	@Test
+	public void testMapFile() throws IOException{
+		MappedByteBuffer buffer = FileUtil.map(new File("junit-resource/test.txt"));
+		assertEquals(11, buffer.remaining());
+		assertEquals((byte) 's', buffer.get(0));
+		assertEquals((byte) 't', buffer.get(10));
+	}
+	
+	@Test
+	public void testMapSegments() throws IOException{
+		List<MappedByteBuffer> segments = FileUtil.mapSegments("junit-resource/test.txt", 4);
+		assertEquals(3, segments.size());
+		assertEquals(4, segments.get(0).remaining());
+		assertEquals(4, segments.get(1).remaining());
+		assertEquals(3, segments.get(2).remaining());
+		StringBuilder content = new StringBuilder();
+		for(MappedByteBuffer segment: segments){
+			byte[] bytes = new byte[segment.remaining()];
+			segment.get(bytes);
+			content.append(new String(bytes));
+		}
+		assertEquals("simple test", content.toString());
+	}
+	
+	@Test
+	public void testMapSegmentsDefaultSize() throws IOException{
+		List<MappedByteBuffer> segments = FileUtil.mapSegments(new File("junit-resource/test.txt"));
+		assertEquals(1, segments.size());
+		assertEquals(11, segments.get(0).remaining());
+	}
+	
+	@Test
+	public void testMapSegmentsEmptyFile() throws IOException{
+		String filepath = "target/test-files/mapSegmentsEmptyFile/test.txt";
+		FileUtil.writeFile(filepath, "");
+		List<MappedByteBuffer> segments = FileUtil.mapSegments(filepath);
+		assertEquals(1, segments.size());
+		assertEquals(0, segments.get(0).remaining());
+	}
+	
+	@Test
+	public void testForEachChunk() throws IOException{
+		List<Integer> chunkSizes = new ArrayList<>();
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		FileUtil.forEachChunk("junit-resource/test.txt", 3, chunk -> {
+			chunkSizes.add(chunk.remaining());
+			while(chunk.hasRemaining()){
+				content.write(chunk.get());
+			}
+		});
+		assertEquals(Arrays.asList(3, 3, 3, 2), chunkSizes);
+		assertArrayEquals(FileUtil.readAsBytes("junit-resource/test.txt"), content.toByteArray());
+	}
+	
+	@Test
+	public void testForEachChunkDefaultSize() throws IOException{
+		List<Integer> chunkSizes = new ArrayList<>();
+		FileUtil.forEachChunk("junit-resource/test.txt", chunk -> chunkSizes.add(chunk.remaining()));
+		assertEquals(1, chunkSizes.size());
+		assertEquals(11, chunkSizes.get(0));
+	}
+	
+	@Test
+	public void testForEachChunkEmptyFile() throws IOException{
+		String filepath = "target/test-files/forEachChunkEmptyFile/test.txt";
+		FileUtil.writeFile(filepath, "");
+		List<Integer> chunkSizes = new ArrayList<>();
+		FileUtil.forEachChunk(new File(filepath), 3, chunk -> chunkSizes.add(chunk.remaining()));
+		assertTrue(chunkSizes.isEmpty());
+	}
+	
+	@Test
+	public void testForEachLine() throws IOException{
+		String filepath = "target/test-files/forEachLine/test.txt";
+		FileUtil.writeFile(filepath, "Test\nDerp\r\nYes\rNo\n\nEnd");
+		
+		List<String> lines = new ArrayList<>();
+		FileUtil.forEachLine(filepath, line -> lines.add(line.toString()));
+		assertEquals(Arrays.asList("Test", "Derp", "Yes", "No", "", "End"), lines);
+		assertEquals(FileUtil.readLinesAsList(filepath), lines);
+	}
+	
+	@Test
+	public void testForEachLineTrailingNewLine() throws IOException{
+		String filepath = "target/test-files/forEachLineTrailingNewLine/test.txt";
+		FileUtil.writeFile(filepath, "Test\r\nDerp\r\n");
+		
+		List<String> lines = new ArrayList<>();
+		FileUtil.forEachLine(new File(filepath), StandardCharsets.UTF_8, line -> lines.add(line.toString()));
+		assertEquals(Arrays.asList("Test", "Derp"), lines);
+	}
+	
+	@Test
+	public void testForEachLineLineView() throws IOException{
+		String filepath = "target/test-files/forEachLineLineView/test.txt";
+		FileUtil.writeFile(filepath, "Test\nDerp");
+		
+		List<Integer> lengths = new ArrayList<>();
+		List<String> firstChars = new ArrayList<>();
+		List<String> subSequences = new ArrayList<>();
+		FileUtil.forEachLine(filepath, StandardCharsets.UTF_8, line -> {
+			lengths.add(line.length());
+			firstChars.add(String.valueOf(line.charAt(0)));
+			subSequences.add(line.subSequence(1, 3).toString());
+		});
+		assertEquals(Arrays.asList(4, 4), lengths);
+		assertEquals(Arrays.asList("T", "D"), firstChars);
+		assertEquals(Arrays.asList("es", "er"), subSequences);
+	}
+	
+	@Test
+	public void testForEachLineLongLines() throws IOException{
+		String filepath = "target/test-files/forEachLineLongLines/test.txt";
+		StringBuilder longLine = new StringBuilder();
+		for(int i = 0; i < 100000; i++){
+			longLine.append((char) ('a' + i % 26));
+		}
+		List<String> expectedLines = Arrays.asList("Test", longLine.toString(), "\u00e9\u00e8\u20ac", longLine.toString());
+		Files.writeString(FileUtil.createFile(filepath).toPath(), StringUtil.buildStringWithNewLines(expectedLines),
+				StandardCharsets.UTF_8);
+		
+		List<String> lines = new ArrayList<>();
+		FileUtil.forEachLine(filepath, StandardCharsets.UTF_8, line -> lines.add(line.toString()));
+		assertEquals(expectedLines, lines);
+	}
+	
+	@Test
+	public void testForEachLineEmptyFile() throws IOException{
+		String filepath = "target/test-files/forEachLineEmptyFile/test.txt";
+		FileUtil.writeFile(filepath, "");
+		
+		List<String> lines = new ArrayList<>();
+		FileUtil.forEachLine(filepath, line -> lines.add(line.toString()));
+		assertTrue(lines.isEmpty());
+	}
+	
+	@Test
+	public void testForEachLineParallel() throws IOException{
+		String filepath = "target/test-files/forEachLineParallel/test.txt";
+		List<String> expectedLines = new ArrayList<>();
+		for(int i = 0; i < 50000; i++){
+			expectedLines.add("Line " + i);
+		}
+		FileUtil.writeFile(filepath, StringUtil.buildStringWithNewLines(expectedLines));
+		
+		List<String> lines = Collections.synchronizedList(new ArrayList<>());
+		FileUtil.forEachLineParallel(filepath, StandardCharsets.UTF_8, 4, line -> lines.add(line.toString()));
+		assertEquals(expectedLines.size(), lines.size());
+		Collections.sort(expectedLines);
+		Collections.sort(lines);
+		assertEquals(expectedLines, lines);
+	}
+	
+	@Test
+	public void testForEachLineParallelMoreThreadsThanLines() throws IOException{
+		String filepath = "target/test-files/forEachLineParallelMoreThreadsThanLines/test.txt";
+		FileUtil.writeFile(filepath, "Test\nDerp");
+		
+		List<String> lines = Collections.synchronizedList(new ArrayList<>());
+		FileUtil.forEachLineParallel(filepath, StandardCharsets.UTF_8, 16, line -> lines.add(line.toString()));
+		Collections.sort(lines);
+		assertEquals(Arrays.asList("Derp", "Test"), lines);
+	}
+	
+	@Test
+	public void testZipFileParallelAndUnzip() throws IOException{
+		String folder = "target/test-files/zipFileParallelAndUnzip/";
+		String dataFolder = folder + "data/";
+		String zipPath = folder + "test.zip";
+		String resultPath = folder + "result/";
+		FileUtil.writeFile(dataFolder + "test.txt", "Some content");
+		FileUtil.writeFile(dataFolder + "sub/test2.txt", "Some other content");
+		FileUtil.zipFileParallel(dataFolder, zipPath);
+		FileUtil.unzipFile(zipPath, FileUtil.createDirectory(resultPath));
+		
+		assertEquals("Some content", FileUtil.readAsString(resultPath + "data/test.txt"));
+		assertEquals("Some other content", FileUtil.readAsString(resultPath + "data/sub/test2.txt"));
+	}
+	
+	@Test
+	public void testZipFileParallelEntries() throws IOException{
+		String folder = "target/test-files/zipFileParallelEntries/";
+		String dataFolder = folder + "data/";
+		String zipPath = folder + "test.zip";
+		StringBuilder bigContent = new StringBuilder();
+		for(int i = 0; i < 500000; i++){
+			bigContent.append("Line ").append(i).append('\n');
+		}
+		FileUtil.writeFile(dataFolder + "big.txt", bigContent.toString());
+		FileUtil.writeFile(dataFolder + "image.PNG", "Pretend this is an image");
+		FileUtil.zipFileParallel(new File(dataFolder), zipPath, 3, Deflater.BEST_SPEED,
+				FileUtil.COMPRESSED_FILE_EXTENSIONS);
+		
+		try(ZipFile zip = new ZipFile(zipPath)){
+			assertEquals(3, zip.size());
+			assertTrue(zip.getEntry("data/").isDirectory());
+			
+			ZipEntry bigEntry = zip.getEntry("data/big.txt");
+			assertEquals(ZipEntry.DEFLATED, bigEntry.getMethod());
+			assertEquals(bigContent.length(), bigEntry.getSize());
+			assertTrue(bigEntry.getCompressedSize() < bigEntry.getSize());
+			assertEquals(bigContent.toString(), new String(zip.getInputStream(bigEntry).readAllBytes()));
+			
+			ZipEntry imageEntry = zip.getEntry("data/image.PNG");
+			assertEquals(ZipEntry.STORED, imageEntry.getMethod());
+			assertEquals("Pretend this is an image", new String(zip.getInputStream(imageEntry).readAllBytes()));
+		}
+	}
+	
+	@Test
+	public void testZipFileParallelBadCompressionLevel() throws IOException{
+		try{
+			FileUtil.zipFileParallel(new File("junit-resource/test.txt"), "target/test-files/zipFileParallelBadLevel.zip",
+					2, 10, FileUtil.COMPRESSED_FILE_EXTENSIONS);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Compression level must be between 0 and 9, but was 10!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testUnzipFileParallel() throws IOException{
+		String folder = "target/test-files/unzipFileParallel/";
+		String dataFolder = folder + "data/";
+		String zipPath = folder + "test.zip";
+		String resultPath = folder + "result/";
+		for(int i = 0; i < 50; i++){
+			FileUtil.writeFile(dataFolder + "sub" + (i % 5) + "/test" + i + ".txt", "Content " + i);
+		}
+		FileUtil.writeFile(dataFolder + "test.txt", "Some content");
+		FileUtil.zipFile(dataFolder, zipPath);
+		FileUtil.unzipFileParallel(zipPath, resultPath);
+		
+		List<File> contents = FileUtil.listAllFiles(resultPath);
+		assertEquals(51, contents.size());
+		assertEquals("Some content", FileUtil.readAsString(resultPath + "data/test.txt"));
+		for(int i = 0; i < 50; i++){
+			assertEquals("Content " + i, FileUtil.readAsString(resultPath + "data/sub" + (i % 5) + "/test" + i + ".txt"));
+		}
+	}
+	
+	@Test
+	public void testUnzipFileParallelWithThreads() throws IOException{
+		String folder = "target/test-files/unzipFileParallelWithThreads/";
+		String filepath = folder + "test.txt";
+		String zipPath = folder + "test.zip";
+		String resultPath = folder + "result/";
+		FileUtil.writeFile(filepath, "Some content");
+		FileUtil.zipFile(filepath, zipPath);
+		FileUtil.unzipFileParallel(zipPath, new File(resultPath), 2);
+		
+		assertEquals("Some content", FileUtil.readAsString(resultPath + "test.txt"));
+	}
+	
+	@Test
+	public void testUnzipFileParallelZipSlip() throws IOException{
+		String folder = "target/test-files/unzipFileParallelZipSlip/";
+		String zipPath = folder + "test.zip";
+		FileUtil.createDirectory(folder);
+		try(ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zipPath))){
+			zos.putNextEntry(new ZipEntry("../evil.txt"));
+			zos.write("Evil content".getBytes());
+			zos.closeEntry();
+		}
+		
+		try{
+			FileUtil.unzipFileParallel(zipPath, folder + "result/");
+			fail();
+		}catch(IOException e){
+			assertEquals("Entry is outside of the target dir: ../evil.txt", e.getMessage());
+		}
+		assertFalse(FileUtil.exists(folder + "evil.txt"));
+	}
+	
+	@Test
+	public void testUnzipFileParallelZipSlipSymlink() throws IOException{
+		String folder = "target/test-files/unzipFileParallelZipSlipSymlink/";
+		String zipPath = folder + "test.zip";
+		FileUtil.createDirectory(folder + "outside/");
+		FileUtil.createDirectory(folder + "result/");
+		Path link = Paths.get(folder + "result/link");
+		Files.deleteIfExists(link);
+		Files.createSymbolicLink(link, Paths.get(folder + "outside/").toAbsolutePath());
+		try(ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zipPath))){
+			zos.putNextEntry(new ZipEntry("link/evil.txt"));
+			zos.write("Evil content".getBytes());
+			zos.closeEntry();
+		}
+		
+		// The entry's path is inside the directory, but the link it goes through isn't
+		try{
+			FileUtil.unzipFileParallel(zipPath, folder + "result/");
+			fail();
+		}catch(IOException e){
+			assertEquals("Entry is outside of the target dir: link/evil.txt", e.getMessage());
+		}
+		try{
+			FileUtil.unzipEntries(zipPath, new File(folder + "result/"), "**");
+			fail();
+		}catch(IOException e){
+			assertEquals("Entry is outside of the target dir: link/evil.txt", e.getMessage());
+		}
+		assertFalse(FileUtil.exists(folder + "outside/evil.txt"));
+	}
+	
+	// Creates a zip file with a few entries in the given folder for the zip entry tests
+	private String createEntriesZip(String folder) throws IOException{
+		String dataFolder = folder + "data/";
+		String zipPath = folder + "test.zip";
+		FileUtil.writeFile(dataFolder + "test.txt", "Some content");
+		FileUtil.writeFile(dataFolder + "test.csv", "Some,csv,content");
+		FileUtil.writeFile(dataFolder + "sub/test2.txt", "Some other content");
+		FileUtil.zipFileParallel(new File(dataFolder), zipPath, 2, Deflater.DEFAULT_COMPRESSION,
+				FileUtil.COMPRESSED_FILE_EXTENSIONS);
+		return zipPath;
+	}
+	
+	@Test
+	public void testListZipEntries() throws IOException{
+		String zipPath = createEntriesZip("target/test-files/listZipEntries/");
+		List<String> names = new ArrayList<>();
+		for(ZipEntry entry: FileUtil.listZipEntries(zipPath)){
+			names.add(entry.getName());
+		}
+		Collections.sort(names);
+		assertEquals(Arrays.asList("data/", "data/sub/", "data/sub/test2.txt", "data/test.csv", "data/test.txt"),
+				names);
+	}
+	
+	@Test
+	public void testOpenZipEntry() throws IOException{
+		String zipPath = createEntriesZip("target/test-files/openZipEntry/");
+		try(InputStream in = FileUtil.openZipEntry(zipPath, "data/sub/test2.txt")){
+			assertEquals("Some other content", new String(in.readAllBytes()));
+		}
+	}
+	
+	@Test
+	public void testOpenZipEntryNotFound() throws IOException{
+		String zipPath = createEntriesZip("target/test-files/openZipEntryNotFound/");
+		try{
+			FileUtil.openZipEntry(zipPath, "data/missing.txt");
+			fail();
+		}catch(FileNotFoundException e){
+			assertEquals("Entry data/missing.txt not found in zip file: " + zipPath, e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testOpenZipEntryChannel() throws IOException{
+		String zipPath = createEntriesZip("target/test-files/openZipEntryChannel/");
+		try(ReadableByteChannel channel = FileUtil.openZipEntryChannel(zipPath, "data/test.txt")){
+			ByteBuffer buffer = ByteBuffer.allocate(100);
+			while(channel.read(buffer) >= 0){
+				assertTrue(buffer.hasRemaining());
+			}
+			buffer.flip();
+			assertEquals("Some content", new String(buffer.array(), 0, buffer.limit()));
+		}
+	}
+	
+	@Test
+	public void testUnzipEntriesGlob() throws IOException{
+		String folder = "target/test-files/unzipEntriesGlob/";
+		String zipPath = createEntriesZip(folder);
+		List<File> files = FileUtil.unzipEntries(zipPath, new File(folder + "result/"), "data/**.txt");
+		assertEquals(2, files.size());
+		assertEquals("Some content", FileUtil.readAsString(folder + "result/data/test.txt"));
+		assertEquals("Some other content", FileUtil.readAsString(folder + "result/data/sub/test2.txt"));
+		assertFalse(FileUtil.exists(folder + "result/data/test.csv"));
+	}
+	
+	@Test
+	public void testUnzipEntriesPredicate() throws IOException{
+		String folder = "target/test-files/unzipEntriesPredicate/";
+		String zipPath = createEntriesZip(folder);
+		List<File> files = FileUtil.unzipEntries(zipPath, new File(folder + "result/"),
+				entry -> entry.getName().endsWith(".csv"));
+		assertEquals(1, files.size());
+		assertEquals("test.csv", files.get(0).getName());
+		assertEquals("Some,csv,content", FileUtil.readAsString(files.get(0)));
+		assertFalse(FileUtil.exists(folder + "result/data/test.txt"));
+	}
+	
+	@Test
+	public void testWriteFileWithCharset() throws IOException{
+		String filepath = "target/test-files/writeFileWithCharset/sub/test.txt";
+		FileUtil.writeFile(filepath, "Test\n\u00e9\u20ac", StandardCharsets.UTF_8, false);
+		
+		assertEquals("Test\n\u00e9\u20ac", Files.readString(Paths.get(filepath), StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	public void testWriteFileWithCharsetForceReplacesContent() throws IOException{
+		String filepath = "target/test-files/writeFileWithCharsetForceReplacesContent/test.txt";
+		FileUtil.writeFile(filepath, "Some longer content", StandardCharsets.UTF_16, true);
+		FileUtil.writeFile(filepath, "Short", StandardCharsets.UTF_16, true);
+		
+		assertEquals("Short", Files.readString(Paths.get(filepath), StandardCharsets.UTF_16));
+	}
+	
+	@Test
+	public void testWriteFileLargeContent() throws IOException{
+		String filepath = "target/test-files/writeFileLargeContent/test.txt";
+		StringBuilder content = new StringBuilder();
+		for(int i = 0; i < 100000; i++){
+			content.append("Line ").append(i).append('\n');
+		}
+		FileUtil.writeFile(filepath, content, StandardCharsets.UTF_8, false);
+		
+		assertEquals(content.toString(), FileUtil.readAsString(filepath));
+	}
+	
+	@Test
+	public void testWriteFileAtomically() throws IOException{
+		String folder = "target/test-files/writeFileAtomically/";
+		String filepath = folder + "test.txt";
+		FileUtil.writeFileAtomically(filepath, "Test\nDerp\nYes");
+		assertEquals("Test\nDerp\nYes", FileUtil.readAsString(filepath));
+		
+		FileUtil.writeFileAtomically(filepath, "New content");
+		assertEquals("New content", FileUtil.readAsString(filepath));
+		
+		// Make sure no temporary files were left behind
+		List<File> files = FileUtil.listAllFiles(folder);
+		assertEquals(1, files.size());
+		assertEquals("test.txt", files.get(0).getName());
+	}
+	
+	@Test
+	public void testWriteFileAtomicallyWithCharset() throws IOException{
+		String filepath = "target/test-files/writeFileAtomicallyWithCharset/sub/test.txt";
+		FileUtil.writeFileAtomically(filepath, "\u00e9\u20ac", StandardCharsets.UTF_16LE, false);
+		
+		assertEquals("\u00e9\u20ac", Files.readString(Paths.get(filepath), StandardCharsets.UTF_16LE));
+	}
+	
+	@Test
+	public void testWriteFileAtomicallyKeepsPermissions() throws IOException{
+		String filepath = "target/test-files/writeFileAtomicallyKeepsPermissions/test.sh";
+		FileUtil.writeFile(filepath, "Old content");
+		Path path = Paths.get(filepath);
+		if(Files.getFileAttributeView(path, PosixFileAttributeView.class) == null){
+			// Permissions can only be checked on file systems that support POSIX permissions
+			return;
+		}
+		Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rwxr-x---");
+		Files.setPosixFilePermissions(path, permissions);
+		
+		FileUtil.writeFileAtomically(filepath, "New content");
+		assertEquals("New content", FileUtil.readAsString(filepath));
+		assertEquals(permissions, Files.getPosixFilePermissions(path));
+	}
+	
+	@Test
+	public void testWriteLinesWithWriterIterable() throws IOException{
+		String filepath = "target/test-files/writeLinesWithWriterIterable/test.txt";
+		FileUtil.createFile(filepath);
+		FileUtil.writeLines(new FileWriter(filepath), (Iterable<String>) Arrays.asList("Test", "Derp", "Yes"));
+		
+		assertEquals("Test\nDerp\nYes", FileUtil.readAsString(filepath));
+	}
+	
+	@Test
+	public void testWriteLinesWithWriterStream() throws IOException{
+		String filepath = "target/test-files/writeLinesWithWriterStream/test.txt";
+		FileUtil.createFile(filepath);
+		FileUtil.writeLines(new FileWriter(filepath), Stream.of("Test", "Derp", "Yes"));
+		
+		assertEquals("Test\nDerp\nYes", FileUtil.readAsString(filepath));
+	}
+	
+	@Test
+	public void testWriteLinesWithWriterIterator() throws IOException{
+		String filepath = "target/test-files/writeLinesWithWriterIterator/test.txt";
+		FileUtil.createFile(filepath);
+		FileUtil.writeLines(new FileWriter(filepath), Arrays.asList("Test", "Derp", "Yes").iterator());
+		
+		assertEquals("Test\nDerp\nYes", FileUtil.readAsString(filepath));
+	}
+	
+	@Test
+	public void testWriteFileWithNoLines() throws IOException{
+		String filepath = "target/test-files/writeFileWithNoLines/test.txt";
+		FileUtil.writeFile(filepath, "Old content");
+		FileUtil.writeFile(new FileWriter(filepath), new ArrayList<>());
+		
+		assertEquals("", FileUtil.readAsString(filepath));
+	}
+	
+	@Test
+	public void testWriteLinesWithPathIterable() throws IOException{
+		String filepath = "target/test-files/writeLinesWithPathIterable/sub/test.txt";
+		FileUtil.writeLines(filepath, Arrays.asList("Test", "\u00e9\u20ac", "Yes"), StandardCharsets.UTF_8);
+		
+		assertEquals("Test\n\u00e9\u20ac\nYes", Files.readString(Paths.get(filepath), StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	public void testWriteLinesWithPathStream() throws IOException{
+		String filepath = "target/test-files/writeLinesWithPathStream/test.txt";
+		FileUtil.writeLines(filepath, IntStream.range(0, 100000).mapToObj(i -> "Line " + i), StandardCharsets.UTF_8);
+		
+		List<String> lines = FileUtil.readLinesAsList(filepath);
+		assertEquals(100000, lines.size());
+		assertEquals("Line 0", lines.get(0));
+		assertEquals("Line 99999", lines.get(99999));
+	}
+	
+	@Test
+	public void testWriteLinesWithPathIterator() throws IOException{
+		String filepath = "target/test-files/writeLinesWithPathIterator/test.txt";
+		FileUtil.writeLines(filepath, Arrays.asList("Test", "Derp").iterator(), StandardCharsets.UTF_16);
+		
+		assertEquals("Test\nDerp", Files.readString(Paths.get(filepath), StandardCharsets.UTF_16));
+	}
+	
+	@Test
+	public void testWriteLinesWritingInsideIterator() throws IOException{
+		String folder = "target/test-files/writeLinesWritingInsideIterator/";
+		// Each line writes another file while the lines are being encoded
+		FileUtil.writeLines(folder + "test.txt", IntStream.range(0, 3).mapToObj(i -> {
+			try{
+				FileUtil.writeFile(folder + "other" + i + ".txt", "Other " + i, StandardCharsets.UTF_8, false);
+			}catch(IOException e){
+				throw new IllegalStateException(e);
+			}
+			return "Line " + i;
+		}), StandardCharsets.UTF_8);
+		
+		assertEquals("Line 0\nLine 1\nLine 2", Files.readString(Paths.get(folder + "test.txt")));
+		assertEquals("Other 2", Files.readString(Paths.get(folder + "other2.txt")));
+	}
+	
+	@Test
+	public void testWriteFileWritingInsideContent() throws IOException{
+		String folder = "target/test-files/writeFileWritingInsideContent/";
+		// The content writes another file part way through being read
+		CharSequence content = new CharSequence(){
+			private boolean written = false;
+			
+			@Override
+			public int length(){
+				return 4;
+			}
+			
+			@Override
+			public char charAt(int index){
+				if(index == 2 && !written){
+					written = true;
+					try{
+						FileUtil.writeFile(folder + "other.txt", "Other", StandardCharsets.UTF_8, false);
+					}catch(IOException e){
+						throw new IllegalStateException(e);
+					}
+				}
+				return "Test".charAt(index);
+			}
+			
+			@Override
+			public CharSequence subSequence(int start, int end){
+				return "Test".subSequence(start, end);
+			}
+			
+			@Override
+			public String toString(){
+				return "Test";
+			}
+		};
+		FileUtil.writeFile(folder + "test.txt", content, StandardCharsets.UTF_8, false);
+		
+		assertEquals("Test", Files.readString(Paths.get(folder + "test.txt")));
+		assertEquals("Other", Files.readString(Paths.get(folder + "other.txt")));
+	}
+	
+	@Test
+	public void testBuildManifest() throws IOException{
+		String folder = "target/test-files/buildManifest/";
+		deleteDirectory(folder);
+		FileUtil.writeFile(folder + "abc.txt", "abc");
+		FileUtil.writeFile(folder + "sub/empty.txt", "");
+		
+		FileManifest manifest = FileUtil.buildManifest(folder);
+		assertEquals(2, manifest.size());
+		FileManifest.Entry abc = manifest.getEntry("abc.txt");
+		assertEquals(3, abc.getSize());
+		assertEquals(new File(folder + "abc.txt").lastModified(), abc.getLastModified());
+		assertEquals("BA7816BF8F01CFEA414140DE5DAE2223B00361A396177A9CB410FF61F20015AD", abc.getHash());
+		assertEquals("E3B0C44298FC1C149AFBF4C8996FB92427AE41E4649B934CA495991B7852B855",
+				manifest.getEntry("sub/empty.txt").getHash());
+	}
+	
+	@Test
+	public void testBuildManifestChanges() throws IOException{
+		String folder = "target/test-files/buildManifestChanges/";
+		deleteDirectory(folder);
+		for(int i = 0; i < 20; i++){
+			FileUtil.writeFile(folder + "dir" + (i % 3) + "/file" + i + ".txt", "Content " + i);
+		}
+		FileManifest previous = FileUtil.buildManifest(folder, null, 4);
+		assertEquals(20, previous.size());
+		assertTrue(FileUtil.buildManifest(folder, previous, 4).diff(previous).isEmpty());
+		
+		// Touch one file, modify one, delete one, and add one
+		File touched = new File(folder + "dir0/file0.txt");
+		assertTrue(touched.setLastModified(touched.lastModified() - 10000));
+		File modified = new File(folder + "dir1/file1.txt");
+		FileUtil.writeFile(modified.getPath(), "Different content");
+		assertTrue(modified.setLastModified(modified.lastModified() - 10000));
+		Files.delete(Paths.get(folder + "dir2/file2.txt"));
+		FileUtil.writeFile(folder + "dir3/new.txt", "New");
+		
+		FileManifest.Diff diff = FileUtil.buildManifest(folder, previous, 4).diff(previous);
+		assertEquals(Collections.singletonList("dir3/new.txt"), diff.getAdded());
+		assertEquals(Collections.singletonList("dir1/file1.txt"), diff.getModified());
+		assertEquals(Collections.singletonList("dir2/file2.txt"), diff.getRemoved());
+		assertEquals(Arrays.asList("dir3/new.txt", "dir1/file1.txt"), diff.getChanged());
+	}
+	
+	@Test
+	public void testBuildManifestReusesHashes() throws IOException{
+		String folder = "target/test-files/buildManifestReusesHashes/";
+		deleteDirectory(folder);
+		FileUtil.writeFile(folder + "test.txt", "Test");
+		File file = new File(folder + "test.txt");
+		
+		// A file with the same size and time isn't hashed again, so a previous hash gets reused
+		FileManifest previous = new FileManifest(Collections.singletonList(
+				new FileManifest.Entry("test.txt", file.length(), file.lastModified(), "Fake Hash")));
+		assertEquals("Fake Hash", FileUtil.buildManifest(folder, previous, 1).getEntry("test.txt").getHash());
+	}
+	
+	@Test
+	public void testBuildManifestBadThreads() throws IOException{
+		try{
+			FileUtil.buildManifest("target/test-files/buildManifestBadThreads/", null, 0);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Number of threads must be positive, but was 0!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testCopyFile() throws IOException{
+		String folder = "target/test-files/copyFile/";
+		FileUtil.writeFile(folder + "source.txt", "Test content");
+		FileUtil.writeFile(folder + "dest/existing.txt", "Some longer old content");
+		
+		FileUtil.copyFile(folder + "source.txt", folder + "dest/sub/copy.txt");
+		assertEquals("Test content", FileUtil.readAsString(folder + "dest/sub/copy.txt"));
+		FileUtil.copyFile(folder + "source.txt", folder + "dest/existing.txt");
+		assertEquals("Test content", FileUtil.readAsString(folder + "dest/existing.txt"));
+	}
+	
+	@Test
+	public void testCopyFileLarge() throws IOException{
+		String folder = "target/test-files/copyFileLarge/";
+		byte[] content = new byte[5 * 1024 * 1024 + 17];
+		new Random(5).nextBytes(content);
+		Files.createDirectories(Paths.get(folder));
+		Files.write(Paths.get(folder + "source.bin"), content);
+		
+		FileUtil.copyFile(folder + "source.bin", folder + "copy.bin");
+		assertArrayEquals(content, FileUtil.readAsBytes(folder + "copy.bin"));
+	}
+	
+	@Test
+	public void testCopyFilePreserveAttributes() throws IOException{
+		String folder = "target/test-files/copyFilePreserveAttributes/";
+		File source = new File(folder + "source.txt");
+		FileUtil.writeFile(source.getPath(), "Test");
+		assertTrue(source.setLastModified(1000000000000L));
+		
+		File copy = new File(folder + "copy.txt");
+		FileUtil.copyFile(source, copy, true);
+		assertEquals(1000000000000L, copy.lastModified());
+		FileUtil.copyFile(source, copy, false);
+		assertTrue(copy.lastModified() > 1000000000000L);
+	}
+	
+	@Test
+	public void testCopyFileOntoItself() throws IOException{
+		String filepath = "target/test-files/copyFileOntoItself/test.txt";
+		FileUtil.writeFile(filepath, "Test");
+		try{
+			FileUtil.copyFile(filepath, filepath);
+			fail();
+		}catch(IOException e){
+			assertEquals("Can't copy a file onto itself: " + new File(filepath), e.getMessage());
+		}
+		assertEquals("Test", FileUtil.readAsString(filepath));
+	}
+	
+	@Test
+	public void testCopyDirectory() throws IOException{
+		String folder = "target/test-files/copyDirectory/";
+		deleteDirectory(folder);
+		for(int i = 0; i < 30; i++){
+			FileUtil.writeFile(folder + "source/dir" + (i % 4) + "/sub" + (i % 2) + "/file" + i + ".txt",
+					"Content " + i);
+		}
+		FileUtil.createDirectory(folder + "source/empty");
+		
+		FileUtil.copyDirectory(folder + "source", folder + "dest");
+		assertTrue(FileUtil.buildManifest(folder + "dest").diff(FileUtil.buildManifest(folder + "source")).isEmpty());
+		assertTrue(new File(folder + "dest/empty").isDirectory());
+	}
+	
+	@Test
+	public void testCopyDirectoryPreserveAttributes() throws IOException{
+		String folder = "target/test-files/copyDirectoryPreserveAttributes/";
+		deleteDirectory(folder);
+		FileUtil.writeFile(folder + "source/sub/test.txt", "Test");
+		assertTrue(new File(folder + "source/sub/test.txt").setLastModified(1000000000000L));
+		assertTrue(new File(folder + "source/sub").setLastModified(1100000000000L));
+		
+		FileUtil.copyDirectory(new File(folder + "source"), new File(folder + "dest"), 2, true);
+		assertEquals("Test", FileUtil.readAsString(folder + "dest/sub/test.txt"));
+		assertEquals(1000000000000L, new File(folder + "dest/sub/test.txt").lastModified());
+		assertEquals(1100000000000L, new File(folder + "dest/sub").lastModified());
+	}
+	
+	@Test
+	public void testCopyDirectoryIntoItself() throws IOException{
+		String folder = "target/test-files/copyDirectoryIntoItself/";
+		FileUtil.writeFile(folder + "test.txt", "Test");
+		try{
+			FileUtil.copyDirectory(folder, folder + "sub");
+			fail();
+		}catch(IOException e){
+			assertEquals("Can't copy a directory into itself: " + new File(folder) + " to " + new File(folder + "sub"),
+					e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testCopyDirectoryBadThreads() throws IOException{
+		try{
+			FileUtil.copyDirectory(new File("target/test-files/copyDirectoryBadThreads/source"),
+					new File("target/test-files/copyDirectoryBadThreads/dest"), 0, false);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Number of threads must be positive, but was 0!", e.getMessage());
+		}
+	}
+	
+	private static byte[] createGzipTestContent(){
+		// Half random and half repetitive, so compression actually does something
+		byte[] content = new byte[3 * 1024 * 1024 + 123];
+		new Random(36).nextBytes(content);
+		for(int i = 0; i < content.length / 2; i++){
+			content[i] = (byte) ('a' + i % 7);
+		}
+		return content;
+	}
+	
+	private static byte[] readGzipWithJDK(String gzipPath) throws IOException{
+		try(InputStream in = new GZIPInputStream(new FileInputStream(gzipPath))){
+			return in.readAllBytes();
+		}
+	}
+	
+	@Test
+	public void testGzip() throws IOException{
+		String folder = "target/test-files/gzip/";
+		byte[] content = createGzipTestContent();
+		Files.createDirectories(Paths.get(folder));
+		Files.write(Paths.get(folder + "test.bin"), content);
+		
+		FileUtil.gzip(folder + "test.bin", folder + "test.bin.gz");
+		assertArrayEquals(content, readGzipWithJDK(folder + "test.bin.gz"));
+		assertTrue(new File(folder + "test.bin.gz").length() < content.length);
+	}
+	
+	@Test
+	public void testGzipLevels() throws IOException{
+		String folder = "target/test-files/gzipLevels/";
+		byte[] content = createGzipTestContent();
+		Files.createDirectories(Paths.get(folder));
+		Files.write(Paths.get(folder + "test.bin"), content);
+		
+		FileUtil.gzip(new File(folder + "test.bin"), folder + "stored.gz", Deflater.NO_COMPRESSION);
+		FileUtil.gzip(new File(folder + "test.bin"), folder + "best.gz", Deflater.BEST_COMPRESSION);
+		assertArrayEquals(content, readGzipWithJDK(folder + "stored.gz"));
+		assertArrayEquals(content, readGzipWithJDK(folder + "best.gz"));
+		assertTrue(new File(folder + "stored.gz").length() > content.length);
+		assertTrue(new File(folder + "best.gz").length() < content.length);
+	}
+	
+	@Test
+	public void testGzipBadLevel() throws IOException{
+		try{
+			FileUtil.gzip(new File("junit-resource/test.txt"), "target/test-files/gzipBadLevel.gz", 10);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Compression level must be between 0 and 9, but was 10!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGzipParallel() throws IOException{
+		String folder = "target/test-files/gzipParallel/";
+		byte[] content = createGzipTestContent();
+		Files.createDirectories(Paths.get(folder));
+		Files.write(Paths.get(folder + "test.bin"), content);
+		
+		FileUtil.gzipParallel(folder + "test.bin", folder + "test.bin.gz");
+		assertArrayEquals(content, readGzipWithJDK(folder + "test.bin.gz"));
+	}
+	
+	@Test
+	public void testGzipParallelSmallBlocks() throws IOException{
+		String folder = "target/test-files/gzipParallelSmallBlocks/";
+		byte[] content = createGzipTestContent();
+		Files.createDirectories(Paths.get(folder));
+		Files.write(Paths.get(folder + "test.bin"), content);
+		
+		// Lots more blocks than the writer lets the threads get ahead
+		FileUtil.gzipParallel(new File(folder + "test.bin"), folder + "test.bin.gz", 3, Deflater.BEST_SPEED, 10000);
+		assertArrayEquals(content, readGzipWithJDK(folder + "test.bin.gz"));
+	}
+	
+	@Test
+	public void testGzipParallelEmptyFile() throws IOException{
+		String folder = "target/test-files/gzipParallelEmptyFile/";
+		Files.createDirectories(Paths.get(folder));
+		Files.write(Paths.get(folder + "empty.txt"), new byte[0]);
+		
+		FileUtil.gzipParallel(folder + "empty.txt", folder + "empty.txt.gz");
+		assertArrayEquals(new byte[0], readGzipWithJDK(folder + "empty.txt.gz"));
+	}
+	
+	@Test
+	public void testGzipParallelBadBlockSize() throws IOException{
+		try{
+			FileUtil.gzipParallel(new File("junit-resource/test.txt"), "target/test-files/gzipParallelBadBlockSize.gz",
+					2, Deflater.DEFAULT_COMPRESSION, 0);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Block size must be positive, but was 0!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGunzip() throws IOException{
+		String folder = "target/test-files/gunzip/";
+		byte[] content = createGzipTestContent();
+		Files.createDirectories(Paths.get(folder));
+		try(OutputStream out = new GZIPOutputStream(new FileOutputStream(folder + "test.bin.gz"))){
+			out.write(content);
+		}
+		
+		FileUtil.gunzip(folder + "test.bin.gz", folder + "out/test.bin");
+		assertArrayEquals(content, FileUtil.readAsBytes(folder + "out/test.bin"));
+	}
+	
+	@Test
+	public void testGunzipParallelMembers() throws IOException{
+		String folder = "target/test-files/gunzipParallelMembers/";
+		byte[] content = createGzipTestContent();
+		Files.createDirectories(Paths.get(folder));
+		Files.write(Paths.get(folder + "test.bin"), content);
+		
+		FileUtil.gzipParallel(new File(folder + "test.bin"), folder + "test.bin.gz", 4, Deflater.DEFAULT_COMPRESSION,
+				100000);
+		FileUtil.gunzip(folder + "test.bin.gz", folder + "result.bin");
+		assertArrayEquals(content, FileUtil.readAsBytes(folder + "result.bin"));
+	}
+	
+	private static void deleteDirectory(String directoryPath) throws IOException{
+		if(new File(directoryPath).exists()){
+			try(Stream<Path> paths = Files.walk(Paths.get(directoryPath))){
+				for(Path path: paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())){
+					Files.delete(path);
+				}
+			}
+		}
+	}
 }
@@ -3,9 +3,14 @@ package com.github.tadukoo.util;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class FloatUtilTest{
 	
@@ -37,4 +42,151 @@ public class FloatUtilTest{
 		float[] theArray = FloatUtil.convertListToArray(theList);
 		assertEquals(0, theArray.length);
 	}
+	
+	@Test
+	public void testConvertLinkedListToArray(){
+		List<Float> theList = new LinkedList<>(List.of(1.5f, 2.5f, 3.5f));
+		
+		// Convert to array and verify
+		float[] theArray = FloatUtil.convertListToArray(theList);
+		assertEquals(3, theArray.length);
+		assertEquals(1.5f, theArray[0]);
+		assertEquals(2.5f, theArray[1]);
+		assertEquals(3.5f, theArray[2]);
+	}
+	
+	@Test
+	public void testSum(){
+		assertEquals(6.5f, FloatUtil.sum(new float[]{1.5f, 2f, 3f}));
+		assertEquals(0f, FloatUtil.sum(new float[0]));
+	}
+	
+	@Test
+	public void testSumRange(){
+		assertEquals(5f, FloatUtil.sum(new float[]{1.5f, 2f, 3f, 4f}, 1, 2));
+	}
+	
+	@Test
+	public void testSumIsCompensated(){
+		// Adding 0.1 a million times directly drifts far from 100000
+		float[] values = new float[1000000];
+		Arrays.fill(values, 0.1f);
+		float direct = 0;
+		for(float value: values){
+			direct += value;
+		}
+		float sum = FloatUtil.sum(values);
+		assertTrue(Math.abs(sum - 100000f) < 0.01f);
+		assertTrue(Math.abs(direct - 100000f) > 100f);
+	}
+	
+	@Test
+	public void testSumSmallValuesAfterLargeValue(){
+		// Each 1 is lost when added directly to 1e8 in float, but the compensation keeps them
+		float[] values = new float[101];
+		Arrays.fill(values, 1f);
+		values[0] = 1e8f;
+		assertEquals(1e8f + 100f, FloatUtil.sum(values));
+	}
+	
+	@Test
+	public void testSumInfinite(){
+		assertEquals(Float.POSITIVE_INFINITY, FloatUtil.sum(new float[]{Float.POSITIVE_INFINITY, 1f}));
+		assertEquals(Float.NEGATIVE_INFINITY, FloatUtil.sum(new float[]{1f, Float.NEGATIVE_INFINITY, 2f}));
+		assertTrue(Float.isNaN(FloatUtil.sum(new float[]{Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY})));
+		assertTrue(Float.isNaN(FloatUtil.sum(new float[]{Float.NaN, 1f})));
+	}
+	
+	@Test
+	public void testSumOverflow(){
+		assertEquals(Float.POSITIVE_INFINITY, FloatUtil.sum(new float[]{Float.MAX_VALUE, Float.MAX_VALUE, 1f}));
+		assertEquals(Float.NEGATIVE_INFINITY, FloatUtil.sum(new float[]{-Float.MAX_VALUE, -Float.MAX_VALUE}));
+	}
+	
+	@Test
+	public void testDot(){
+		assertEquals(32f, FloatUtil.dot(new float[]{1, 2, 3}, new float[]{4, 5, 6}));
+		assertEquals(0f, FloatUtil.dot(new float[0], new float[0]));
+		
+		float[] a = new float[11];
+		float[] b = new float[11];
+		float expected = 0;
+		for(int i = 0; i < a.length; i++){
+			a[i] = i;
+			b[i] = 2;
+			expected += 2 * i;
+		}
+		assertEquals(expected, FloatUtil.dot(a, b));
+	}
+	
+	@Test
+	public void testDotDifferentLengths(){
+		try{
+			FloatUtil.dot(new float[2], new float[3]);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Arrays must be the same length, but were 2 and 3!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testAxpy(){
+		float[] y = {1, 1, 1};
+		FloatUtil.axpy(2, new float[]{1, 2, 3}, y);
+		assertArrayEquals(new float[]{3, 5, 7}, y);
+	}
+	
+	@Test
+	public void testScale(){
+		float[] values = {1, -2, 3};
+		FloatUtil.scale(values, 0.5f);
+		assertArrayEquals(new float[]{0.5f, -1, 1.5f}, values);
+	}
+	
+	@Test
+	public void testMinAndMax(){
+		float[] values = {3, -7.5f, 12, 0, 4, 9, -2, 11, 1};
+		assertEquals(-7.5f, FloatUtil.min(values));
+		assertEquals(12f, FloatUtil.max(values));
+		assertEquals(5f, FloatUtil.min(new float[]{5}));
+		assertEquals(5f, FloatUtil.max(new float[]{5}));
+	}
+	
+	@Test
+	public void testMinAndMaxNaN(){
+		float[] values = {3, 1, 2, 5, 4, Float.NaN};
+		assertTrue(Float.isNaN(FloatUtil.min(values)));
+		assertTrue(Float.isNaN(FloatUtil.max(values)));
+	}
+	
+	@Test
+	public void testMinEmpty(){
+		try{
+			FloatUtil.min(new float[0]);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Array must not be empty!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testNormalize(){
+		float[] values = {3, 4, 0};
+		assertEquals(5f, FloatUtil.normalize(values));
+		assertArrayEquals(new float[]{0.6f, 0.8f, 0}, values);
+	}
+	
+	@Test
+	public void testNormalizeLargeValues(){
+		float[] values = {3e30f, 4e30f};
+		assertEquals(5e30f, FloatUtil.normalize(values), 1e24f);
+		assertArrayEquals(new float[]{0.6f, 0.8f}, values, 1e-6f);
+	}
+	
+	@Test
+	public void testNormalizeZeroes(){
+		float[] values = {0, 0};
+		assertEquals(0f, FloatUtil.normalize(values));
+		assertArrayEquals(new float[]{0, 0}, values);
+	}
 }
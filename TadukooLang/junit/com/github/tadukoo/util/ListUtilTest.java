@@ -5,10 +5,17 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class ListUtilTest{
 	
@@ -94,4 +101,195 @@ public class ListUtilTest{
 		list.add("no");
 		assertEquals(4, list.size());
 	}
+	
+	/**
+	 * Tests that {@link ListUtil#snapshot(List)} copies a regular List,
+	 * and isn't affected by later changes to it
+	 */
+	@Test
+	public void testSnapshot(){
+		List<String> list = ListUtil.createList("test", "junk");
+		PersistentList<String> snapshot = ListUtil.snapshot(list);
+		list.add("here");
+		assertEquals(2, snapshot.size());
+		assertEquals("test", snapshot.get(0));
+		assertEquals("junk", snapshot.get(1));
+	}
+	
+	/**
+	 * Tests that {@link ListUtil#snapshot(List)} doesn't copy a
+	 * {@link PersistentList}, as it can't change
+	 */
+	@Test
+	public void testSnapshotOfSnapshot(){
+		PersistentList<String> snapshot = ListUtil.snapshot(ListUtil.createList("test"));
+		assertSame(snapshot, ListUtil.snapshot(snapshot));
+	}
+	
+	/**
+	 * Tests that {@link ListUtil#partition(List, int)} splits a List
+	 * into batches, with a smaller last batch
+	 */
+	@Test
+	public void testPartition(){
+		List<List<Integer>> batches = ListUtil.partition(ListUtil.createList(1, 2, 3, 4, 5), 2);
+		assertEquals(3, batches.size());
+		assertEquals(List.of(1, 2), batches.get(0));
+		assertEquals(List.of(3, 4), batches.get(1));
+		assertEquals(List.of(5), batches.get(2));
+	}
+	
+	/**
+	 * Tests that {@link ListUtil#partition(List, int)} works when the
+	 * List splits evenly, and on an empty List
+	 */
+	@Test
+	public void testPartitionEven(){
+		assertEquals(List.of(List.of(1, 2), List.of(3, 4)), ListUtil.partition(List.of(1, 2, 3, 4), 2));
+		assertTrue(ListUtil.partition(new ArrayList<>(), 3).isEmpty());
+	}
+	
+	/**
+	 * Tests that {@link ListUtil#partition(List, int)} returns views
+	 * of the List instead of copies
+	 */
+	@Test
+	public void testPartitionIsView(){
+		List<String> list = ListUtil.createList("a", "b", "c");
+		ListUtil.partition(list, 2).get(1).set(0, "z");
+		assertEquals("z", list.get(2));
+	}
+	
+	/**
+	 * Tests that {@link ListUtil#partition(List, int)} checks the batch index
+	 */
+	@Test
+	public void testPartitionOutOfBounds(){
+		try{
+			ListUtil.partition(List.of(1, 2, 3), 2).get(2);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("Index 2 out of bounds for length 2", e.getMessage());
+		}
+	}
+	
+	/**
+	 * Tests that {@link ListUtil#partition(List, int)} requires a positive size
+	 */
+	@Test
+	public void testPartitionBadSize(){
+		try{
+			ListUtil.partition(List.of(1), 0);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Size must be positive, but was 0!", e.getMessage());
+		}
+	}
+	
+	/**
+	 * Tests that {@link ListUtil#chunkedStream(List, int)} streams the batches in order
+	 */
+	@Test
+	public void testChunkedStream(){
+		List<List<Integer>> batches = ListUtil.chunkedStream(List.of(1, 2, 3, 4, 5, 6, 7), 3)
+				.collect(Collectors.toList());
+		assertEquals(List.of(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7)), batches);
+	}
+	
+	/**
+	 * Tests that {@link ListUtil#parallelForEachBatch(List, int, Consumer)}
+	 * runs the consumer on every batch exactly once
+	 */
+	@Test
+	public void testParallelForEachBatch(){
+		List<Integer> list = new ArrayList<>();
+		for(int i = 0; i < 10000; i++){
+			list.add(i);
+		}
+		AtomicLong sum = new AtomicLong();
+		AtomicInteger batchCount = new AtomicInteger();
+		ListUtil.parallelForEachBatch(list, 64, batch -> {
+			batchCount.incrementAndGet();
+			for(int value: batch){
+				sum.addAndGet(value);
+			}
+		});
+		assertEquals(157, batchCount.get());
+		assertEquals(10000L * 9999 / 2, sum.get());
+	}
+	
+	/**
+	 * Tests that {@link ListUtil#parallelForEachBatch(List, int, ForkJoinPool, Consumer)}
+	 * uses the given pool and rethrows exceptions from the consumer
+	 */
+	@Test
+	public void testParallelForEachBatchException(){
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try{
+			ListUtil.parallelForEachBatch(List.of(1, 2, 3, 4), 1, pool, batch -> {
+				if(batch.get(0) == 3){
+					throw new IllegalStateException("Bad batch");
+				}
+			});
+			fail();
+		}catch(IllegalStateException e){
+			// The exception may be rethrown wrapped in a copy of itself, if it was thrown on another thread
+			Throwable cause = e;
+			while(cause.getCause() != null){
+				cause = cause.getCause();
+			}
+			assertEquals("Bad batch", cause.getMessage());
+		}finally{
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests that {@link ListUtil#parallelForEachBatch(List, int, Consumer)}
+	 * doesn't run the consumer for an empty List
+	 */
+	@Test
+	public void testParallelForEachBatchEmpty(){
+		ListUtil.parallelForEachBatch(new ArrayList<String>(), 10, batch -> fail());
+	}
+	
+	/**
+	 * Tests that {@link ListUtil#windowed(List, int, int)} slides
+	 * over the List, only including full windows
+	 */
+	@Test
+	public void testWindowed(){
+		List<List<Integer>> windows = new ArrayList<>();
+		for(List<Integer> window: ListUtil.windowed(List.of(1, 2, 3, 4, 5), 3, 1)){
+			windows.add(window);
+		}
+		assertEquals(List.of(List.of(1, 2, 3), List.of(2, 3, 4), List.of(3, 4, 5)), windows);
+	}
+	
+	/**
+	 * Tests that {@link ListUtil#windowed(List, int, int)} works with
+	 * a step bigger than 1, and a List smaller than the window
+	 */
+	@Test
+	public void testWindowedStep(){
+		List<List<Integer>> windows = new ArrayList<>();
+		for(List<Integer> window: ListUtil.windowed(List.of(1, 2, 3, 4, 5, 6), 2, 3)){
+			windows.add(window);
+		}
+		assertEquals(List.of(List.of(1, 2), List.of(4, 5)), windows);
+		assertFalse(ListUtil.windowed(List.of(1), 2, 1).iterator().hasNext());
+	}
+	
+	/**
+	 * Tests that {@link ListUtil#windowed(List, int, int)} requires a positive step
+	 */
+	@Test
+	public void testWindowedBadStep(){
+		try{
+			ListUtil.windowed(List.of(1), 1, -1);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Step must be positive, but was -1!", e.getMessage());
+		}
+	}
 }
@@ -0,0 +1,182 @@
+package com.github.tadukoo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class PersistentListTest{
+	
+	/**
+	 * Creates a List of the Integers from 0 (inclusive) to the given size (exclusive)
+	 *
+	 * @param size The number of Integers in the List
+	 * @return The List of Integers
+	 */
+	private static List<Integer> range(int size){
+		List<Integer> list = new ArrayList<>(size);
+		for(int i = 0; i < size; i++){
+			list.add(i);
+		}
+		return list;
+	}
+	
+	@Test
+	public void testEmpty(){
+		PersistentList<String> list = PersistentList.empty();
+		assertEquals(0, list.size());
+		assertTrue(list.isEmpty());
+		assertFalse(list.iterator().hasNext());
+		assertSame(list, PersistentList.of());
+	}
+	
+	@Test
+	public void testOf(){
+		PersistentList<String> list = PersistentList.of("a", "b", null);
+		assertEquals(3, list.size());
+		assertEquals("a", list.get(0));
+		assertEquals("b", list.get(1));
+		assertNull(list.get(2));
+	}
+	
+	@Test
+	public void testOfCopiesArray(){
+		String[] values = {"a", "b"};
+		PersistentList<String> list = PersistentList.of(values);
+		values[0] = "c";
+		assertEquals("a", list.get(0));
+	}
+	
+	@Test
+	public void testGetOutOfBounds(){
+		try{
+			PersistentList.of("a").get(1);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("Index 1 out of bounds for length 1", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testFrom(){
+		// Sizes around the edges of the tail and the levels of the trie
+		for(int size: new int[]{1, 31, 32, 33, 64, 65, 1024, 1056, 1057, 2000, 32 * 32 * 32 + 33, 40000}){
+			List<Integer> expected = range(size);
+			PersistentList<Integer> list = PersistentList.from(expected);
+			assertEquals(expected, list);
+			for(int i = 0; i < size; i++){
+				assertEquals(i, list.get(i));
+			}
+		}
+	}
+	
+	@Test
+	public void testFromPersistentList(){
+		PersistentList<String> list = PersistentList.of("a");
+		assertSame(list, PersistentList.from(list));
+	}
+	
+	@Test
+	public void testPlus(){
+		PersistentList<Integer> list = PersistentList.empty();
+		List<PersistentList<Integer>> versions = new ArrayList<>();
+		for(int i = 0; i < 40000; i++){
+			versions.add(list);
+			list = list.plus(i);
+		}
+		assertEquals(range(40000), list);
+		
+		// Earlier versions are unchanged
+		assertEquals(range(33), versions.get(33));
+		assertEquals(range(1056), versions.get(1056));
+		assertEquals(range(32800), versions.get(32800));
+	}
+	
+	@Test
+	public void testPlusOntoBuiltList(){
+		// Appending to lists built by from() must continue the same trie structure
+		for(int size: new int[]{32, 1056, 32 * 32 * 32 + 32}){
+			PersistentList<Integer> list = PersistentList.from(range(size));
+			for(int i = size; i < size + 100; i++){
+				list = list.plus(i);
+			}
+			assertEquals(range(size + 100), list);
+		}
+	}
+	
+	@Test
+	public void testPlusAll(){
+		PersistentList<Integer> list = PersistentList.of(0, 1);
+		assertEquals(range(50), list.plusAll(range(50).subList(2, 50)));
+		assertEquals(range(2), list);
+		assertEquals(range(5), PersistentList.<Integer>empty().plusAll(range(5)));
+	}
+	
+	@Test
+	public void testWith(){
+		PersistentList<Integer> list = PersistentList.from(range(2000));
+		PersistentList<Integer> changed = list.with(5, -1).with(1999, -2).with(1100, -3);
+		assertEquals(-1, changed.get(5));
+		assertEquals(-2, changed.get(1999));
+		assertEquals(-3, changed.get(1100));
+		assertEquals(2000, changed.size());
+		assertEquals(range(2000), list);
+	}
+	
+	@Test
+	public void testWithOutOfBounds(){
+		try{
+			PersistentList.of("a").with(-1, "b");
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("Index -1 out of bounds for length 1", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testIterator(){
+		List<Integer> expected = range(1100);
+		Iterator<Integer> iterator = PersistentList.from(expected).iterator();
+		for(Integer value: expected){
+			assertTrue(iterator.hasNext());
+			assertEquals(value, iterator.next());
+		}
+		assertFalse(iterator.hasNext());
+		try{
+			iterator.next();
+			fail();
+		}catch(NoSuchElementException e){
+			assertNull(e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testImmutable(){
+		PersistentList<String> list = PersistentList.of("a");
+		try{
+			list.add("b");
+			fail();
+		}catch(UnsupportedOperationException e){
+			assertEquals(1, list.size());
+		}
+	}
+	
+	@Test
+	public void testEqualsAndHashCode(){
+		List<String> expected = List.of("a", "b", "c");
+		PersistentList<String> list = PersistentList.from(expected);
+		assertEquals(expected, list);
+		assertEquals(list, expected);
+		assertEquals(expected.hashCode(), list.hashCode());
+		assertEquals(expected.toString(), list.toString());
+	}
+}
@@ -0,0 +1,117 @@
+package com.github.tadukoo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StringMatcherTest{
+	
+	@Test
+	public void testMatches(){
+		StringMatcher matcher = StringMatcher.of("yes", "no", "maybe");
+		assertTrue(matcher.matches("yes"));
+		assertTrue(matcher.matches("no"));
+		assertTrue(matcher.matches("maybe"));
+		assertFalse(matcher.matches("YES"));
+		assertFalse(matcher.matches("nope"));
+		assertFalse(matcher.matches(""));
+	}
+	
+	@Test
+	public void testMatchesCollection(){
+		StringMatcher matcher = StringMatcher.of(Arrays.asList("yes", "no"));
+		assertTrue(matcher.matches("yes"));
+		assertFalse(matcher.matches("maybe"));
+	}
+	
+	@Test
+	public void testMatchesNull(){
+		assertTrue(StringMatcher.of("yes", null).matches(null));
+		assertFalse(StringMatcher.of("yes", "no").matches(null));
+		assertFalse(StringMatcher.of((String) null).matches("null"));
+	}
+	
+	@Test
+	public void testMatchesEmpty(){
+		StringMatcher matcher = StringMatcher.of();
+		assertEquals(0, matcher.size());
+		assertFalse(matcher.matches(""));
+		assertFalse(matcher.matches("yes"));
+		assertFalse(matcher.matches(null));
+		assertTrue(StringMatcher.of("").matches(""));
+	}
+	
+	@Test
+	public void testNotMatches(){
+		StringMatcher matcher = StringMatcher.of("yes", "no");
+		assertFalse(matcher.notMatches("yes"));
+		assertTrue(matcher.notMatches("maybe"));
+	}
+	
+	@Test
+	public void testSize(){
+		assertEquals(2, StringMatcher.of("yes", "no", "yes").size());
+		assertEquals(3, StringMatcher.of("yes", "no", null, null).size());
+		assertEquals(1, StringMatcher.ofIgnoreCase("yes", "YES", "Yes").size());
+	}
+	
+	@Test
+	public void testIsIgnoreCase(){
+		assertFalse(StringMatcher.of("yes").isIgnoreCase());
+		assertTrue(StringMatcher.ofIgnoreCase("yes").isIgnoreCase());
+	}
+	
+	@Test
+	public void testMatchesIgnoreCase(){
+		StringMatcher matcher = StringMatcher.ofIgnoreCase("Content-Type", "Accept", null);
+		assertTrue(matcher.matches("content-type"));
+		assertTrue(matcher.matches("CONTENT-TYPE"));
+		assertTrue(matcher.matches("aCCePT"));
+		assertTrue(matcher.matches(null));
+		assertFalse(matcher.matches("Content-Length"));
+		assertFalse(matcher.matches("Accepts"));
+	}
+	
+	@Test
+	public void testMatchesIgnoreCaseCollection(){
+		StringMatcher matcher = StringMatcher.ofIgnoreCase(Arrays.asList("Yes", "No"));
+		assertTrue(matcher.matches("yES"));
+		assertFalse(matcher.matches("maybe"));
+	}
+	
+	@Test
+	public void testMatchesIgnoreCaseNonAscii(){
+		// Each of these are equal ignoring case, including the long s and Kelvin sign with their ASCII letters
+		StringMatcher matcher = StringMatcher.ofIgnoreCase("\u00c9t\u00c9", "stra\u017fe", "\u212aelvin",
+				"\ud801\udc00bc");
+		assertTrue(matcher.matches("\u00e9T\u00e9"));
+		assertTrue(matcher.matches("STRASE"));
+		assertTrue(matcher.matches("kelvin"));
+		assertEquals(StringUtil.equalsIgnoreCase("\ud801\udc28BC", "\ud801\udc00bc"),
+				matcher.matches("\ud801\udc28BC"));
+		assertFalse(matcher.matches("ete"));
+	}
+	
+	@Test
+	public void testMatchesSameAsEqualsAny(){
+		List<String> candidates = new ArrayList<>();
+		for(int i = 0; i < 200; i++){
+			candidates.add("Header-" + i);
+		}
+		String[] candidateArray = candidates.toArray(new String[0]);
+		StringMatcher matcher = StringMatcher.of(candidates);
+		StringMatcher ignoreCaseMatcher = StringMatcher.ofIgnoreCase(candidates);
+		for(int i = -50; i < 250; i++){
+			for(String text: Arrays.asList("Header-" + i, "header-" + i, "HEADER-" + i)){
+				assertEquals(StringUtil.equalsAny(text, candidateArray), matcher.matches(text));
+				assertEquals(StringUtil.equalsAnyIgnoreCase(text, candidateArray), ignoreCaseMatcher.matches(text));
+			}
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.github.tadukoo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class StringPoolTest{
+	
+	@Test
+	public void testCapacity(){
+		assertEquals(1, new StringPool(1).getCapacity());
+		assertEquals(16, new StringPool(16).getCapacity());
+		assertEquals(32, new StringPool(17).getCapacity());
+	}
+	
+	@Test
+	public void testBadCapacity(){
+		try{
+			new StringPool(0);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Capacity must be between 1 and 2^30, but was 0!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testIntern(){
+		StringPool pool = new StringPool(64);
+		String first = new String("test");
+		String second = new String("test");
+		assertNotSame(first, second);
+		
+		assertSame(first, pool.intern(first));
+		assertSame(first, pool.intern(second));
+		assertEquals(1, pool.getHits());
+		assertEquals(1, pool.getMisses());
+	}
+	
+	@Test
+	public void testInternNull(){
+		StringPool pool = new StringPool(64);
+		assertNull(pool.intern((String) null));
+		assertNull(pool.intern((CharSequence) null));
+		assertEquals(0, pool.getHits());
+		assertEquals(0, pool.getMisses());
+	}
+	
+	@Test
+	public void testInternCharSequence(){
+		StringPool pool = new StringPool(64);
+		String pooled = pool.intern(new StringBuilder("test"));
+		assertEquals("test", pooled);
+		assertSame(pooled, pool.intern(new StringBuilder("test")));
+		assertSame(pooled, pool.intern("test"));
+		assertSame(pooled, pool.intern((CharSequence) new String("test")));
+		assertEquals(3, pool.getHits());
+		assertEquals(1, pool.getMisses());
+	}
+	
+	@Test
+	public void testEviction(){
+		// With a single slot, each new string replaces the last one
+		StringPool pool = new StringPool(1);
+		String a = pool.intern(new String("a"));
+		pool.intern(new String("b"));
+		String a2 = new String("a");
+		assertSame(a2, pool.intern(a2));
+		assertNotSame(a, a2);
+		assertEquals(0, pool.getHits());
+		assertEquals(3, pool.getMisses());
+	}
+	
+	@Test
+	public void testHitRate(){
+		StringPool pool = new StringPool(64);
+		assertEquals(0.0, pool.getHitRate());
+		pool.intern("a");
+		pool.intern("a");
+		pool.intern("a");
+		pool.intern("b");
+		assertEquals(0.5, pool.getHitRate());
+	}
+	
+	@Test
+	public void testResetStats(){
+		StringPool pool = new StringPool(64);
+		String pooled = pool.intern(new String("a"));
+		pool.intern("a");
+		pool.resetStats();
+		assertEquals(0, pool.getHits());
+		assertEquals(0, pool.getMisses());
+		assertSame(pooled, pool.intern(new String("a")));
+	}
+	
+	@Test
+	public void testClear(){
+		StringPool pool = new StringPool(64);
+		pool.intern(new String("a"));
+		pool.clear();
+		String a = new String("a");
+		assertSame(a, pool.intern(a));
+		assertEquals(2, pool.getMisses());
+	}
+	
+	@Test
+	public void testConcurrentIntern() throws Exception{
+		StringPool pool = new StringPool(1024);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			List<Future<?>> futures = new ArrayList<>();
+			for(int t = 0; t < 4; t++){
+				futures.add(executor.submit(() -> {
+					for(int i = 0; i < 10000; i++){
+						String text = "value" + (i % 100);
+						assertEquals(text, pool.intern(text));
+					}
+				}));
+			}
+			for(Future<?> future: futures){
+				future.get();
+			}
+		}finally{
+			executor.shutdown();
+		}
+		assertEquals(40000, pool.getHits() + pool.getMisses());
+		assertTrue(pool.getHitRate() > 0.5);
+	}
+}
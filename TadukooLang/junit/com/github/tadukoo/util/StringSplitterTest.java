@@ -0,0 +1,184 @@
+package com.github.tadukoo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class StringSplitterTest{
+	
+	private static List<String> toStrings(Iterable<CharSequence> pieces){
+		List<String> strings = new ArrayList<>();
+		for(CharSequence piece: pieces){
+			strings.add(piece.toString());
+		}
+		return strings;
+	}
+	
+	@Test
+	public void testOnEmptySeparator(){
+		try{
+			StringSplitter.on("");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Separator must not be empty!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testOnNullSeparator(){
+		try{
+			StringSplitter.on(null);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Separator must not be empty!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetSeparator(){
+		assertEquals("::", StringSplitter.on("::").getSeparator());
+	}
+	
+	@Test
+	public void testSplit(){
+		assertEquals(Arrays.asList("a", "b", "c"), StringSplitter.on(",").split("a,b,c"));
+	}
+	
+	@Test
+	public void testSplitKeepsEmptyStrings(){
+		assertEquals(Arrays.asList("", "a", "", "b", ""), StringSplitter.on(",").split(",a,,b,"));
+	}
+	
+	@Test
+	public void testSplitNoSeparator(){
+		assertEquals(Collections.singletonList("test"), StringSplitter.on(",").split("test"));
+	}
+	
+	@Test
+	public void testSplitEmptyText(){
+		assertEquals(Collections.singletonList(""), StringSplitter.on(",").split(""));
+	}
+	
+	@Test
+	public void testSplitRegexCharacters(){
+		assertEquals(Arrays.asList("a", "b", "c"), StringSplitter.on(".").split("a.b.c"));
+		assertEquals(Arrays.asList("a", "b"), StringSplitter.on("|").split("a|b"));
+		assertEquals(Arrays.asList("a", "b"), StringSplitter.on("[*]").split("a[*]b"));
+	}
+	
+	@Test
+	public void testSplitMultiCharacterSeparator(){
+		assertEquals(Arrays.asList("a", "b", "", "c"), StringSplitter.on("::").split("a::b::::c"));
+	}
+	
+	@Test
+	public void testSplitStringBuilder(){
+		assertEquals(Arrays.asList("a", "bc", ""), StringSplitter.on("--").split(new StringBuilder("a--bc--")));
+	}
+	
+	@Test
+	public void testTrimResults(){
+		assertEquals(Arrays.asList("a", "", "b"), StringSplitter.on(",").trimResults().split(" a ,\t, b\n"));
+	}
+	
+	@Test
+	public void testOmitEmptyStrings(){
+		assertEquals(Arrays.asList("a", " ", "b"), StringSplitter.on(",").omitEmptyStrings().split(",a,, ,b,"));
+	}
+	
+	@Test
+	public void testTrimResultsAndOmitEmptyStrings(){
+		assertEquals(Arrays.asList("a", "b"),
+				StringSplitter.on(",").trimResults().omitEmptyStrings().split(" a, ,b ,"));
+	}
+	
+	@Test
+	public void testLimit(){
+		assertEquals(Arrays.asList("a", "b", "c,d"), StringSplitter.on(",").limit(3).split("a,b,c,d"));
+		assertEquals(Collections.singletonList("a,b"), StringSplitter.on(",").limit(1).split("a,b"));
+		assertEquals(Arrays.asList("a", "b"), StringSplitter.on(",").limit(5).split("a,b"));
+	}
+	
+	@Test
+	public void testLimitWithOmitEmptyStrings(){
+		assertEquals(Arrays.asList("a", "b,,c"), StringSplitter.on(",").omitEmptyStrings().limit(2).split(",,a,b,,c"));
+	}
+	
+	@Test
+	public void testLimitWithTrimResults(){
+		assertEquals(Arrays.asList("a", "b , c"), StringSplitter.on(",").trimResults().limit(2).split(" a , b , c "));
+	}
+	
+	@Test
+	public void testBadLimit(){
+		try{
+			StringSplitter.on(",").limit(0);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Limit must be positive, but was 0!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testSplitterIsReusable(){
+		StringSplitter splitter = StringSplitter.on(";").trimResults();
+		assertEquals(Arrays.asList("a", "b"), splitter.split("a; b"));
+		assertEquals(Arrays.asList("c", "d", "e"), splitter.split("c ;d;e"));
+	}
+	
+	@Test
+	public void testSplitLazily(){
+		Iterable<CharSequence> pieces = StringSplitter.on(",").trimResults().omitEmptyStrings().splitLazily(" a,,b ,c");
+		assertEquals(Arrays.asList("a", "b", "c"), toStrings(pieces));
+		
+		// The Iterable can be iterated over again
+		assertEquals(Arrays.asList("a", "b", "c"), toStrings(pieces));
+	}
+	
+	@Test
+	public void testSplitLazilyIterator(){
+		Iterator<CharSequence> iterator = StringSplitter.on(",").splitLazily("a,b").iterator();
+		assertTrue(iterator.hasNext());
+		assertTrue(iterator.hasNext());
+		assertEquals("a", iterator.next().toString());
+		assertEquals("b", iterator.next().toString());
+		assertFalse(iterator.hasNext());
+		try{
+			iterator.next();
+			fail();
+		}catch(NoSuchElementException e){
+			// Expected
+		}
+	}
+	
+	@Test
+	public void testSplitLazilyPieces(){
+		CharSequence piece = StringSplitter.on(",").splitLazily("first,second").iterator().next();
+		assertEquals(5, piece.length());
+		assertEquals('i', piece.charAt(1));
+		assertEquals("irs", piece.subSequence(1, 4).toString());
+		assertEquals("r", piece.subSequence(1, 4).subSequence(1, 2).toString());
+		try{
+			piece.charAt(5);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("index 5, length 5", e.getMessage());
+		}
+		try{
+			piece.subSequence(2, 6);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("start 2, end 6, length 5", e.getMessage());
+		}
+	}
+}
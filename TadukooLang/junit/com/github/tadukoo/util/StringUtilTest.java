@@ -8,6 +8,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class StringUtilTest{
@@ -287,6 +288,31 @@ public class StringUtilTest{
 		assertEquals(testString, result.get(2));
 	}
 	
+	@Test
+	public void testConvertToStringWithPool(){
+		StringPool pool = new StringPool(64);
+		String pooled = StringUtil.convertToString(new StringBuilder("test"), pool);
+		assertEquals("test", pooled);
+		assertSame(pooled, StringUtil.convertToString(new StringBuilder("test"), pool));
+		assertNull(StringUtil.convertToString(null, pool));
+	}
+	
+	@Test
+	public void testConvertCollectionToStringsWithPool(){
+		StringPool pool = new StringPool(64);
+		List<Object> objs = new ArrayList<>();
+		objs.add(15);
+		objs.add(new StringBuilder("15"));
+		objs.add(null);
+		
+		List<String> result = StringUtil.convertCollectionToStrings(objs, pool);
+		assertEquals(3, result.size());
+		assertEquals("15", result.get(0));
+		assertSame(result.get(0), result.get(1));
+		assertNull(result.get(2));
+		assertEquals(1, pool.getHits());
+	}
+	
 	@Test
 	public void testBuildStringWithSeparator(){
 		assertEquals("derp - plop - can",
@@ -310,6 +336,68 @@ public class StringUtilTest{
 				StringUtil.buildCommaSeparatedString(ListUtil.createList("derp", "plop", "can")));
 	}
 	
+	@Test
+	public void testBuildStringWithSeparatorEmpty(){
+		assertEquals("", StringUtil.buildStringWithSeparator(new ArrayList<>(), " - "));
+	}
+	
+	@Test
+	public void testBuildStringWithSeparatorNullItem(){
+		assertEquals("derp,null,can",
+				StringUtil.buildStringWithSeparator(ListUtil.createList("derp", null, "can"), ","));
+	}
+	
+	@Test
+	public void testParseListFromStringWithSeparatorRegexCharacters(){
+		List<String> result = StringUtil.parseListFromStringWithSeparator("test.derp|plop", ".", false);
+		assertEquals(2, result.size());
+		assertEquals("test", result.get(0));
+		assertEquals("derp|plop", result.get(1));
+		
+		result = StringUtil.parseListFromStringWithSeparator("test.derp|plop", "|", false);
+		assertEquals(2, result.size());
+		assertEquals("test.derp", result.get(0));
+		assertEquals("plop", result.get(1));
+	}
+	
+	@Test
+	public void testParseListFromStringWithSeparatorEmptyStrings(){
+		List<String> result = StringUtil.parseListFromStringWithSeparator(",test,,derp,,", ",", false);
+		assertEquals(4, result.size());
+		assertEquals("", result.get(0));
+		assertEquals("test", result.get(1));
+		assertEquals("", result.get(2));
+		assertEquals("derp", result.get(3));
+	}
+	
+	@Test
+	public void testParseListFromStringWithSeparatorOnlySeparators(){
+		assertEquals(0, StringUtil.parseListFromStringWithSeparator(",", ",", false).size());
+		assertEquals(0, StringUtil.parseListFromStringWithSeparator(",,", ",", false).size());
+		assertEquals(0, StringUtil.parseListFromStringWithSeparator("  ", " ", false).size());
+		assertEquals(0, StringUtil.parseCommaSeparatedListFromString(",").size());
+	}
+	
+	@Test
+	public void testParseListFromStringWithSeparatorEmptyText(){
+		List<String> result = StringUtil.parseListFromStringWithSeparator("", ",", false);
+		assertEquals(1, result.size());
+		assertEquals("", result.get(0));
+	}
+	
+	@Test
+	public void testParseListFromStringWithSeparatorEmptySeparator(){
+		List<String> result = StringUtil.parseListFromStringWithSeparator("a b", "", true);
+		assertEquals(3, result.size());
+		assertEquals("a", result.get(0));
+		assertEquals("", result.get(1));
+		assertEquals("b", result.get(2));
+		
+		result = StringUtil.parseListFromStringWithSeparator("", "", false);
+		assertEquals(1, result.size());
+		assertEquals("", result.get(0));
+	}
+	
 	@Test
 	public void testParseListFromStringWithSeparatorTrimMissingSeparator(){
 		List<String> result = StringUtil.parseListFromStringWithSeparator("  test  ", "f1", true);
@@ -501,4 +589,119 @@ public class StringUtilTest{
 	public void testToSnakeCaseDifferent(){
 		assertEquals("test_string_here", StringUtil.toSnakeCase("Test String_here"));
 	}
+	
+	@Test
+	public void testToSnakeCaseEmpty(){
+		assertEquals("", StringUtil.toSnakeCase(""));
+	}
+	
+	@Test
+	public void testToSnakeCaseBuilder(){
+		StringBuilder builder = new StringBuilder("Column: ");
+		assertSame(builder, StringUtil.toSnakeCase("TestStringHere", builder));
+		assertEquals("Column: test_string_here", builder.toString());
+	}
+	
+	@Test
+	public void testToPascalCaseEmpty(){
+		assertEquals("", StringUtil.toPascalCase(""));
+	}
+	
+	@Test
+	public void testToPascalCaseRepeatedSeparators(){
+		assertEquals("TestStringHere", StringUtil.toPascalCase("_test__string _here_"));
+	}
+	
+	@Test
+	public void testToPascalCaseBuilder(){
+		StringBuilder builder = new StringBuilder("Class ");
+		assertSame(builder, StringUtil.toPascalCase("test_string here", builder));
+		assertEquals("Class TestStringHere", builder.toString());
+	}
+	
+	@Test
+	public void testToCamelCaseEmpty(){
+		assertEquals("", StringUtil.toCamelCase(""));
+	}
+	
+	@Test
+	public void testToCamelCaseRepeatedSeparators(){
+		assertEquals("testStringHere", StringUtil.toCamelCase("__Test__string _here"));
+	}
+	
+	@Test
+	public void testToCamelCaseBuilder(){
+		StringBuilder builder = new StringBuilder("Field ");
+		assertSame(builder, StringUtil.toCamelCase("Test_string here", builder));
+		assertEquals("Field testStringHere", builder.toString());
+	}
+	
+	@Test
+	public void testToKebabCaseIsSnakeCase(){
+		assertEquals("test-string-here", StringUtil.toKebabCase("test_string_here"));
+	}
+	
+	@Test
+	public void testToKebabCaseContainsSpaces(){
+		assertEquals("test-string-here", StringUtil.toKebabCase("test string here"));
+	}
+	
+	@Test
+	public void testToKebabCaseIsPascalCase(){
+		assertEquals("test-string-here", StringUtil.toKebabCase("TestStringHere"));
+	}
+	
+	@Test
+	public void testToKebabCaseIsCamelCase(){
+		assertEquals("test-string-here", StringUtil.toKebabCase("testStringHere"));
+	}
+	
+	@Test
+	public void testToKebabCaseDifferent(){
+		assertEquals("test-string-here", StringUtil.toKebabCase("Test String_here"));
+	}
+	
+	@Test
+	public void testToKebabCaseBuilder(){
+		StringBuilder builder = new StringBuilder("--");
+		assertSame(builder, StringUtil.toKebabCase("testStringHere", builder));
+		assertEquals("--test-string-here", builder.toString());
+	}
+	
+	@Test
+	public void testToScreamingSnakeCaseIsSnakeCase(){
+		assertEquals("TEST_STRING_HERE", StringUtil.toScreamingSnakeCase("test_string_here"));
+	}
+	
+	@Test
+	public void testToScreamingSnakeCaseIsScreamingSnakeCase(){
+		assertEquals("TEST_STRING_HERE", StringUtil.toScreamingSnakeCase("TEST_STRING_HERE"));
+	}
+	
+	@Test
+	public void testToScreamingSnakeCaseContainsSpaces(){
+		assertEquals("TEST_STRING_HERE", StringUtil.toScreamingSnakeCase("test string here"));
+	}
+	
+	@Test
+	public void testToScreamingSnakeCaseIsPascalCase(){
+		assertEquals("TEST_STRING_HERE", StringUtil.toScreamingSnakeCase("TestStringHere"));
+	}
+	
+	@Test
+	public void testToScreamingSnakeCaseIsCamelCase(){
+		assertEquals("TEST_STRING_HERE", StringUtil.toScreamingSnakeCase("testStringHere"));
+	}
+	
+	@Test
+	public void testToScreamingSnakeCaseDifferent(){
+		assertEquals("TEST_STRING_HERE", StringUtil.toScreamingSnakeCase("Test String_here"));
+	}
+	
+	@Test
+	public void testToScreamingSnakeCaseBuilder(){
+		StringBuilder builder = new StringBuilder("static final int ");
+		assertSame(builder, StringUtil.toScreamingSnakeCase("maxSize", builder));
+		assertEquals("static final int MAX_SIZE", builder.toString());
+	}
 }
@@ -0,0 +1,201 @@
+package com.github.tadukoo.util.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.DoubleBuffer;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class DoubleListTest{
+	
+	@Test
+	public void testEmpty(){
+		DoubleList list = new DoubleList();
+		assertEquals(0, list.size());
+		assertTrue(list.isEmpty());
+		assertEquals(10, list.capacity());
+	}
+	
+	@Test
+	public void testInitialCapacity(){
+		assertEquals(3, new DoubleList(3).capacity());
+		assertEquals(0, new DoubleList(0).capacity());
+	}
+	
+	@Test
+	public void testNegativeInitialCapacity(){
+		try{
+			new DoubleList(-1);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Initial capacity must not be negative, but was -1!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testAddAndGet(){
+		DoubleList list = new DoubleList(0);
+		for(int i = 0; i < 100; i++){
+			list.add((double) i);
+		}
+		assertEquals(100, list.size());
+		assertFalse(list.isEmpty());
+		for(int i = 0; i < 100; i++){
+			assertEquals((double) i, list.get(i));
+		}
+	}
+	
+	@Test
+	public void testGetOutOfBounds(){
+		DoubleList list = DoubleList.of(1.5, 2.5);
+		try{
+			list.get(2);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("Index 2 out of bounds for length 2", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testSet(){
+		DoubleList list = DoubleList.of(1.5, 2.5);
+		assertEquals(2.5, list.set(1, 3.5));
+		assertEquals(3.5, list.get(1));
+	}
+	
+	@Test
+	public void testAddAll(){
+		DoubleList list = DoubleList.of(1.5);
+		list.addAll(2.5, 3.5);
+		list.addAll(new double[]{1.5, 2.5, 3.5}, 1, 1);
+		list.addAll(DoubleList.of(3.5));
+		list.addAll(List.of(1.5));
+		assertArrayEquals(new double[]{1.5, 2.5, 3.5, 2.5, 3.5, 1.5}, list.toArray());
+	}
+	
+	@Test
+	public void testAddAllBadRange(){
+		try{
+			new DoubleList().addAll(new double[2], 1, 2);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("Range [1, 1 + 2) out of bounds for length 2", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testFrom(){
+		List<Double> boxed = new LinkedList<>(List.of(3.5, 1.5, 2.5));
+		DoubleList list = DoubleList.from(boxed);
+		assertArrayEquals(new double[]{3.5, 1.5, 2.5}, list.toArray());
+		assertEquals(3, list.capacity());
+	}
+	
+	@Test
+	public void testClear(){
+		DoubleList list = DoubleList.of(1.5, 2.5);
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertEquals(2, list.capacity());
+	}
+	
+	@Test
+	public void testEnsureCapacityAndTrim(){
+		DoubleList list = DoubleList.of(1.5);
+		list.ensureCapacity(50);
+		assertTrue(list.capacity() >= 50);
+		list.trimToSize();
+		assertEquals(1, list.capacity());
+	}
+	
+	@Test
+	public void testSortAndBinarySearch(){
+		DoubleList list = DoubleList.of(3.5, 1.5, 2.5);
+		list.add(4.5);
+		list.sort();
+		assertArrayEquals(new double[]{1.5, 2.5, 3.5, 4.5}, list.toArray());
+		assertEquals(2, list.binarySearch(3.5));
+		assertTrue(list.binarySearch(3.0) < 0);
+	}
+	
+	@Test
+	public void testSortOnlySortsValues(){
+		// The unused capacity (zeroes) must not be sorted into the values
+		DoubleList list = new DoubleList(10);
+		list.addAll(3.5, 2.5);
+		list.sort();
+		assertArrayEquals(new double[]{2.5, 3.5}, list.toArray());
+	}
+	
+	@Test
+	public void testToArrayCopies(){
+		DoubleList list = DoubleList.of(1.5, 2.5);
+		double[] array = list.toArray();
+		array[0] = 3.5;
+		assertEquals(1.5, list.get(0));
+	}
+	
+	@Test
+	public void testAsArray(){
+		DoubleList list = new DoubleList(10);
+		list.addAll(1.5, 2.5);
+		double[] array = list.asArray();
+		assertEquals(2, array.length);
+		assertSame(array, list.asArray());
+		array[0] = 3.5;
+		assertEquals(3.5, list.get(0));
+	}
+	
+	@Test
+	public void testAsBuffer(){
+		DoubleList list = new DoubleList(10);
+		list.addAll(1.5, 2.5);
+		DoubleBuffer buffer = list.asBuffer();
+		assertEquals(2, buffer.remaining());
+		assertEquals(2, buffer.capacity());
+		assertEquals(1.5, buffer.get(0));
+		list.set(1, 3.5);
+		assertEquals(3.5, buffer.get(1));
+	}
+	
+	@Test
+	public void testEqualsAndHashCode(){
+		DoubleList list = DoubleList.of(1.5, 2.5);
+		DoubleList same = new DoubleList(20);
+		same.addAll(1.5, 2.5);
+		assertNotSame(list, same);
+		assertEquals(list, same);
+		assertEquals(list.hashCode(), same.hashCode());
+		assertEquals(List.of(1.5, 2.5).hashCode(), list.hashCode());
+		assertNotEquals(list, DoubleList.of(1.5));
+	}
+	
+	@Test
+	public void testToString(){
+		assertEquals("[]", new DoubleList().toString());
+		assertEquals(List.of(1.5, 2.5).toString(), DoubleList.of(1.5, 2.5).toString());
+	}
+	
+	@Test
+	public void testStream(){
+		DoubleList list = new DoubleList(10);
+		list.addAll(1.5, 2.5, 3.5);
+		assertArrayEquals(new double[]{1.5, 2.5, 3.5}, list.stream().toArray());
+	}
+	
+	@Test
+	public void testSortNaNAndNegativeZero(){
+		DoubleList list = DoubleList.of(Double.NaN, 0.0, -0.0, -1);
+		list.sort();
+		assertArrayEquals(new double[]{-1, -0.0, 0.0, Double.NaN}, list.toArray());
+	}
+}
@@ -0,0 +1,194 @@
+package com.github.tadukoo.util.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.FloatBuffer;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class FloatListTest{
+	
+	@Test
+	public void testEmpty(){
+		FloatList list = new FloatList();
+		assertEquals(0, list.size());
+		assertTrue(list.isEmpty());
+		assertEquals(10, list.capacity());
+	}
+	
+	@Test
+	public void testInitialCapacity(){
+		assertEquals(3, new FloatList(3).capacity());
+		assertEquals(0, new FloatList(0).capacity());
+	}
+	
+	@Test
+	public void testNegativeInitialCapacity(){
+		try{
+			new FloatList(-1);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Initial capacity must not be negative, but was -1!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testAddAndGet(){
+		FloatList list = new FloatList(0);
+		for(int i = 0; i < 100; i++){
+			list.add((float) i);
+		}
+		assertEquals(100, list.size());
+		assertFalse(list.isEmpty());
+		for(int i = 0; i < 100; i++){
+			assertEquals((float) i, list.get(i));
+		}
+	}
+	
+	@Test
+	public void testGetOutOfBounds(){
+		FloatList list = FloatList.of(1.5f, 2.5f);
+		try{
+			list.get(2);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("Index 2 out of bounds for length 2", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testSet(){
+		FloatList list = FloatList.of(1.5f, 2.5f);
+		assertEquals(2.5f, list.set(1, 3.5f));
+		assertEquals(3.5f, list.get(1));
+	}
+	
+	@Test
+	public void testAddAll(){
+		FloatList list = FloatList.of(1.5f);
+		list.addAll(2.5f, 3.5f);
+		list.addAll(new float[]{1.5f, 2.5f, 3.5f}, 1, 1);
+		list.addAll(FloatList.of(3.5f));
+		list.addAll(List.of(1.5f));
+		assertArrayEquals(new float[]{1.5f, 2.5f, 3.5f, 2.5f, 3.5f, 1.5f}, list.toArray());
+	}
+	
+	@Test
+	public void testAddAllBadRange(){
+		try{
+			new FloatList().addAll(new float[2], 1, 2);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("Range [1, 1 + 2) out of bounds for length 2", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testFrom(){
+		List<Float> boxed = new LinkedList<>(List.of(3.5f, 1.5f, 2.5f));
+		FloatList list = FloatList.from(boxed);
+		assertArrayEquals(new float[]{3.5f, 1.5f, 2.5f}, list.toArray());
+		assertEquals(3, list.capacity());
+	}
+	
+	@Test
+	public void testClear(){
+		FloatList list = FloatList.of(1.5f, 2.5f);
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertEquals(2, list.capacity());
+	}
+	
+	@Test
+	public void testEnsureCapacityAndTrim(){
+		FloatList list = FloatList.of(1.5f);
+		list.ensureCapacity(50);
+		assertTrue(list.capacity() >= 50);
+		list.trimToSize();
+		assertEquals(1, list.capacity());
+	}
+	
+	@Test
+	public void testSortAndBinarySearch(){
+		FloatList list = FloatList.of(3.5f, 1.5f, 2.5f);
+		list.add(4.5f);
+		list.sort();
+		assertArrayEquals(new float[]{1.5f, 2.5f, 3.5f, 4.5f}, list.toArray());
+		assertEquals(2, list.binarySearch(3.5f));
+		assertTrue(list.binarySearch(3.0f) < 0);
+	}
+	
+	@Test
+	public void testSortOnlySortsValues(){
+		// The unused capacity (zeroes) must not be sorted into the values
+		FloatList list = new FloatList(10);
+		list.addAll(3.5f, 2.5f);
+		list.sort();
+		assertArrayEquals(new float[]{2.5f, 3.5f}, list.toArray());
+	}
+	
+	@Test
+	public void testToArrayCopies(){
+		FloatList list = FloatList.of(1.5f, 2.5f);
+		float[] array = list.toArray();
+		array[0] = 3.5f;
+		assertEquals(1.5f, list.get(0));
+	}
+	
+	@Test
+	public void testAsArray(){
+		FloatList list = new FloatList(10);
+		list.addAll(1.5f, 2.5f);
+		float[] array = list.asArray();
+		assertEquals(2, array.length);
+		assertSame(array, list.asArray());
+		array[0] = 3.5f;
+		assertEquals(3.5f, list.get(0));
+	}
+	
+	@Test
+	public void testAsBuffer(){
+		FloatList list = new FloatList(10);
+		list.addAll(1.5f, 2.5f);
+		FloatBuffer buffer = list.asBuffer();
+		assertEquals(2, buffer.remaining());
+		assertEquals(2, buffer.capacity());
+		assertEquals(1.5f, buffer.get(0));
+		list.set(1, 3.5f);
+		assertEquals(3.5f, buffer.get(1));
+	}
+	
+	@Test
+	public void testEqualsAndHashCode(){
+		FloatList list = FloatList.of(1.5f, 2.5f);
+		FloatList same = new FloatList(20);
+		same.addAll(1.5f, 2.5f);
+		assertNotSame(list, same);
+		assertEquals(list, same);
+		assertEquals(list.hashCode(), same.hashCode());
+		assertEquals(List.of(1.5f, 2.5f).hashCode(), list.hashCode());
+		assertNotEquals(list, FloatList.of(1.5f));
+	}
+	
+	@Test
+	public void testToString(){
+		assertEquals("[]", new FloatList().toString());
+		assertEquals(List.of(1.5f, 2.5f).toString(), FloatList.of(1.5f, 2.5f).toString());
+	}
+	
+	@Test
+	public void testSortNaNAndNegativeZero(){
+		FloatList list = FloatList.of(Float.NaN, 0.0f, -0.0f, -1f);
+		list.sort();
+		assertArrayEquals(new float[]{-1f, -0.0f, 0.0f, Float.NaN}, list.toArray());
+	}
+}
@@ -0,0 +1,194 @@
+package com.github.tadukoo.util.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.IntBuffer;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class IntListTest{
+	
+	@Test
+	public void testEmpty(){
+		IntList list = new IntList();
+		assertEquals(0, list.size());
+		assertTrue(list.isEmpty());
+		assertEquals(10, list.capacity());
+	}
+	
+	@Test
+	public void testInitialCapacity(){
+		assertEquals(3, new IntList(3).capacity());
+		assertEquals(0, new IntList(0).capacity());
+	}
+	
+	@Test
+	public void testNegativeInitialCapacity(){
+		try{
+			new IntList(-1);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Initial capacity must not be negative, but was -1!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testAddAndGet(){
+		IntList list = new IntList(0);
+		for(int i = 0; i < 100; i++){
+			list.add((int) i);
+		}
+		assertEquals(100, list.size());
+		assertFalse(list.isEmpty());
+		for(int i = 0; i < 100; i++){
+			assertEquals((int) i, list.get(i));
+		}
+	}
+	
+	@Test
+	public void testGetOutOfBounds(){
+		IntList list = IntList.of(1, 2);
+		try{
+			list.get(2);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("Index 2 out of bounds for length 2", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testSet(){
+		IntList list = IntList.of(1, 2);
+		assertEquals(2, list.set(1, 3));
+		assertEquals(3, list.get(1));
+	}
+	
+	@Test
+	public void testAddAll(){
+		IntList list = IntList.of(1);
+		list.addAll(2, 3);
+		list.addAll(new int[]{1, 2, 3}, 1, 1);
+		list.addAll(IntList.of(3));
+		list.addAll(List.of(1));
+		assertArrayEquals(new int[]{1, 2, 3, 2, 3, 1}, list.toArray());
+	}
+	
+	@Test
+	public void testAddAllBadRange(){
+		try{
+			new IntList().addAll(new int[2], 1, 2);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("Range [1, 1 + 2) out of bounds for length 2", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testFrom(){
+		List<Integer> boxed = new LinkedList<>(List.of(3, 1, 2));
+		IntList list = IntList.from(boxed);
+		assertArrayEquals(new int[]{3, 1, 2}, list.toArray());
+		assertEquals(3, list.capacity());
+	}
+	
+	@Test
+	public void testClear(){
+		IntList list = IntList.of(1, 2);
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertEquals(2, list.capacity());
+	}
+	
+	@Test
+	public void testEnsureCapacityAndTrim(){
+		IntList list = IntList.of(1);
+		list.ensureCapacity(50);
+		assertTrue(list.capacity() >= 50);
+		list.trimToSize();
+		assertEquals(1, list.capacity());
+	}
+	
+	@Test
+	public void testSortAndBinarySearch(){
+		IntList list = IntList.of(3, 1, 2);
+		list.add(4);
+		list.sort();
+		assertArrayEquals(new int[]{1, 2, 3, 4}, list.toArray());
+		assertEquals(2, list.binarySearch(3));
+		assertTrue(list.binarySearch(5) < 0);
+	}
+	
+	@Test
+	public void testSortOnlySortsValues(){
+		// The unused capacity (zeroes) must not be sorted into the values
+		IntList list = new IntList(10);
+		list.addAll(3, 2);
+		list.sort();
+		assertArrayEquals(new int[]{2, 3}, list.toArray());
+	}
+	
+	@Test
+	public void testToArrayCopies(){
+		IntList list = IntList.of(1, 2);
+		int[] array = list.toArray();
+		array[0] = 3;
+		assertEquals(1, list.get(0));
+	}
+	
+	@Test
+	public void testAsArray(){
+		IntList list = new IntList(10);
+		list.addAll(1, 2);
+		int[] array = list.asArray();
+		assertEquals(2, array.length);
+		assertSame(array, list.asArray());
+		array[0] = 3;
+		assertEquals(3, list.get(0));
+	}
+	
+	@Test
+	public void testAsBuffer(){
+		IntList list = new IntList(10);
+		list.addAll(1, 2);
+		IntBuffer buffer = list.asBuffer();
+		assertEquals(2, buffer.remaining());
+		assertEquals(2, buffer.capacity());
+		assertEquals(1, buffer.get(0));
+		list.set(1, 3);
+		assertEquals(3, buffer.get(1));
+	}
+	
+	@Test
+	public void testEqualsAndHashCode(){
+		IntList list = IntList.of(1, 2);
+		IntList same = new IntList(20);
+		same.addAll(1, 2);
+		assertNotSame(list, same);
+		assertEquals(list, same);
+		assertEquals(list.hashCode(), same.hashCode());
+		assertEquals(List.of(1, 2).hashCode(), list.hashCode());
+		assertNotEquals(list, IntList.of(1));
+	}
+	
+	@Test
+	public void testToString(){
+		assertEquals("[]", new IntList().toString());
+		assertEquals(List.of(1, 2).toString(), IntList.of(1, 2).toString());
+	}
+	
+	@Test
+	public void testStream(){
+		IntList list = new IntList(10);
+		list.addAll(1, 2, 3);
+		assertArrayEquals(new int[]{1, 2, 3}, list.stream().toArray());
+	}
+}
@@ -0,0 +1,194 @@
+package com.github.tadukoo.util.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.LongBuffer;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class LongListTest{
+	
+	@Test
+	public void testEmpty(){
+		LongList list = new LongList();
+		assertEquals(0, list.size());
+		assertTrue(list.isEmpty());
+		assertEquals(10, list.capacity());
+	}
+	
+	@Test
+	public void testInitialCapacity(){
+		assertEquals(3, new LongList(3).capacity());
+		assertEquals(0, new LongList(0).capacity());
+	}
+	
+	@Test
+	public void testNegativeInitialCapacity(){
+		try{
+			new LongList(-1);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Initial capacity must not be negative, but was -1!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testAddAndGet(){
+		LongList list = new LongList(0);
+		for(int i = 0; i < 100; i++){
+			list.add((long) i);
+		}
+		assertEquals(100, list.size());
+		assertFalse(list.isEmpty());
+		for(int i = 0; i < 100; i++){
+			assertEquals((long) i, list.get(i));
+		}
+	}
+	
+	@Test
+	public void testGetOutOfBounds(){
+		LongList list = LongList.of(1L, 2L);
+		try{
+			list.get(2);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("Index 2 out of bounds for length 2", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testSet(){
+		LongList list = LongList.of(1L, 2L);
+		assertEquals(2L, list.set(1, 3L));
+		assertEquals(3L, list.get(1));
+	}
+	
+	@Test
+	public void testAddAll(){
+		LongList list = LongList.of(1L);
+		list.addAll(2L, 3L);
+		list.addAll(new long[]{1L, 2L, 3L}, 1, 1);
+		list.addAll(LongList.of(3L));
+		list.addAll(List.of(1L));
+		assertArrayEquals(new long[]{1L, 2L, 3L, 2L, 3L, 1L}, list.toArray());
+	}
+	
+	@Test
+	public void testAddAllBadRange(){
+		try{
+			new LongList().addAll(new long[2], 1, 2);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals("Range [1, 1 + 2) out of bounds for length 2", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testFrom(){
+		List<Long> boxed = new LinkedList<>(List.of(3L, 1L, 2L));
+		LongList list = LongList.from(boxed);
+		assertArrayEquals(new long[]{3L, 1L, 2L}, list.toArray());
+		assertEquals(3, list.capacity());
+	}
+	
+	@Test
+	public void testClear(){
+		LongList list = LongList.of(1L, 2L);
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertEquals(2, list.capacity());
+	}
+	
+	@Test
+	public void testEnsureCapacityAndTrim(){
+		LongList list = LongList.of(1L);
+		list.ensureCapacity(50);
+		assertTrue(list.capacity() >= 50);
+		list.trimToSize();
+		assertEquals(1, list.capacity());
+	}
+	
+	@Test
+	public void testSortAndBinarySearch(){
+		LongList list = LongList.of(3L, 1L, 2L);
+		list.add(4L);
+		list.sort();
+		assertArrayEquals(new long[]{1L, 2L, 3L, 4L}, list.toArray());
+		assertEquals(2, list.binarySearch(3L));
+		assertTrue(list.binarySearch(5L) < 0);
+	}
+	
+	@Test
+	public void testSortOnlySortsValues(){
+		// The unused capacity (zeroes) must not be sorted into the values
+		LongList list = new LongList(10);
+		list.addAll(3L, 2L);
+		list.sort();
+		assertArrayEquals(new long[]{2L, 3L}, list.toArray());
+	}
+	
+	@Test
+	public void testToArrayCopies(){
+		LongList list = LongList.of(1L, 2L);
+		long[] array = list.toArray();
+		array[0] = 3L;
+		assertEquals(1L, list.get(0));
+	}
+	
+	@Test
+	public void testAsArray(){
+		LongList list = new LongList(10);
+		list.addAll(1L, 2L);
+		long[] array = list.asArray();
+		assertEquals(2, array.length);
+		assertSame(array, list.asArray());
+		array[0] = 3L;
+		assertEquals(3L, list.get(0));
+	}
+	
+	@Test
+	public void testAsBuffer(){
+		LongList list = new LongList(10);
+		list.addAll(1L, 2L);
+		LongBuffer buffer = list.asBuffer();
+		assertEquals(2, buffer.remaining());
+		assertEquals(2, buffer.capacity());
+		assertEquals(1L, buffer.get(0));
+		list.set(1, 3L);
+		assertEquals(3L, buffer.get(1));
+	}
+	
+	@Test
+	public void testEqualsAndHashCode(){
+		LongList list = LongList.of(1L, 2L);
+		LongList same = new LongList(20);
+		same.addAll(1L, 2L);
+		assertNotSame(list, same);
+		assertEquals(list, same);
+		assertEquals(list.hashCode(), same.hashCode());
+		assertEquals(List.of(1L, 2L).hashCode(), list.hashCode());
+		assertNotEquals(list, LongList.of(1L));
+	}
+	
+	@Test
+	public void testToString(){
+		assertEquals("[]", new LongList().toString());
+		assertEquals(List.of(1L, 2L).toString(), LongList.of(1L, 2L).toString());
+	}
+	
+	@Test
+	public void testStream(){
+		LongList list = new LongList(10);
+		list.addAll(1L, 2L, 3L);
+		assertArrayEquals(new long[]{1L, 2L, 3L}, list.stream().toArray());
+	}
+}
@@ -0,0 +1,307 @@
+package com.github.tadukoo.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Case Converter caches the results of the case conversions in {@link StringUtil} (e.g.
+ * {@link StringUtil#toSnakeCase(String)}), for when the same identifiers are converted over and over. Each case
+ * has its own bounded cache, so a repeated conversion is a hash lookup that doesn't create any objects. When a
+ * cache is full, the least recently used identifier is evicted.
+ * <br><br>
+ * A CaseConverter is safe to use from multiple threads. Each cache is split into segments with their own locks
+ * (the least recently used identifier is evicted from within a segment), so threads converting different
+ * identifiers rarely wait on each other. Conversions are done outside of the locks.
+ * <br><br>
+ * Hits and misses are counted across all the caches, so {@link #getHitRate()} can be used to check that the
+ * caches are big enough.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public final class CaseConverter{
+	
+	/**
+	 * A segment of an {@link LruCache}, which is a LinkedHashMap in access order that evicts its least recently
+	 * used entry once it holds more than its maximum size.
+	 */
+	private static final class Segment extends LinkedHashMap<String, String>{
+		/** The version of this class, for serialization */
+		private static final long serialVersionUID = 1L;
+		/** The maximum number of entries in this segment */
+		private final int maximumSize;
+		
+		/**
+		 * Creates a new Segment.
+		 *
+		 * @param maximumSize The maximum number of entries in this segment
+		 */
+		private Segment(int maximumSize){
+			super(maximumSize * 4 / 3 + 1, 0.75f, true);
+			this.maximumSize = maximumSize;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, String> eldest){
+			return size() > maximumSize;
+		}
+	}
+	
+	/**
+	 * A bounded cache of conversions, split into segments that each evict their least recently used entries.
+	 */
+	private static final class LruCache{
+		/** The segments of the cache */
+		private final Segment[] segments;
+		/** The mask to turn a hash into a segment */
+		private final int mask;
+		
+		/**
+		 * Creates a new LruCache. The maximum size is split across the segments (the first few get one more
+		 * entry if it doesn't split evenly), so the segments never hold more than the maximum size in total.
+		 *
+		 * @param maximumSize The maximum number of entries in the cache
+		 * @param segmentCount The number of segments to split the cache into (a power of two, no more than the
+		 * maximum size)
+		 */
+		private LruCache(int maximumSize, int segmentCount){
+			int segmentSize = maximumSize / segmentCount;
+			int remainder = maximumSize % segmentCount;
+			segments = new Segment[segmentCount];
+			for(int i = 0; i < segmentCount; i++){
+				segments[i] = new Segment(i < remainder?segmentSize + 1:segmentSize);
+			}
+			mask = segmentCount - 1;
+		}
+		
+		/**
+		 * Grabs the cached value for the given key.
+		 *
+		 * @param key The key to look up
+		 * @return The cached value, or null if it isn't cached
+		 */
+		private String get(String key){
+			Segment segment = segmentFor(key);
+			synchronized(segment){
+				return segment.get(key);
+			}
+		}
+		
+		/**
+		 * Caches the given value for the given key.
+		 *
+		 * @param key The key to cache the value for
+		 * @param value The value to be cached
+		 */
+		private void put(String key, String value){
+			Segment segment = segmentFor(key);
+			synchronized(segment){
+				segment.put(key, value);
+			}
+		}
+		
+		/**
+		 * @return The number of entries in the cache
+		 */
+		private int size(){
+			int size = 0;
+			for(Segment segment: segments){
+				synchronized(segment){
+					size += segment.size();
+				}
+			}
+			return size;
+		}
+		
+		/**
+		 * Removes all the entries from the cache.
+		 */
+		private void clear(){
+			for(Segment segment: segments){
+				synchronized(segment){
+					segment.clear();
+				}
+			}
+		}
+		
+		/**
+		 * @param key The key to find the segment of
+		 * @return The segment for the key
+		 */
+		private Segment segmentFor(String key){
+			return segments[StringUtil.spreadHash(key.hashCode()) & mask];
+		}
+	}
+	
+	/** The most segments a cache is split into */
+	private static final int MAX_SEGMENTS = 16;
+	/** The fewest entries a segment should have, so small caches aren't split up too much */
+	private static final int MIN_SEGMENT_SIZE = 16;
+	
+	/** The maximum number of identifiers cached for each case */
+	private final int maximumSize;
+	/** The cache of PascalCase conversions */
+	private final LruCache pascalCase;
+	/** The cache of camelCase conversions */
+	private final LruCache camelCase;
+	/** The cache of snake_case conversions */
+	private final LruCache snakeCase;
+	/** The cache of kebab-case conversions */
+	private final LruCache kebabCase;
+	/** The cache of SCREAMING_SNAKE_CASE conversions */
+	private final LruCache screamingSnakeCase;
+	/** The number of conversions found in the caches */
+	private final LongAdder hits = new LongAdder();
+	/** The number of conversions not found in the caches */
+	private final LongAdder misses = new LongAdder();
+	
+	/**
+	 * Creates a new CaseConverter that caches up to the given number of identifiers for each case.
+	 *
+	 * @param maximumSize The maximum number of identifiers to cache for each case
+	 */
+	public CaseConverter(int maximumSize){
+		if(maximumSize <= 0){
+			throw new IllegalArgumentException("Maximum size must be positive, but was " + maximumSize + "!");
+		}
+		this.maximumSize = maximumSize;
+		int segmentCount = Math.max(1, Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize / MIN_SEGMENT_SIZE)));
+		pascalCase = new LruCache(maximumSize, segmentCount);
+		camelCase = new LruCache(maximumSize, segmentCount);
+		snakeCase = new LruCache(maximumSize, segmentCount);
+		kebabCase = new LruCache(maximumSize, segmentCount);
+		screamingSnakeCase = new LruCache(maximumSize, segmentCount);
+	}
+	
+	/**
+	 * @return The maximum number of identifiers cached for each case
+	 */
+	public int getMaximumSize(){
+		return maximumSize;
+	}
+	
+	/**
+	 * Converts the given text to PascalCase, the same as {@link StringUtil#toPascalCase(String)}.
+	 *
+	 * @param text The text to be converted
+	 * @return The PascalCase version of the given text
+	 */
+	public String toPascalCase(String text){
+		return convert(pascalCase, text, StringUtil::toPascalCase);
+	}
+	
+	/**
+	 * Converts the given text to camelCase, the same as {@link StringUtil#toCamelCase(String)}.
+	 *
+	 * @param text The text to be converted
+	 * @return The camelCase version of the given text
+	 */
+	public String toCamelCase(String text){
+		return convert(camelCase, text, StringUtil::toCamelCase);
+	}
+	
+	/**
+	 * Converts the given text to snake_case, the same as {@link StringUtil#toSnakeCase(String)}.
+	 *
+	 * @param text The text to be converted
+	 * @return The snake_case version of the given text
+	 */
+	public String toSnakeCase(String text){
+		return convert(snakeCase, text, StringUtil::toSnakeCase);
+	}
+	
+	/**
+	 * Converts the given text to kebab-case, the same as {@link StringUtil#toKebabCase(String)}.
+	 *
+	 * @param text The text to be converted
+	 * @return The kebab-case version of the given text
+	 */
+	public String toKebabCase(String text){
+		return convert(kebabCase, text, StringUtil::toKebabCase);
+	}
+	
+	/**
+	 * Converts the given text to SCREAMING_SNAKE_CASE, the same as {@link StringUtil#toScreamingSnakeCase(String)}.
+	 *
+	 * @param text The text to be converted
+	 * @return The SCREAMING_SNAKE_CASE version of the given text
+	 */
+	public String toScreamingSnakeCase(String text){
+		return convert(screamingSnakeCase, text, StringUtil::toScreamingSnakeCase);
+	}
+	
+	/**
+	 * @return The number of conversions found in the caches
+	 */
+	public long getHits(){
+		return hits.sum();
+	}
+	
+	/**
+	 * @return The number of conversions not found in the caches
+	 */
+	public long getMisses(){
+		return misses.sum();
+	}
+	
+	/**
+	 * @return The fraction (from 0 to 1) of conversions that were found in the caches, or 0 if nothing has
+	 * been converted yet
+	 */
+	public double getHitRate(){
+		long hitCount = hits.sum();
+		long total = hitCount + misses.sum();
+		return total == 0?0:(double) hitCount / total;
+	}
+	
+	/**
+	 * @return The number of identifiers currently cached (across all the cases)
+	 */
+	public int getCachedCount(){
+		return pascalCase.size() + camelCase.size() + snakeCase.size() + kebabCase.size() +
+				screamingSnakeCase.size();
+	}
+	
+	/**
+	 * Resets the hit and miss counts to 0 (the cached conversions are kept).
+	 */
+	public void resetStats(){
+		hits.reset();
+		misses.reset();
+	}
+	
+	/**
+	 * Removes all the cached conversions (the hit and miss counts are kept).
+	 */
+	public void clear(){
+		pascalCase.clear();
+		camelCase.clear();
+		snakeCase.clear();
+		kebabCase.clear();
+		screamingSnakeCase.clear();
+	}
+	
+	/**
+	 * Grabs the cached conversion of the given text, or converts it and caches the result if it isn't cached.
+	 *
+	 * @param cache The cache for the case being converted to
+	 * @param text The text to be converted
+	 * @param conversion The conversion to use if the text isn't cached
+	 * @return The converted text
+	 */
+	private String convert(LruCache cache, String text, UnaryOperator<String> conversion){
+		String converted = cache.get(text);
+		if(converted != null){
+			hits.increment();
+			return converted;
+		}
+		misses.increment();
+		converted = conversion.apply(text);
+		cache.put(text, converted);
+		return converted;
+	}
+}
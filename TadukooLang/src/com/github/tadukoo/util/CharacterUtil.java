@@ -1,12 +1,25 @@
 package com.github.tadukoo.util;
 
+import java.util.Objects;
+
 /**
  * Util functions for dealing with Characters.
+ * <br><br>
+ * The functions directly in CharacterUtil only deal with ASCII letters and numbers. For other scripts, use the
+ * functions in {@link Unicode}, which give the same results as {@link Character}'s functions.
+ * <br><br>
+ * There are also bulk functions (e.g. {@link #indexOfNonLetter(CharSequence, int)}) for checking many
+ * characters at once, such as when validating tokens. These check blocks of characters without branching on
+ * each one (so the JIT can unroll them), and only go back through a block one character at a time when it
+ * contains a character that doesn't match.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3.1
+ * @version Beta v.0.5
+ * @since Alpha v.0.3.1
  */
 public final class CharacterUtil{
+	/** The number of characters the bulk functions check at a time before checking for a mismatch */
+	private static final int BLOCK_SIZE = 16;
 	
 	/** Not allowed to create a CharacterUtil */
 	private CharacterUtil(){ }
@@ -66,4 +79,390 @@ public final class CharacterUtil{
 			return c;
 		}
 	}
+	
+	/**
+	 * Finds the first character in the given text, starting from the given index, that isn't an ASCII letter.
+	 *
+	 * @param text The text to be checked
+	 * @param from The index to start checking from
+	 * @return The index of the first character that isn't a letter, or -1 if they're all letters
+	 */
+	public static int indexOfNonLetter(CharSequence text, int from){
+		int length = text.length();
+		int i = Math.max(from, 0);
+		for(; i + BLOCK_SIZE <= length; i += BLOCK_SIZE){
+			int mismatch = 0;
+			for(int j = i; j < i + BLOCK_SIZE; j++){
+				mismatch |= notLetterMask(text.charAt(j));
+			}
+			if(mismatch < 0){
+				break;
+			}
+		}
+		for(; i < length; i++){
+			if(notLetterMask(text.charAt(i)) < 0){
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Finds the first character in the given text, starting from the given index, that isn't an ASCII number.
+	 *
+	 * @param text The text to be checked
+	 * @param from The index to start checking from
+	 * @return The index of the first character that isn't a number, or -1 if they're all numbers
+	 */
+	public static int indexOfNonNumber(CharSequence text, int from){
+		int length = text.length();
+		int i = Math.max(from, 0);
+		for(; i + BLOCK_SIZE <= length; i += BLOCK_SIZE){
+			int mismatch = 0;
+			for(int j = i; j < i + BLOCK_SIZE; j++){
+				mismatch |= notNumberMask(text.charAt(j));
+			}
+			if(mismatch < 0){
+				break;
+			}
+		}
+		for(; i < length; i++){
+			if(notNumberMask(text.charAt(i)) < 0){
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Checks if the given range of characters are all ASCII letters.
+	 *
+	 * @param chars The characters to be checked
+	 * @param offset The index of the first character to check
+	 * @param length The number of characters to check
+	 * @return true if all the characters in the range are letters (or the range is empty), false otherwise
+	 */
+	public static boolean allLetters(char[] chars, int offset, int length){
+		Objects.checkFromIndexSize(offset, length, chars.length);
+		int end = offset + length;
+		int mismatch = 0;
+		for(int i = offset; i < end; i++){
+			mismatch |= notLetterMask(chars[i]);
+			if(((i - offset) & (BLOCK_SIZE - 1)) == BLOCK_SIZE - 1 && mismatch < 0){
+				return false;
+			}
+		}
+		return mismatch >= 0;
+	}
+	
+	/**
+	 * Checks if the given range of characters are all ASCII numbers.
+	 *
+	 * @param chars The characters to be checked
+	 * @param offset The index of the first character to check
+	 * @param length The number of characters to check
+	 * @return true if all the characters in the range are numbers (or the range is empty), false otherwise
+	 */
+	public static boolean allDigits(char[] chars, int offset, int length){
+		Objects.checkFromIndexSize(offset, length, chars.length);
+		int end = offset + length;
+		int mismatch = 0;
+		for(int i = offset; i < end; i++){
+			mismatch |= notNumberMask(chars[i]);
+			if(((i - offset) & (BLOCK_SIZE - 1)) == BLOCK_SIZE - 1 && mismatch < 0){
+				return false;
+			}
+		}
+		return mismatch >= 0;
+	}
+	
+	/**
+	 * @param text The text to be checked
+	 * @return The number of ASCII capital letters in the given text
+	 */
+	public static int countUpperCase(CharSequence text){
+		int length = text.length();
+		int count = 0;
+		for(int i = 0; i < length; i++){
+			count += isInRange(text.charAt(i), 'A', 'Z');
+		}
+		return count;
+	}
+	
+	/**
+	 * @param chars The characters to be checked
+	 * @param offset The index of the first character to check
+	 * @param length The number of characters to check
+	 * @return The number of ASCII capital letters in the given range of characters
+	 */
+	public static int countUpperCase(char[] chars, int offset, int length){
+		Objects.checkFromIndexSize(offset, length, chars.length);
+		int end = offset + length;
+		int count = 0;
+		for(int i = offset; i < end; i++){
+			count += isInRange(chars[i], 'A', 'Z');
+		}
+		return count;
+	}
+	
+	/**
+	 * @param text The text to be checked
+	 * @return The number of ASCII lowercase letters in the given text
+	 */
+	public static int countLowerCase(CharSequence text){
+		int length = text.length();
+		int count = 0;
+		for(int i = 0; i < length; i++){
+			count += isInRange(text.charAt(i), 'a', 'z');
+		}
+		return count;
+	}
+	
+	/**
+	 * @param chars The characters to be checked
+	 * @param offset The index of the first character to check
+	 * @param length The number of characters to check
+	 * @return The number of ASCII lowercase letters in the given range of characters
+	 */
+	public static int countLowerCase(char[] chars, int offset, int length){
+		Objects.checkFromIndexSize(offset, length, chars.length);
+		int end = offset + length;
+		int count = 0;
+		for(int i = offset; i < end; i++){
+			count += isInRange(chars[i], 'a', 'z');
+		}
+		return count;
+	}
+	
+	/**
+	 * Checks if the given character is an ASCII letter without branching. Setting the 0x20 bit turns capital
+	 * letters into lowercase ones (and doesn't turn anything else into a letter), so only one range is checked.
+	 *
+	 * @param c The character to be checked
+	 * @return A negative number if the character isn't a letter, otherwise a non-negative number
+	 */
+	private static int notLetterMask(char c){
+		int offset = (c | 0x20) - 'a';
+		return offset | ('z' - 'a' - offset);
+	}
+	
+	/**
+	 * Checks if the given character is an ASCII number without branching.
+	 *
+	 * @param c The character to be checked
+	 * @return A negative number if the character isn't a number, otherwise a non-negative number
+	 */
+	private static int notNumberMask(char c){
+		int offset = c - '0';
+		return offset | ('9' - '0' - offset);
+	}
+	
+	/**
+	 * Checks if the given character is in the given range without branching.
+	 *
+	 * @param c The character to be checked
+	 * @param low The lowest character in the range
+	 * @param high The highest character in the range
+	 * @return 1 if the character is in the range, 0 otherwise
+	 */
+	private static int isInRange(char c, char low, char high){
+		return ((c - low) | (high - c)) >>> 31 ^ 1;
+	}
+	
+	/**
+	 * Unicode versions of the {@link CharacterUtil} functions, which handle all scripts (not just ASCII) and give
+	 * the same results as {@link Character#isUpperCase(char)}, {@link Character#isLowerCase(char)},
+	 * {@link Character#isLetter(char)}, {@link Character#isDigit(char)}, {@link Character#toUpperCase(char)}, and
+	 * {@link Character#toLowerCase(char)}.
+	 * <br><br>
+	 * ASCII characters are checked directly first. Other characters in the Basic Multilingual Plane are looked up
+	 * in tables covering all 65,536 chars, which are built from {@link Character} the first time they're needed
+	 * (64KB for the character classes, plus 256KB for the case conversions). Code points outside of the Basic
+	 * Multilingual Plane are passed on to {@link Character}.
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Beta v.0.5
+	 * @since Beta v.0.5
+	 */
+	public static final class Unicode{
+		/** Flag for an uppercase letter */
+		private static final byte UPPER_CASE = 1;
+		/** Flag for a lowercase letter */
+		private static final byte LOWER_CASE = 2;
+		/** Flag for a letter */
+		private static final byte LETTER = 4;
+		/** Flag for a digit */
+		private static final byte DIGIT = 8;
+		
+		/**
+		 * Holds the table of character class flags, so it's only built the first time it's used.
+		 */
+		private static final class FlagTable{
+			/** The character class flags of every char */
+			private static final byte[] FLAGS = new byte[Character.MAX_VALUE + 1];
+			
+			static{
+				for(int i = 0; i <= Character.MAX_VALUE; i++){
+					char c = (char) i;
+					FLAGS[i] = (byte) ((Character.isUpperCase(c)?UPPER_CASE:0) |
+							(Character.isLowerCase(c)?LOWER_CASE:0) |
+							(Character.isLetter(c)?LETTER:0) |
+							(Character.isDigit(c)?DIGIT:0));
+				}
+			}
+		}
+		
+		/**
+		 * Holds the tables of case conversions, so they're only built the first time they're used.
+		 */
+		private static final class CaseTable{
+			/** The uppercase version of every char */
+			private static final char[] UPPER = new char[Character.MAX_VALUE + 1];
+			/** The lowercase version of every char */
+			private static final char[] LOWER = new char[Character.MAX_VALUE + 1];
+			
+			static{
+				for(int i = 0; i <= Character.MAX_VALUE; i++){
+					char c = (char) i;
+					UPPER[i] = Character.toUpperCase(c);
+					LOWER[i] = Character.toLowerCase(c);
+				}
+			}
+		}
+		
+		/** Not allowed to create a Unicode */
+		private Unicode(){ }
+		
+		/**
+		 * @param c The character to be checked
+		 * @return true if the given character is an uppercase letter in any script, false otherwise
+		 */
+		public static boolean isUpperCase(char c){
+			if(c < 128){
+				return CharacterUtil.isUpperCase(c);
+			}
+			return (FlagTable.FLAGS[c] & UPPER_CASE) != 0;
+		}
+		
+		/**
+		 * @param codePoint The code point to be checked
+		 * @return true if the given code point is an uppercase letter in any script, false otherwise
+		 */
+		public static boolean isUpperCase(int codePoint){
+			if(codePoint > Character.MAX_VALUE || codePoint < 0){
+				return Character.isUpperCase(codePoint);
+			}
+			return isUpperCase((char) codePoint);
+		}
+		
+		/**
+		 * @param c The character to be checked
+		 * @return true if the given character is a lowercase letter in any script, false otherwise
+		 */
+		public static boolean isLowerCase(char c){
+			if(c < 128){
+				return CharacterUtil.isLowerCase(c);
+			}
+			return (FlagTable.FLAGS[c] & LOWER_CASE) != 0;
+		}
+		
+		/**
+		 * @param codePoint The code point to be checked
+		 * @return true if the given code point is a lowercase letter in any script, false otherwise
+		 */
+		public static boolean isLowerCase(int codePoint){
+			if(codePoint > Character.MAX_VALUE || codePoint < 0){
+				return Character.isLowerCase(codePoint);
+			}
+			return isLowerCase((char) codePoint);
+		}
+		
+		/**
+		 * @param c The character to be checked
+		 * @return true if the given character is a letter in any script, false otherwise
+		 */
+		public static boolean isLetter(char c){
+			if(c < 128){
+				return CharacterUtil.isLetter(c);
+			}
+			return (FlagTable.FLAGS[c] & LETTER) != 0;
+		}
+		
+		/**
+		 * @param codePoint The code point to be checked
+		 * @return true if the given code point is a letter in any script, false otherwise
+		 */
+		public static boolean isLetter(int codePoint){
+			if(codePoint > Character.MAX_VALUE || codePoint < 0){
+				return Character.isLetter(codePoint);
+			}
+			return isLetter((char) codePoint);
+		}
+		
+		/**
+		 * @param c The character to be checked
+		 * @return true if the given character is a decimal digit in any script, false otherwise
+		 */
+		public static boolean isNumber(char c){
+			if(c < 128){
+				return CharacterUtil.isNumber(c);
+			}
+			return (FlagTable.FLAGS[c] & DIGIT) != 0;
+		}
+		
+		/**
+		 * @param codePoint The code point to be checked
+		 * @return true if the given code point is a decimal digit in any script, false otherwise
+		 */
+		public static boolean isNumber(int codePoint){
+			if(codePoint > Character.MAX_VALUE || codePoint < 0){
+				return Character.isDigit(codePoint);
+			}
+			return isNumber((char) codePoint);
+		}
+		
+		/**
+		 * @param c The character to be capitalized
+		 * @return The uppercase version of the given character, or the character itself if it doesn't have one
+		 */
+		public static char toUpperCase(char c){
+			if(c < 128){
+				return CharacterUtil.toUpperCase(c);
+			}
+			return CaseTable.UPPER[c];
+		}
+		
+		/**
+		 * @param codePoint The code point to be capitalized
+		 * @return The uppercase version of the given code point, or the code point itself if it doesn't have one
+		 */
+		public static int toUpperCase(int codePoint){
+			if(codePoint > Character.MAX_VALUE || codePoint < 0){
+				return Character.toUpperCase(codePoint);
+			}
+			return toUpperCase((char) codePoint);
+		}
+		
+		/**
+		 * @param c The character to change to lowercase
+		 * @return The lowercase version of the given character, or the character itself if it doesn't have one
+		 */
+		public static char toLowerCase(char c){
+			if(c < 128){
+				return CharacterUtil.toLowerCase(c);
+			}
+			return CaseTable.LOWER[c];
+		}
+		
+		/**
+		 * @param codePoint The code point to change to lowercase
+		 * @return The lowercase version of the given code point, or the code point itself if it doesn't have one
+		 */
+		public static int toLowerCase(int codePoint){
+			if(codePoint > Character.MAX_VALUE || codePoint < 0){
+				return Character.toLowerCase(codePoint);
+			}
+			return toLowerCase((char) codePoint);
+		}
+	}
 }
@@ -1,7 +1,9 @@
 package com.github.tadukoo.util;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Util functions for dealing with {@link Throwable Throwables} and {@link Exception Exceptions}. 
@@ -35,4 +37,24 @@ public final class ExceptionUtil{
 		// Return the written stack trace string
 		return sw.toString();
 	}
+	
+	/**
+	 * Unwraps the cause of the given {@link ExecutionException} from a task that does I/O. If the cause is a
+	 * {@link RuntimeException} or {@link Error}, it's thrown directly. Otherwise, it's returned as an
+	 * {@link IOException} (wrapped if needed) for the caller to throw, e.g. {@code throw unwrapIO(e);}
+	 *
+	 * @param e The {@link ExecutionException} to unwrap
+	 * @return The cause as an {@link IOException}, to be thrown by the caller
+	 */
+	static IOException unwrapIO(ExecutionException e){
+		Throwable cause = e.getCause();
+		if(cause instanceof IOException){
+			return (IOException) cause;
+		}else if(cause instanceof RuntimeException){
+			throw (RuntimeException) cause;
+		}else if(cause instanceof Error){
+			throw (Error) cause;
+		}
+		return new IOException(cause);
+	}
 }
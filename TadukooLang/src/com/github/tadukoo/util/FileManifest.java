@@ -0,0 +1,324 @@
+package com.github.tadukoo.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * A File Manifest is a snapshot of all the regular files in a directory tree, holding the size, last modified
+ * time, and content hash of each file (by its path relative to the directory, using / as the separator).
+ * Manifests can be saved and loaded, and compared against a previous manifest with {@link #diff(FileManifest)}
+ * to find which files have been added, modified, or removed since then, so that only those files need to be
+ * processed again.
+ * <br><br>
+ * Manifests are built using {@link FileUtil#buildManifest(String, FileManifest, int)}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public class FileManifest{
+	
+	/**
+	 * A single file in a {@link FileManifest}.
+	 */
+	public static class Entry{
+		/** The path of the file, relative to the directory of the manifest */
+		private final String path;
+		/** The size of the file in bytes */
+		private final long size;
+		/** The last modified time of the file, in milliseconds since the epoch */
+		private final long lastModified;
+		/** The hex-encoded hash of the file's contents */
+		private final String hash;
+		
+		/**
+		 * Creates a new Entry for a file in a {@link FileManifest}.
+		 *
+		 * @param path The path of the file, relative to the directory of the manifest
+		 * @param size The size of the file in bytes
+		 * @param lastModified The last modified time of the file, in milliseconds since the epoch
+		 * @param hash The hex-encoded hash of the file's contents
+		 */
+		public Entry(String path, long size, long lastModified, String hash){
+			this.path = path;
+			this.size = size;
+			this.lastModified = lastModified;
+			this.hash = hash;
+		}
+		
+		/**
+		 * @return The path of the file, relative to the directory of the manifest
+		 */
+		public String getPath(){
+			return path;
+		}
+		
+		/**
+		 * @return The size of the file in bytes
+		 */
+		public long getSize(){
+			return size;
+		}
+		
+		/**
+		 * @return The last modified time of the file, in milliseconds since the epoch
+		 */
+		public long getLastModified(){
+			return lastModified;
+		}
+		
+		/**
+		 * @return The hex-encoded hash of the file's contents
+		 */
+		public String getHash(){
+			return hash;
+		}
+		
+		/**
+		 * Checks if the given Entry has the same size and last modified time as this one, in which case
+		 * the file is assumed to be unchanged without checking its hash.
+		 *
+		 * @param other The Entry to compare to
+		 * @return true if the size and last modified time are the same
+		 */
+		public boolean sameSizeAndTime(Entry other){
+			return other != null && size == other.size && lastModified == other.lastModified;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean equals(Object o){
+			if(this == o){
+				return true;
+			}
+			if(!(o instanceof Entry)){
+				return false;
+			}
+			Entry other = (Entry) o;
+			return size == other.size && lastModified == other.lastModified && path.equals(other.path) &&
+					Objects.equals(hash, other.hash);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int hashCode(){
+			return Objects.hash(path, size, lastModified, hash);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public String toString(){
+			return path + " (" + size + " bytes, modified " + lastModified + ", hash " + hash + ")";
+		}
+	}
+	
+	/**
+	 * The differences between two {@link FileManifest FileManifests}, as paths relative to the manifests'
+	 * directory.
+	 */
+	public static class Diff{
+		/** The paths of files that are new */
+		private final List<String> added;
+		/** The paths of files whose contents have changed */
+		private final List<String> modified;
+		/** The paths of files that no longer exist */
+		private final List<String> removed;
+		
+		/**
+		 * Creates a new Diff of two {@link FileManifest FileManifests}.
+		 *
+		 * @param added The paths of files that are new
+		 * @param modified The paths of files whose contents have changed
+		 * @param removed The paths of files that no longer exist
+		 */
+		public Diff(List<String> added, List<String> modified, List<String> removed){
+			this.added = Collections.unmodifiableList(added);
+			this.modified = Collections.unmodifiableList(modified);
+			this.removed = Collections.unmodifiableList(removed);
+		}
+		
+		/**
+		 * @return The paths of files that are new
+		 */
+		public List<String> getAdded(){
+			return added;
+		}
+		
+		/**
+		 * @return The paths of files whose contents have changed
+		 */
+		public List<String> getModified(){
+			return modified;
+		}
+		
+		/**
+		 * @return The paths of files that no longer exist
+		 */
+		public List<String> getRemoved(){
+			return removed;
+		}
+		
+		/**
+		 * @return The paths of files that need to be processed again (both added and modified files)
+		 */
+		public List<String> getChanged(){
+			List<String> changed = new ArrayList<>(added.size() + modified.size());
+			changed.addAll(added);
+			changed.addAll(modified);
+			return changed;
+		}
+		
+		/**
+		 * @return true if nothing has changed between the two manifests
+		 */
+		public boolean isEmpty(){
+			return added.isEmpty() && modified.isEmpty() && removed.isEmpty();
+		}
+	}
+	
+	/** The entries in this manifest, sorted by path */
+	private final Map<String, Entry> entries = new TreeMap<>();
+	
+	/**
+	 * Creates a new FileManifest containing the given entries.
+	 *
+	 * @param entries The entries to be in the manifest
+	 */
+	public FileManifest(Collection<Entry> entries){
+		for(Entry entry: entries){
+			this.entries.put(entry.getPath(), entry);
+		}
+	}
+	
+	/**
+	 * @return An unmodifiable Map of the entries in this manifest, by path
+	 */
+	public Map<String, Entry> getEntries(){
+		return Collections.unmodifiableMap(entries);
+	}
+	
+	/**
+	 * @param path The path (relative to the manifest's directory) of the entry to grab
+	 * @return The entry for the given path, or null if there isn't one
+	 */
+	public Entry getEntry(String path){
+		return entries.get(path);
+	}
+	
+	/**
+	 * @return The number of files in this manifest
+	 */
+	public int size(){
+		return entries.size();
+	}
+	
+	/**
+	 * Compares this manifest to the given previous manifest of the same directory. Files are modified if their
+	 * content hash is different, so files that have only been touched aren't included.
+	 *
+	 * @param previous The previous manifest to compare to (if null, every file is added)
+	 * @return A {@link Diff} of the files that have changed since the previous manifest
+	 */
+	public Diff diff(FileManifest previous){
+		Map<String, Entry> previousEntries = previous == null?Collections.emptyMap():previous.entries;
+		List<String> added = new ArrayList<>();
+		List<String> modified = new ArrayList<>();
+		List<String> removed = new ArrayList<>();
+		
+		for(Entry entry: entries.values()){
+			Entry previousEntry = previousEntries.get(entry.getPath());
+			if(previousEntry == null){
+				added.add(entry.getPath());
+			}else if(!Objects.equals(entry.getHash(), previousEntry.getHash())){
+				modified.add(entry.getPath());
+			}
+		}
+		for(String path: previousEntries.keySet()){
+			if(!entries.containsKey(path)){
+				removed.add(path);
+			}
+		}
+		return new Diff(added, modified, removed);
+	}
+	
+	/**
+	 * Saves this manifest to the file at the given path, with one line per entry.
+	 *
+	 * @param filepath The path to save the manifest to
+	 * @throws IOException If something goes wrong in saving the manifest
+	 */
+	public void save(String filepath) throws IOException{
+		// The path goes last, as it's the only part that can contain tabs
+		FileUtil.writeLines(filepath, entries.values().stream()
+				.map(entry -> entry.getHash() + '\t' + entry.getSize() + '\t' + entry.getLastModified() + '\t' +
+						escapePath(entry.getPath())), StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Loads a manifest that was saved with {@link #save(String)}.
+	 *
+	 * @param filepath The path to load the manifest from
+	 * @return The loaded FileManifest
+	 * @throws IOException If something goes wrong in loading the manifest, or the file isn't a manifest
+	 */
+	public static FileManifest load(String filepath) throws IOException{
+		List<Entry> entries = new ArrayList<>();
+		FileUtil.forEachLine(filepath, StandardCharsets.UTF_8, line -> {
+			if(line.length() == 0){
+				return;
+			}
+			String[] pieces = line.toString().split("\t", 4);
+			if(pieces.length != 4){
+				throw new IOException("Invalid file manifest line in " + filepath + ": " + line);
+			}
+			try{
+				entries.add(new Entry(unescapePath(pieces[3]), Long.parseLong(pieces[1]), Long.parseLong(pieces[2]),
+						pieces[0]));
+			}catch(NumberFormatException e){
+				throw new IOException("Invalid file manifest line in " + filepath + ": " + line, e);
+			}
+		});
+		return new FileManifest(entries);
+	}
+	
+	/**
+	 * Escapes backslashes and line breaks in the given path so it fits on a single line.
+	 *
+	 * @param path The path to be escaped
+	 * @return The escaped path
+	 */
+	private static String escapePath(String path){
+		return path.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+	}
+	
+	/**
+	 * Reverses {@link #escapePath(String)}.
+	 *
+	 * @param path The escaped path
+	 * @return The original path
+	 */
+	private static String unescapePath(String path){
+		if(path.indexOf('\\') == -1){
+			return path;
+		}
+		
+		StringBuilder unescaped = new StringBuilder(path.length());
+		for(int i = 0; i < path.length(); i++){
+			char c = path.charAt(i);
+			if(c == '\\' && i + 1 < path.length()){
+				char next = path.charAt(++i);
+				unescaped.append(next == 'n'?'\n':(next == 'r'?'\r':next));
+			}else{
+				unescaped.append(c);
+			}
+		}
+		return unescaped.toString();
+	}
+}
@@ -7,18 +7,65 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
@@ -30,6 +77,142 @@ import java.util.zip.ZipOutputStream;
  * @since Pre-Alpha
  */
 public final class FileUtil{
+	/** The default size (in bytes) of the chunks used by {@link #forEachChunk(String, ChunkConsumer)} */
+	public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+	/** The default size (in bytes) of the blocks compressed separately by {@link #gzipParallel(String, String)} */
+	public static final int DEFAULT_GZIP_BLOCK_SIZE = 1024 * 1024;
+	/** The size (in bytes) of the blocks decoded at a time by {@link #forEachLine(String, Charset, LineConsumer)} */
+	private static final int LINE_BLOCK_SIZE = 64 * 1024;
+	/** The size (in bytes) of the buffers used by {@link #unzipFileParallel(String, File, int)} */
+	private static final int UNZIP_BUFFER_SIZE = 256 * 1024;
+	/** The size (in bytes) of the buffers used by {@link #gzip(File, String, int)} and {@link #gunzip} */
+	private static final int GZIP_BUFFER_SIZE = 256 * 1024;
+	/** The size (in bytes) of the buffers used by {@link #writeFile(String, CharSequence, Charset, boolean)} */
+	private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+	/** The size (in bytes) of the buffers used to hash file contents by {@link #buildManifest(String)} */
+	private static final int HASH_BUFFER_SIZE = 256 * 1024;
+	/** The algorithm used to hash file contents in a {@link FileManifest} */
+	private static final String MANIFEST_HASH_ALGORITHM = "SHA-256";
+	/** A direct buffer for each thread to encode content into when writing files */
+	private static final ThreadLocal<ByteBuffer> WRITE_BUFFER =
+			ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE));
+	/**
+	 * File extensions of common already-compressed formats, which are stored without compression by
+	 * {@link #zipFileParallel(File, String, int, int, Collection)} by default
+	 */
+	public static final Set<String> COMPRESSED_FILE_EXTENSIONS = Set.of("zip", "jar", "war", "ear", "gz", "tgz",
+			"bz2", "xz", "7z", "rar", "zst", "png", "jpg", "jpeg", "gif", "webp", "mp3", "mp4", "ogg", "webm");
+	
+	/**
+	 * A consumer for chunks of a file read through {@link #forEachChunk(String, int, ChunkConsumer)}.
+	 * The same {@link ByteBuffer} is reused for every chunk, so its contents should not be held onto
+	 * after {@link #accept(ByteBuffer)} returns.
+	 */
+	@FunctionalInterface
+	public interface ChunkConsumer{
+		
+		/**
+		 * Handles a single chunk of the file. The buffer's position is at the start of the chunk
+		 * and its limit is at the end of the chunk.
+		 *
+		 * @param chunk The {@link ByteBuffer} containing the current chunk of the file
+		 * @throws IOException If something goes wrong in handling the chunk
+		 */
+		void accept(ByteBuffer chunk) throws IOException;
+	}
+	
+	/**
+	 * A consumer for lines of a file read through {@link #forEachLine(String, Charset, LineConsumer)}.
+	 * The {@link CharSequence} given for each line is a reusable view over an internal buffer, so it is
+	 * only valid until {@link #accept(CharSequence)} returns. Use {@link CharSequence#toString()} to keep a
+	 * copy of the line.
+	 */
+	@FunctionalInterface
+	public interface LineConsumer{
+		
+		/**
+		 * Handles a single line of the file (without any line terminator).
+		 *
+		 * @param line A view of the current line of the file
+		 * @throws IOException If something goes wrong in handling the line
+		 */
+		void accept(CharSequence line) throws IOException;
+	}
+	
+	/**
+	 * A {@link GZIPOutputStream} that compresses with the given compression level instead of the default one.
+	 */
+	private static final class LevelGZIPOutputStream extends GZIPOutputStream{
+		
+		/**
+		 * Creates a new LevelGZIPOutputStream.
+		 *
+		 * @param out The {@link OutputStream} to write the compressed data to
+		 * @param compressionLevel The compression level (0-9 or {@link Deflater#DEFAULT_COMPRESSION}) to use
+		 * @throws IOException If something goes wrong in writing the gzip header
+		 */
+		private LevelGZIPOutputStream(OutputStream out, int compressionLevel) throws IOException{
+			super(out, GZIP_BUFFER_SIZE);
+			def.setLevel(compressionLevel);
+		}
+	}
+	
+	/**
+	 * A reusable {@link CharSequence} window over a char array, used to hand lines to a {@link LineConsumer}
+	 * without copying them into Strings.
+	 */
+	private static final class LineView implements CharSequence{
+		/** The array backing the current line */
+		private char[] chars;
+		/** The index of the start of the current line in {@link #chars} */
+		private int offset;
+		/** The length of the current line */
+		private int length;
+		
+		/**
+		 * Moves this view to the given section of the given array.
+		 *
+		 * @param chars The array backing the line
+		 * @param offset The index of the start of the line
+		 * @param length The length of the line
+		 */
+		private void set(char[] chars, int offset, int length){
+			this.chars = chars;
+			this.offset = offset;
+			this.length = length;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int length(){
+			return length;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public char charAt(int index){
+			if(index < 0 || index >= length){
+				throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+			}
+			return chars[offset + index];
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public CharSequence subSequence(int start, int end){
+			if(start < 0 || end > length || start > end){
+				throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " +
+						length);
+			}
+			return new String(chars, offset + start, end - start);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public String toString(){
+			return new String(chars, offset, length);
+		}
+	}
 	
 	/** Not allowed to create a FileUtil */
 	private FileUtil(){ }
@@ -80,6 +263,118 @@ public final class FileUtil{
 		return listAllFiles(directory.getPath());
 	}
 	
+	/**
+	 * Builds a {@link FileManifest} of all the regular files in the given directory and any of its
+	 * sub-directories, hashing the files using a thread for each available processor.
+	 * See {@link #buildManifest(String, FileManifest, int)} for more details.
+	 *
+	 * @param directoryPath The path to the directory to build a manifest of
+	 * @return A {@link FileManifest} of the directory
+	 * @throws IOException If something goes wrong in reading the files
+	 */
+	public static FileManifest buildManifest(String directoryPath) throws IOException{
+		return buildManifest(directoryPath, null, Runtime.getRuntime().availableProcessors());
+	}
+	
+	/**
+	 * Builds a {@link FileManifest} of all the regular files in the given directory and any of its
+	 * sub-directories, which can be compared to a previous manifest using {@link FileManifest#diff(FileManifest)}
+	 * to find which files need to be processed again. The size and last modified time of each file are read
+	 * while walking the directory, and if they match the entry in the given previous manifest, its hash is
+	 * reused without reading the file. Any other files are hashed (with SHA-256) in parallel on the given
+	 * number of threads.
+	 *
+	 * @param directoryPath The path to the directory to build a manifest of
+	 * @param previous A previous manifest of the directory to reuse hashes from (can be null)
+	 * @param threads The number of threads to hash files with
+	 * @return A {@link FileManifest} of the directory
+	 * @throws IOException If something goes wrong in reading the files
+	 */
+	public static FileManifest buildManifest(String directoryPath, FileManifest previous,
+	                                         int threads) throws IOException{
+		if(threads <= 0){
+			throw new IllegalArgumentException("Number of threads must be positive, but was " + threads + "!");
+		}
+		Path directory = Paths.get(directoryPath);
+		
+		// Find all the files, reusing previous entries for files whose size and last modified time haven't changed
+		List<FileManifest.Entry> entries = new ArrayList<>();
+		List<FileManifest.Entry> toHash = new ArrayList<>();
+		Files.walkFileTree(directory, new SimpleFileVisitor<>(){
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes){
+				if(attributes.isRegularFile()){
+					String relativePath = directory.relativize(file).toString().replace(File.separatorChar, '/');
+					FileManifest.Entry entry = new FileManifest.Entry(relativePath, attributes.size(),
+							attributes.lastModifiedTime().toMillis(), null);
+					FileManifest.Entry previousEntry = previous == null?null:previous.getEntry(relativePath);
+					if(entry.sameSizeAndTime(previousEntry)){
+						entries.add(previousEntry);
+					}else{
+						toHash.add(entry);
+					}
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		
+		// Hash the rest of the files in batches, with a few batches per thread so the threads stay busy
+		int batchSize = Math.max(1, toHash.size() / (threads * 4));
+		List<Callable<List<FileManifest.Entry>>> tasks = new ArrayList<>();
+		for(int start = 0; start < toHash.size(); start += batchSize){
+			List<FileManifest.Entry> batch = toHash.subList(start, Math.min(toHash.size(), start + batchSize));
+			tasks.add(() -> {
+				MessageDigest digest = newManifestDigest();
+				ByteBuffer buffer = ByteBuffer.allocate(HASH_BUFFER_SIZE);
+				List<FileManifest.Entry> hashed = new ArrayList<>(batch.size());
+				for(FileManifest.Entry entry: batch){
+					hashed.add(new FileManifest.Entry(entry.getPath(), entry.getSize(), entry.getLastModified(),
+							hashFile(directory.resolve(entry.getPath()), digest, buffer)));
+				}
+				return hashed;
+			});
+		}
+		for(List<FileManifest.Entry> hashed: runInParallel(tasks, threads)){
+			entries.addAll(hashed);
+		}
+		
+		return new FileManifest(entries);
+	}
+	
+	/**
+	 * @return A new {@link MessageDigest} for hashing file contents in a {@link FileManifest}
+	 */
+	private static MessageDigest newManifestDigest(){
+		try{
+			return MessageDigest.getInstance(MANIFEST_HASH_ALGORITHM);
+		}catch(NoSuchAlgorithmException e){
+			// Every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	/**
+	 * Hashes the contents of the file at the given {@link Path}.
+	 *
+	 * @param path The {@link Path} of the file to be hashed
+	 * @param digest The {@link MessageDigest} to hash with (it will be reset)
+	 * @param buffer The buffer to read the file with
+	 * @return The hex-encoded hash of the file
+	 * @throws IOException If something goes wrong in reading the file
+	 */
+	private static String hashFile(Path path, MessageDigest digest, ByteBuffer buffer) throws IOException{
+		digest.reset();
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+			buffer.clear();
+			while(channel.read(buffer) >= 0){
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
+			}
+		}
+		return ByteUtil.toHex(digest.digest());
+	}
+	
 	/**
 	 * Creates a file at the given filepath, including any directories necessary, 
 	 * and returns the {@link File} object to be used.
@@ -125,6 +420,177 @@ public final class FileUtil{
 		return directory;
 	}
 	
+	/**
+	 * Copies the file at the given source path to the given destination path, replacing the destination if it
+	 * already exists. See {@link #copyFile(File, File, boolean)} for more details.
+	 *
+	 * @param sourcePath The path of the file to be copied
+	 * @param destinationPath The path to copy the file to
+	 * @throws IOException If something goes wrong in copying the file
+	 */
+	public static void copyFile(String sourcePath, String destinationPath) throws IOException{
+		copyFile(new File(sourcePath), new File(destinationPath), false);
+	}
+	
+	/**
+	 * Copies the given source file to the given destination file, replacing the destination if it already
+	 * exists and creating any directories necessary. The contents are copied using
+	 * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which lets the
+	 * operating system copy the file directly (e.g. with sendfile or copy_file_range) instead of pulling
+	 * every byte through the heap.
+	 *
+	 * @param source The file to be copied
+	 * @param destination The file to copy to
+	 * @param preserveAttributes Whether to copy the file's timestamps (and permissions, where supported) as well
+	 * @throws IOException If something goes wrong in copying the file
+	 */
+	public static void copyFile(File source, File destination, boolean preserveAttributes) throws IOException{
+		Path sourcePath = source.toPath();
+		Path destPath = destination.toPath();
+		if(Files.exists(destPath) && Files.isSameFile(sourcePath, destPath)){
+			throw new IOException("Can't copy a file onto itself: " + source);
+		}
+		copyFile(sourcePath, destPath, Files.readAttributes(sourcePath, BasicFileAttributes.class), preserveAttributes);
+	}
+	
+	/**
+	 * Copies the directory at the given source path (and all its contents) to the given destination path,
+	 * copying the files concurrently using a thread for each available processor. See
+	 * {@link #copyDirectory(File, File, int, boolean)} for more details.
+	 *
+	 * @param sourcePath The path of the directory to be copied
+	 * @param destinationPath The path to copy the directory to
+	 * @throws IOException If something goes wrong in copying the directory
+	 */
+	public static void copyDirectory(String sourcePath, String destinationPath) throws IOException{
+		copyDirectory(new File(sourcePath), new File(destinationPath), Runtime.getRuntime().availableProcessors(),
+				false);
+	}
+	
+	/**
+	 * Copies the given source directory (and all its contents) to the given destination directory, replacing
+	 * any files that already exist there. The whole directory tree is walked first and its directories are
+	 * created, then the files are copied in parallel on the given number of threads, largest files first so
+	 * that one large file doesn't hold up the end of the copy. Each file is copied the same as in
+	 * {@link #copyFile(File, File, boolean)}. Symbolic links are copied as links rather than followed.
+	 *
+	 * @param source The directory to be copied
+	 * @param destination The directory to copy to
+	 * @param threads The number of threads to copy files with
+	 * @param preserveAttributes Whether to copy the timestamps (and permissions, where supported) of the files
+	 * and directories as well
+	 * @throws IOException If something goes wrong in copying the directory
+	 */
+	public static void copyDirectory(File source, File destination, int threads,
+	                                 boolean preserveAttributes) throws IOException{
+		if(threads <= 0){
+			throw new IllegalArgumentException("Number of threads must be positive, but was " + threads + "!");
+		}
+		Path sourcePath = source.getCanonicalFile().toPath();
+		Path destPath = destination.getCanonicalFile().toPath();
+		if(destPath.startsWith(sourcePath)){
+			throw new IOException("Can't copy a directory into itself: " + source + " to " + destination);
+		}
+		
+		// Walk the whole tree before copying anything
+		List<Path> directories = new ArrayList<>();
+		List<BasicFileAttributes> directoryAttributes = new ArrayList<>();
+		List<Path> files = new ArrayList<>();
+		Map<Path, BasicFileAttributes> fileAttributes = new HashMap<>();
+		Files.walkFileTree(sourcePath, new SimpleFileVisitor<>(){
+			@Override
+			public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes){
+				directories.add(directory);
+				directoryAttributes.add(attributes);
+				return FileVisitResult.CONTINUE;
+			}
+			
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes){
+				files.add(file);
+				fileAttributes.put(file, attributes);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		
+		// Create the directories, then copy the files with the largest ones first
+		for(Path directory: directories){
+			Files.createDirectories(destPath.resolve(sourcePath.relativize(directory)));
+		}
+		files.sort(Comparator.comparingLong((Path file) -> fileAttributes.get(file).size()).reversed());
+		List<Callable<Void>> tasks = new ArrayList<>(files.size());
+		for(Path file: files){
+			tasks.add(() -> {
+				Path target = destPath.resolve(sourcePath.relativize(file));
+				BasicFileAttributes attributes = fileAttributes.get(file);
+				if(attributes.isSymbolicLink()){
+					Files.copy(file, target, LinkOption.NOFOLLOW_LINKS, StandardCopyOption.REPLACE_EXISTING);
+				}else{
+					copyFile(file, target, attributes, preserveAttributes);
+				}
+				return null;
+			});
+		}
+		runInParallel(tasks, threads);
+		
+		// Copying the files changes the directories' timestamps, so they're preserved last (deepest first)
+		if(preserveAttributes){
+			for(int i = directories.size() - 1; i >= 0; i--){
+				copyAttributes(directories.get(i), destPath.resolve(sourcePath.relativize(directories.get(i))),
+						directoryAttributes.get(i));
+			}
+		}
+	}
+	
+	/**
+	 * Copies the file at the given source {@link Path} to the given destination {@link Path} using
+	 * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}.
+	 *
+	 * @param source The {@link Path} of the file to be copied
+	 * @param destination The {@link Path} to copy the file to
+	 * @param attributes The attributes of the source file
+	 * @param preserveAttributes Whether to copy the file's timestamps (and permissions, where supported) as well
+	 * @throws IOException If something goes wrong in copying the file
+	 */
+	private static void copyFile(Path source, Path destination, BasicFileAttributes attributes,
+	                             boolean preserveAttributes) throws IOException{
+		try(FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+		    FileChannel out = openForWriting(destination)){
+			// transferTo can copy less than requested (e.g. it's limited to 2GB at a time on Linux)
+			long size = in.size();
+			long position = 0;
+			while(position < size){
+				long transferred = in.transferTo(position, size - position, out);
+				if(transferred <= 0){
+					throw new IOException("Source changed during copy: " + source);
+				}
+				position += transferred;
+			}
+		}
+		if(preserveAttributes){
+			copyAttributes(source, destination, attributes);
+		}
+	}
+	
+	/**
+	 * Copies the timestamps of the given source file or directory to the given destination, along with its
+	 * permissions if the file system supports POSIX permissions.
+	 *
+	 * @param source The {@link Path} of the file or directory to copy attributes from
+	 * @param destination The {@link Path} of the file or directory to copy attributes to
+	 * @param attributes The attributes of the source
+	 * @throws IOException If something goes wrong in copying the attributes
+	 */
+	private static void copyAttributes(Path source, Path destination,
+	                                   BasicFileAttributes attributes) throws IOException{
+		PosixFileAttributeView posixView = Files.getFileAttributeView(destination, PosixFileAttributeView.class);
+		if(posixView != null){
+			posixView.setPermissions(Files.getPosixFilePermissions(source));
+		}
+		Files.getFileAttributeView(destination, BasicFileAttributeView.class).setTimes(
+				attributes.lastModifiedTime(), attributes.lastAccessTime(), attributes.creationTime());
+	}
+	
 	/**
 	 * Creates a new {@link BufferedReader} for the file at the given filepath.
 	 *
@@ -281,186 +747,1344 @@ public final class FileUtil{
 	}
 	
 	/**
-	 * Writes the given string to the file given by the filepath. 
-	 * Will create the file and its directories if they don't exist.
-	 * 
-	 * @param filepath The path to save the file to
-	 * @param content The content of the file to be written
-	 * @throws IOException If something goes wrong in writing the file
+	 * Maps the file at the given filepath into memory as a read-only {@link MappedByteBuffer}. The file
+	 * is not read into the heap, but is paged in by the operating system as the buffer is accessed.
+	 * Files larger than {@link Integer#MAX_VALUE} bytes can't be mapped into a single buffer, so use
+	 * {@link #mapSegments(String)} for those.
+	 *
+	 * @param filepath The path of the file to be mapped
+	 * @return A read-only {@link MappedByteBuffer} of the whole file
+	 * @throws IOException If something goes wrong in mapping the file, or the file is too large
 	 */
-	public static void writeFile(String filepath, String content) throws IOException{
-		// Create the File
-		File file = createFile(filepath);
-		
-		// Actually write to the file using a FileWriter
-		writeFile(new FileWriter(file), content);
+	public static MappedByteBuffer map(String filepath) throws IOException{
+		return map(Paths.get(filepath));
 	}
 	
 	/**
-	 * Writes the given string to the file given in the {@link Writer}.
-	 * 
-	 * @param writer The Writer to use in writing
-	 * @param content The content of the file to be written
-	 * @throws IOException If something goes wrong in writing the file
+	 * Maps the given {@link File} into memory as a read-only {@link MappedByteBuffer}. The file
+	 * is not read into the heap, but is paged in by the operating system as the buffer is accessed.
+	 * Files larger than {@link Integer#MAX_VALUE} bytes can't be mapped into a single buffer, so use
+	 * {@link #mapSegments(File)} for those.
+	 *
+	 * @param file The {@link File} to be mapped
+	 * @return A read-only {@link MappedByteBuffer} of the whole file
+	 * @throws IOException If something goes wrong in mapping the file, or the file is too large
 	 */
-	public static void writeFile(Writer writer, String content) throws IOException{
-		// Make a BufferedWriter out of the given Writer
-		BufferedWriter buffWriter = new BufferedWriter(writer);
-		
-		// Write the content to the file
-		buffWriter.write(content);
-		
-		// flush and close the writer
-		buffWriter.flush();
-		buffWriter.close();
+	public static MappedByteBuffer map(File file) throws IOException{
+		return map(file.toPath());
 	}
 	
 	/**
-	 * Writes the given lines to the file given in the {@link Writer}.
-	 * 
-	 * @param writer The Writer to use in writing
-	 * @param lines The content of the file to be written
-	 * @throws IOException If something goes wrong in writing the file
+	 * Maps the file at the given {@link Path} into memory as a read-only {@link MappedByteBuffer}.
+	 *
+	 * @param path The {@link Path} of the file to be mapped
+	 * @return A read-only {@link MappedByteBuffer} of the whole file
+	 * @throws IOException If something goes wrong in mapping the file, or the file is too large
 	 */
-	public static void writeFile(Writer writer, Collection<String> lines) throws IOException{
-		writeFile(writer, StringUtil.buildStringWithNewLines(lines));
+	private static MappedByteBuffer map(Path path) throws IOException{
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+			long size = channel.size();
+			if(size > Integer.MAX_VALUE){
+				throw new IOException("File is too large to map into a single buffer (" + size + " bytes): " +
+						path + "! Use mapSegments instead.");
+			}
+			
+			// The mapping stays valid after the channel is closed
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
 	}
 	
 	/**
-	 * Creates a zip file using the file or directory at the given path.
+	 * Maps the file at the given filepath into memory as a List of read-only {@link MappedByteBuffer}s,
+	 * each covering (at most) {@link Integer#MAX_VALUE} bytes of the file, in order. This allows mapping
+	 * files that are too large for {@link #map(String)}.
 	 *
-	 * @param pathToZip The path to the file or directory to be zipped
-	 * @param zipPath The path (and name) of the zip file to be created
-	 * @throws IOException If something goes wrong in zipping the files
+	 * @param filepath The path of the file to be mapped
+	 * @return A List of read-only {@link MappedByteBuffer}s that together cover the whole file
+	 * @throws IOException If something goes wrong in mapping the file
 	 */
-	public static void zipFile(String pathToZip, String zipPath) throws IOException{
-		zipFile(new File(pathToZip), zipPath);
+	public static List<MappedByteBuffer> mapSegments(String filepath) throws IOException{
+		return mapSegments(filepath, Integer.MAX_VALUE);
 	}
 	
 	/**
-	 * Creates a zip file using the given File (can be a file or directory).
+	 * Maps the given {@link File} into memory as a List of read-only {@link MappedByteBuffer}s,
+	 * each covering (at most) {@link Integer#MAX_VALUE} bytes of the file, in order. This allows mapping
+	 * files that are too large for {@link #map(File)}.
 	 *
-	 * @param fileToZip The File to be zipped (can be file or directory)
-	 * @param zipPath The path (and name) of the zip file to be created
-	 * @throws IOException If something goes wrong in zipping the file
+	 * @param file The {@link File} to be mapped
+	 * @return A List of read-only {@link MappedByteBuffer}s that together cover the whole file
+	 * @throws IOException If something goes wrong in mapping the file
 	 */
-	public static void zipFile(File fileToZip, String zipPath) throws IOException{
-		// Setup
-		FileOutputStream fos = new FileOutputStream(zipPath);
-		ZipOutputStream zos = new ZipOutputStream(fos);
-		
-		// Call helper method (which handles if it's a directory)
-		zipFile(fileToZip, fileToZip.getName(), zos);
-		zos.close();
-		fos.close();
+	public static List<MappedByteBuffer> mapSegments(File file) throws IOException{
+		return mapSegments(file.getPath(), Integer.MAX_VALUE);
 	}
 	
 	/**
-	 * Creates a zip file using the given File (can be a file or directory), fileName for the file to be zipped,
-	 * and a ZipOutputStream to be used. Each call to this method creates a single entry in the zip file, and
-	 * if it's a directory, it will make recursive calls for all children of the directory.
+	 * Maps the file at the given filepath into memory as a List of read-only {@link MappedByteBuffer}s,
+	 * each covering (at most) the given segment size in bytes, in order.
 	 *
-	 * @param fileToZip The File to be zipped (can be file or directory)
-	 * @param fileName The name of the file to be zipped
-	 * @param zos The ZipOutputStream to be used in zipping
-	 * @throws IOException If something goes wrong in zipping the file
+	 * @param filepath The path of the file to be mapped
+	 * @param segmentSize The maximum size (in bytes) of each mapped segment
+	 * @return A List of read-only {@link MappedByteBuffer}s that together cover the whole file
+	 * @throws IOException If something goes wrong in mapping the file
 	 */
-	private static void zipFile(File fileToZip, String fileName, ZipOutputStream zos) throws IOException{
-		if(fileToZip.isHidden()){
-			return;
+	public static List<MappedByteBuffer> mapSegments(String filepath, int segmentSize) throws IOException{
+		if(segmentSize <= 0){
+			throw new IllegalArgumentException("Segment size must be positive, but was " + segmentSize + "!");
 		}
 		
-		// Handle directories differently
-		if(fileToZip.isDirectory()){
-			// If we're missing the ending /, add it
-			if(!fileName.endsWith("/")){
-				fileName += "/";
-			}
-			
-			// Add the directory as a zip entry
-			zos.putNextEntry(new ZipEntry(fileName));
-			zos.closeEntry();
+		try(FileChannel channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.READ)){
+			long size = channel.size();
+			List<MappedByteBuffer> segments = new ArrayList<>((int) (size / segmentSize) + 1);
 			
-			// Grab the children of the directory
-			File[] children = fileToZip.listFiles();
-			if(children == null){
-				return;
-			}
+			// Map each segment of the file (an empty file still gets a single empty segment)
+			long position = 0;
+			do{
+				long segmentLength = Math.min(segmentSize, size - position);
+				segments.add(channel.map(FileChannel.MapMode.READ_ONLY, position, segmentLength));
+				position += segmentLength;
+			}while(position < size);
 			
-			// Add all the children to the zip
-			for(File childFile: children){
-				zipFile(childFile, fileName + "/" + childFile.getName(), zos);
-			}
-			return;
-		}
-		
-		// If it's not a directory, just zip the single file
-		FileInputStream fis = new FileInputStream(fileToZip);
-		ZipEntry zipEntry = new ZipEntry(fileName);
-		zos.putNextEntry(zipEntry);
-		byte[] bytes = new byte[1024];
-		int length;
-		while((length = fis.read(bytes)) >= 0){
-			zos.write(bytes, 0, length);
+			return segments;
 		}
-		fis.close();
 	}
 	
 	/**
-	 * Unzips a zip file into the given destination path.
+	 * Reads the file at the given filepath in chunks of {@link #DEFAULT_CHUNK_SIZE} bytes, sending
+	 * each chunk to the given {@link ChunkConsumer}. Only a single chunk is held in memory at a time.
 	 *
-	 * @param zipPath The path to the zip file
-	 * @param destinationPath The path to extract the zip file contents to
-	 * @throws IOException If something goes wrong in unzipping the file
+	 * @param filepath The path of the file to be read
+	 * @param consumer The {@link ChunkConsumer} to send each chunk to
+	 * @throws IOException If something goes wrong in reading the file or handling a chunk
 	 */
-	public static void unzipFile(String zipPath, String destinationPath) throws IOException{
-		unzipFile(zipPath, new File(destinationPath));
+	public static void forEachChunk(String filepath, ChunkConsumer consumer) throws IOException{
+		forEachChunk(filepath, DEFAULT_CHUNK_SIZE, consumer);
 	}
 	
 	/**
-	 * Unzips a zip file into the given destination directory.
+	 * Reads the file at the given filepath in chunks of the given size, sending each chunk to the
+	 * given {@link ChunkConsumer}. A single direct {@link ByteBuffer} is reused for every chunk, so
+	 * files larger than the heap can be processed without copying them into byte arrays. Every chunk
+	 * is full except (possibly) the last one.
 	 *
-	 * @param zipPath The path to the zip file
-	 * @param destDirectory The directory to extract the zip file contents to
-	 * @throws IOException If something goes wrong in unzipping the file
+	 * @param filepath The path of the file to be read
+	 * @param chunkSize The size (in bytes) of each chunk
+	 * @param consumer The {@link ChunkConsumer} to send each chunk to
+	 * @throws IOException If something goes wrong in reading the file or handling a chunk
 	 */
-	public static void unzipFile(String zipPath, File destDirectory) throws IOException{
-		// Setup
-		byte[] buffer = new byte[1024];
-		ZipInputStream zis = new ZipInputStream(new FileInputStream(zipPath));
-		ZipEntry zipEntry = zis.getNextEntry();
+	public static void forEachChunk(String filepath, int chunkSize, ChunkConsumer consumer) throws IOException{
+		if(chunkSize <= 0){
+			throw new IllegalArgumentException("Chunk size must be positive, but was " + chunkSize + "!");
+		}
 		
-		// Extract each file
-		while(zipEntry != null){
-			File newFile = new File(destDirectory, zipEntry.getName());
-			
+		try(FileChannel channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.READ)){
+			// Don't allocate more than we need for small files
+			int bufferSize = (int) Math.max(1, Math.min(chunkSize, channel.size()));
+			ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
 			
-			// Check destination path to prevent zip slip
-			String destDirPath = destDirectory.getCanonicalPath();
-			String destFilePath = newFile.getCanonicalPath();
-			if(!destFilePath.startsWith(destDirPath + File.separator)){
-				throw new IOException("Entry is outside of the target dir: " + zipEntry.getName());
-			}
-			
-			// If it's a directory, make the directory instead of a file
-			if(zipEntry.isDirectory()){
-				if(!newFile.mkdirs() && !newFile.exists()){
-					throw new IOException("Failed to create new directory at " + newFile.getAbsolutePath());
-				}
-			}else{
-				// Write the new file
-				FileOutputStream fos = new FileOutputStream(newFile);
-				int length;
-				while((length = zis.read(buffer)) > 0){
-					fos.write(buffer, 0, length);
+			boolean endOfFile = false;
+			while(!endOfFile){
+				// Fill the buffer as much as possible
+				buffer.clear();
+				while(buffer.hasRemaining()){
+					if(channel.read(buffer) < 0){
+						endOfFile = true;
+						break;
+					}
 				}
 				
-				// Close the new file and prepare for next one
-				fos.close();
+				// Send the chunk to the consumer
+				buffer.flip();
+				if(buffer.hasRemaining()){
+					consumer.accept(buffer);
+				}
 			}
-			zipEntry = zis.getNextEntry();
 		}
-		zis.closeEntry();
-		zis.close();
+	}
+	
+	/**
+	 * Reads the given {@link File} in chunks of the given size, sending each chunk to the
+	 * given {@link ChunkConsumer}. See {@link #forEachChunk(String, int, ChunkConsumer)} for more details.
+	 *
+	 * @param file The {@link File} to be read
+	 * @param chunkSize The size (in bytes) of each chunk
+	 * @param consumer The {@link ChunkConsumer} to send each chunk to
+	 * @throws IOException If something goes wrong in reading the file or handling a chunk
+	 */
+	public static void forEachChunk(File file, int chunkSize, ChunkConsumer consumer) throws IOException{
+		forEachChunk(file.getPath(), chunkSize, consumer);
+	}
+	
+	/**
+	 * Reads the file at the given filepath line by line as UTF-8, sending each line to the given
+	 * {@link LineConsumer}. See {@link #forEachLine(String, Charset, LineConsumer)} for more details.
+	 *
+	 * @param filepath The path of the file to be read
+	 * @param consumer The {@link LineConsumer} to send each line to
+	 * @throws IOException If something goes wrong in reading the file or handling a line
+	 */
+	public static void forEachLine(String filepath, LineConsumer consumer) throws IOException{
+		forEachLine(filepath, StandardCharsets.UTF_8, consumer);
+	}
+	
+	/**
+	 * Reads the file at the given filepath line by line, sending each line to the given {@link LineConsumer}.
+	 * Lines end the same way as for {@link BufferedReader#readLine()} (a line feed, a carriage return, or a
+	 * carriage return followed by a line feed). The file is decoded in large blocks, and each line is given
+	 * as a reusable {@link CharSequence} view over the decoded block, so no String is created per line and
+	 * the whole file is never held in memory.
+	 *
+	 * @param filepath The path of the file to be read
+	 * @param charset The {@link Charset} to decode the file with
+	 * @param consumer The {@link LineConsumer} to send each line to
+	 * @throws IOException If something goes wrong in reading the file or handling a line
+	 */
+	public static void forEachLine(String filepath, Charset charset, LineConsumer consumer) throws IOException{
+		try(FileChannel channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.READ)){
+			forEachLine(channel, 0, channel.size(), charset, consumer);
+		}
+	}
+	
+	/**
+	 * Reads the given {@link File} line by line, sending each line to the given {@link LineConsumer}.
+	 * See {@link #forEachLine(String, Charset, LineConsumer)} for more details.
+	 *
+	 * @param file The {@link File} to be read
+	 * @param charset The {@link Charset} to decode the file with
+	 * @param consumer The {@link LineConsumer} to send each line to
+	 * @throws IOException If something goes wrong in reading the file or handling a line
+	 */
+	public static void forEachLine(File file, Charset charset, LineConsumer consumer) throws IOException{
+		forEachLine(file.getPath(), charset, consumer);
+	}
+	
+	/**
+	 * Reads the file at the given filepath line by line using the given number of threads, sending each line
+	 * to the given {@link LineConsumer}. The file is split into sections at line feed boundaries, and each
+	 * section is read by its own thread as in {@link #forEachLine(String, Charset, LineConsumer)}. This means
+	 * the consumer will be called from multiple threads at once, and lines will not be given in order.
+	 * <br><br>
+	 * Splitting the file is only safe for {@link Charset}s where a line feed byte can't be part of another
+	 * character (UTF-8, US-ASCII, and ISO-8859-1). For any other Charset, the file is read on the calling
+	 * thread instead.
+	 *
+	 * @param filepath The path of the file to be read
+	 * @param charset The {@link Charset} to decode the file with
+	 * @param threads The number of threads to read the file with
+	 * @param consumer The (thread-safe) {@link LineConsumer} to send each line to
+	 * @throws IOException If something goes wrong in reading the file or handling a line
+	 */
+	public static void forEachLineParallel(String filepath, Charset charset, int threads,
+	                                       LineConsumer consumer) throws IOException{
+		if(threads <= 0){
+			throw new IllegalArgumentException("Number of threads must be positive, but was " + threads + "!");
+		}
+		
+		// If we can't split the file safely (or don't need to), just read it normally
+		if(threads == 1 || !(StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset) ||
+				StandardCharsets.ISO_8859_1.equals(charset))){
+			forEachLine(filepath, charset, consumer);
+			return;
+		}
+		
+		try(FileChannel channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.READ)){
+			// Find where each section starts, moving each split point up to the next line
+			long size = channel.size();
+			List<Long> splits = new ArrayList<>();
+			splits.add(0L);
+			for(int i = 1; i < threads; i++){
+				long split = findNextLineStart(channel, Math.max(size / threads * i, splits.get(splits.size() - 1)));
+				if(split >= size){
+					break;
+				}
+				if(split > splits.get(splits.size() - 1)){
+					splits.add(split);
+				}
+			}
+			splits.add(size);
+			
+			// Read each section on its own thread
+			List<Callable<Void>> tasks = new ArrayList<>();
+			for(int i = 0; i < splits.size() - 1; i++){
+				long start = splits.get(i);
+				long end = splits.get(i + 1);
+				tasks.add(() -> {
+					forEachLine(channel, start, end, charset, consumer);
+					return null;
+				});
+			}
+			runInParallel(tasks, threads);
+		}
+	}
+	
+	/**
+	 * Finds the position of the start of the next line in the given {@link FileChannel}, starting the search
+	 * at the given position.
+	 *
+	 * @param channel The {@link FileChannel} to search
+	 * @param position The position to start searching at
+	 * @return The position just after the next line feed, or the size of the channel if there isn't one
+	 * @throws IOException If something goes wrong in reading the channel
+	 */
+	private static long findNextLineStart(FileChannel channel, long position) throws IOException{
+		// A split at the start of a line doesn't need to be moved
+		if(position == 0){
+			return 0;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(8192);
+		
+		// Start at the byte before the position, in case the position is already at the start of a line
+		long searchPosition = position - 1;
+		int read;
+		while((read = channel.read(buffer, searchPosition)) > 0){
+			for(int i = 0; i < read; i++){
+				if(buffer.get(i) == '\n'){
+					return searchPosition + i + 1;
+				}
+			}
+			searchPosition += read;
+			buffer.clear();
+		}
+		return channel.size();
+	}
+	
+	/**
+	 * Reads the given section of the {@link FileChannel} line by line, sending each line to the given
+	 * {@link LineConsumer}. Positional reads are used so that multiple threads can read the same channel.
+	 *
+	 * @param channel The {@link FileChannel} to read from
+	 * @param start The position to start reading at
+	 * @param end The position to stop reading at
+	 * @param charset The {@link Charset} to decode the file with
+	 * @param consumer The {@link LineConsumer} to send each line to
+	 * @throws IOException If something goes wrong in reading the file or handling a line
+	 */
+	private static void forEachLine(FileChannel channel, long start, long end, Charset charset,
+	                                LineConsumer consumer) throws IOException{
+		CharsetDecoder decoder = charset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		ByteBuffer bytes = ByteBuffer.allocateDirect((int) Math.max(1, Math.min(LINE_BLOCK_SIZE, end - start)));
+		CharBuffer chars = CharBuffer.allocate(LINE_BLOCK_SIZE);
+		LineView line = new LineView();
+		
+		long position = start;
+		boolean endOfInput = false;
+		boolean skipLineFeed = false;
+		// The number of chars at the front of the buffer already checked for line endings
+		int scanned = 0;
+		while(true){
+			// Read the next block of bytes
+			if(!endOfInput){
+				bytes.limit((int) Math.min(bytes.capacity(), bytes.position() + end - position));
+				int read = bytes.hasRemaining()?channel.read(bytes, position):0;
+				if(read < 0 || (position += Math.max(read, 0)) >= end){
+					endOfInput = true;
+				}
+			}
+			
+			// Decode the bytes
+			bytes.flip();
+			CoderResult result = decoder.decode(bytes, chars, endOfInput);
+			bytes.compact();
+			boolean done = false;
+			if(endOfInput && result.isUnderflow()){
+				while(decoder.flush(chars).isOverflow()){
+					chars = growCharBuffer(chars);
+				}
+				done = true;
+			}
+			
+			// Send each complete line to the consumer
+			chars.flip();
+			char[] array = chars.array();
+			int lineStart = 0;
+			int limit = chars.limit();
+			for(int i = scanned; i < limit; i++){
+				char c = array[i];
+				if(skipLineFeed){
+					// Skip the line feed of a carriage return + line feed pair split across blocks
+					skipLineFeed = false;
+					if(c == '\n'){
+						lineStart = i + 1;
+						continue;
+					}
+				}
+				if(c == '\n' || c == '\r'){
+					line.set(array, lineStart, i - lineStart);
+					consumer.accept(line);
+					if(c == '\r'){
+						if(i + 1 < limit){
+							if(array[i + 1] == '\n'){
+								i++;
+							}
+						}else{
+							skipLineFeed = true;
+						}
+					}
+					lineStart = i + 1;
+				}
+			}
+			
+			// Send the last line (if it has no line ending) when we're done
+			if(done){
+				if(lineStart < limit){
+					line.set(array, lineStart, limit - lineStart);
+					consumer.accept(line);
+				}
+				return;
+			}
+			
+			// Keep the partial line at the front of the buffer, growing it if the line doesn't fit
+			chars.position(lineStart);
+			chars.compact();
+			scanned = chars.position();
+			if(!chars.hasRemaining()){
+				chars = growCharBuffer(chars);
+			}
+		}
+	}
+	
+	/**
+	 * Creates a new {@link CharBuffer} twice the size of the given one, with the same contents and position.
+	 *
+	 * @param chars The {@link CharBuffer} (in writing mode) to be grown
+	 * @return The new larger {@link CharBuffer} (in writing mode)
+	 */
+	private static CharBuffer growCharBuffer(CharBuffer chars){
+		CharBuffer newChars = CharBuffer.allocate(chars.capacity() * 2);
+		chars.flip();
+		newChars.put(chars);
+		return newChars;
+	}
+	
+	/**
+	 * Writes the given string to the file given by the filepath. 
+	 * Will create the file and its directories if they don't exist.
+	 * 
+	 * @param filepath The path to save the file to
+	 * @param content The content of the file to be written
+	 * @throws IOException If something goes wrong in writing the file
+	 */
+	public static void writeFile(String filepath, String content) throws IOException{
+		writeFile(filepath, content, Charset.defaultCharset(), false);
+	}
+	
+	/**
+	 * Writes the given content to the file given by the filepath using the given {@link Charset}.
+	 * Will create the file and its directories if they don't exist. The content is encoded straight into
+	 * a reused direct buffer and written with a {@link FileChannel}, and the directories are only checked
+	 * if the file can't be opened.
+	 *
+	 * @param filepath The path to save the file to
+	 * @param content The content of the file to be written
+	 * @param charset The {@link Charset} to encode the content with
+	 * @param force Whether to force the content to be written to the storage device before returning
+	 * @throws IOException If something goes wrong in writing the file
+	 */
+	public static void writeFile(String filepath, CharSequence content, Charset charset,
+	                             boolean force) throws IOException{
+		try(FileChannel channel = openForWriting(Paths.get(filepath))){
+			writeContent(channel, content, charset);
+			if(force){
+				channel.force(true);
+			}
+		}
+	}
+	
+	/**
+	 * Writes the given string to the file given by the filepath using the platform's default {@link Charset}
+	 * (the same as {@link #writeFile(String, String)}), so that the file either has its old contents or all
+	 * of the new contents, even if something crashes part way through. The content is forced to the storage
+	 * device before the file is replaced.
+	 * See {@link #writeFileAtomically(String, CharSequence, Charset, boolean)} for more details.
+	 *
+	 * @param filepath The path to save the file to
+	 * @param content The content of the file to be written
+	 * @throws IOException If something goes wrong in writing the file
+	 */
+	public static void writeFileAtomically(String filepath, String content) throws IOException{
+		writeFileAtomically(filepath, content, Charset.defaultCharset(), true);
+	}
+	
+	/**
+	 * Writes the given content to the file given by the filepath using the given {@link Charset}, so that
+	 * the file either has its old contents or all of the new contents. The content is written to a
+	 * temporary file in the same directory, which is then moved over the file in a single (atomic) step
+	 * where the file system supports it. If force is true, the temporary file is forced to the storage
+	 * device before the move, and the directory is forced after it, so the new contents survive a crash.
+	 * If the file already exists, its POSIX permissions (where supported) are copied onto the temporary file
+	 * before the move, so replacing the file doesn't change them. Will create the file's directories if they
+	 * don't exist.
+	 *
+	 * @param filepath The path to save the file to
+	 * @param content The content of the file to be written
+	 * @param charset The {@link Charset} to encode the content with
+	 * @param force Whether to force the content to be written to the storage device before returning
+	 * @throws IOException If something goes wrong in writing the file
+	 */
+	public static void writeFileAtomically(String filepath, CharSequence content, Charset charset,
+	                                       boolean force) throws IOException{
+		Path path = Paths.get(filepath).toAbsolutePath();
+		Path directory = path.getParent();
+		
+		// Write the content to a temporary file next to the real one
+		Path tempPath = directory.resolve("." + path.getFileName() + "." +
+				Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+		try{
+			try(FileChannel channel = openForWriting(tempPath)){
+				writeContent(channel, content, charset);
+				if(force){
+					channel.force(true);
+				}
+			}
+			copyPermissionsIfExists(path, tempPath);
+			
+			// Replace the real file with the temporary one
+			try{
+				Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}catch(AtomicMoveNotSupportedException e){
+				Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}catch(IOException | RuntimeException e){
+			Files.deleteIfExists(tempPath);
+			throw e;
+		}
+		
+		// Make sure the move itself is saved (not all platforms can open a directory, so ignore failures)
+		if(force){
+			try(FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)){
+				directoryChannel.force(true);
+			}catch(IOException ignored){
+				
+			}
+		}
+	}
+	
+	/**
+	 * Copies the POSIX permissions of the given source file onto the given destination, if the source exists
+	 * and the file system supports POSIX permissions.
+	 *
+	 * @param source The {@link Path} of the file to copy the permissions of
+	 * @param destination The {@link Path} of the file to copy the permissions to
+	 * @throws IOException If something goes wrong in copying the permissions
+	 */
+	private static void copyPermissionsIfExists(Path source, Path destination) throws IOException{
+		PosixFileAttributeView posixView = Files.getFileAttributeView(destination, PosixFileAttributeView.class);
+		if(posixView == null){
+			return;
+		}
+		try{
+			posixView.setPermissions(Files.getPosixFilePermissions(source));
+		}catch(NoSuchFileException e){
+			// There's no existing file to keep the permissions of
+		}
+	}
+	
+	/**
+	 * Opens a {@link FileChannel} for writing to the file at the given {@link Path}, replacing any
+	 * existing content. The file's directories are created only if the file can't be opened
+	 * because they don't exist.
+	 *
+	 * @param path The {@link Path} of the file to be written
+	 * @return A {@link FileChannel} for writing to the file
+	 * @throws IOException If something goes wrong in opening the file
+	 */
+	private static FileChannel openForWriting(Path path) throws IOException{
+		try{
+			return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING);
+		}catch(NoSuchFileException e){
+			Path directory = path.toAbsolutePath().getParent();
+			if(directory == null){
+				throw e;
+			}
+			Files.createDirectories(directory);
+			return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING);
+		}
+	}
+	
+	/**
+	 * Encodes the given content with the given {@link Charset} straight into this thread's reused direct
+	 * write buffer, writing the buffer to the {@link FileChannel} whenever it fills up.
+	 *
+	 * @param channel The {@link FileChannel} to write to
+	 * @param content The content to be written
+	 * @param charset The {@link Charset} to encode the content with
+	 * @throws IOException If something goes wrong in writing the content
+	 */
+	private static void writeContent(FileChannel channel, CharSequence content, Charset charset) throws IOException{
+		CharsetEncoder encoder = newEncoder(charset);
+		// The buffer is taken out while in use, so if the content writes a file (e.g. in its charAt), that
+		// write gets a buffer of its own instead of clearing this one part way through
+		ByteBuffer buffer = WRITE_BUFFER.get();
+		WRITE_BUFFER.remove();
+		try{
+			buffer.clear();
+			encodeContent(channel, buffer, encoder, content);
+			finishEncoding(channel, buffer, encoder);
+		}finally{
+			WRITE_BUFFER.set(buffer);
+		}
+	}
+	
+	/**
+	 * Creates a new {@link CharsetEncoder} for the given {@link Charset} that replaces any characters it
+	 * can't encode, the same as a {@link Writer} does.
+	 *
+	 * @param charset The {@link Charset} to create an encoder for
+	 * @return The new {@link CharsetEncoder}
+	 */
+	private static CharsetEncoder newEncoder(Charset charset){
+		return charset.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+	
+	/**
+	 * Encodes the given content into the buffer, writing the buffer to the {@link FileChannel} whenever it
+	 * fills up. More content can be encoded afterwards, and {@link #finishEncoding} must be called once
+	 * all the content has been encoded.
+	 *
+	 * @param channel The {@link FileChannel} to write to
+	 * @param buffer The {@link ByteBuffer} to encode into
+	 * @param encoder The {@link CharsetEncoder} to encode with
+	 * @param content The content to be encoded
+	 * @throws IOException If something goes wrong in writing the content
+	 */
+	private static void encodeContent(FileChannel channel, ByteBuffer buffer, CharsetEncoder encoder,
+	                                  CharSequence content) throws IOException{
+		CharBuffer chars = CharBuffer.wrap(content);
+		while(encoder.encode(chars, buffer, false).isOverflow()){
+			writeBuffer(channel, buffer);
+		}
+		
+		// The only thing that can be left is half of a surrogate pair, which can't be encoded on its own
+		if(chars.hasRemaining()){
+			byte[] replacement = encoder.replacement();
+			if(buffer.remaining() < replacement.length){
+				writeBuffer(channel, buffer);
+			}
+			buffer.put(replacement);
+		}
+	}
+	
+	/**
+	 * Finishes encoding content into the buffer, and writes whatever is left in the buffer to the
+	 * {@link FileChannel}.
+	 *
+	 * @param channel The {@link FileChannel} to write to
+	 * @param buffer The {@link ByteBuffer} being encoded into
+	 * @param encoder The {@link CharsetEncoder} being encoded with
+	 * @throws IOException If something goes wrong in writing the content
+	 */
+	private static void finishEncoding(FileChannel channel, ByteBuffer buffer,
+	                                   CharsetEncoder encoder) throws IOException{
+		while(encoder.encode(CharBuffer.allocate(0), buffer, true).isOverflow()){
+			writeBuffer(channel, buffer);
+		}
+		while(encoder.flush(buffer).isOverflow()){
+			writeBuffer(channel, buffer);
+		}
+		writeBuffer(channel, buffer);
+	}
+	
+	/**
+	 * Writes the contents of the given (filled) buffer to the {@link FileChannel}, and clears the buffer
+	 * so it can be filled again.
+	 *
+	 * @param channel The {@link FileChannel} to write to
+	 * @param buffer The {@link ByteBuffer} to be written
+	 * @throws IOException If something goes wrong in writing the buffer
+	 */
+	private static void writeBuffer(FileChannel channel, ByteBuffer buffer) throws IOException{
+		buffer.flip();
+		while(buffer.hasRemaining()){
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+	
+	/**
+	 * Writes the given string to the file given in the {@link Writer}.
+	 * 
+	 * @param writer The Writer to use in writing
+	 * @param content The content of the file to be written
+	 * @throws IOException If something goes wrong in writing the file
+	 */
+	public static void writeFile(Writer writer, String content) throws IOException{
+		// Make a BufferedWriter out of the given Writer
+		BufferedWriter buffWriter = new BufferedWriter(writer);
+		
+		// Write the content to the file
+		buffWriter.write(content);
+		
+		// flush and close the writer
+		buffWriter.flush();
+		buffWriter.close();
+	}
+	
+	/**
+	 * Writes the given lines to the file given in the {@link Writer}.
+	 * 
+	 * @param writer The Writer to use in writing
+	 * @param lines The content of the file to be written
+	 * @throws IOException If something goes wrong in writing the file
+	 */
+	public static void writeFile(Writer writer, Collection<String> lines) throws IOException{
+		writeLines(writer, lines.iterator());
+	}
+	
+	/**
+	 * Writes the given lines to the file given in the {@link Writer}, one at a time.
+	 * See {@link #writeLines(Writer, Iterator)} for more details.
+	 *
+	 * @param writer The Writer to use in writing
+	 * @param lines The lines of the file to be written
+	 * @throws IOException If something goes wrong in writing the file
+	 */
+	public static void writeLines(Writer writer, Iterable<String> lines) throws IOException{
+		writeLines(writer, lines.iterator());
+	}
+	
+	/**
+	 * Writes the given lines to the file given in the {@link Writer}, one at a time.
+	 * See {@link #writeLines(Writer, Iterator)} for more details.
+	 *
+	 * @param writer The Writer to use in writing
+	 * @param lines The lines of the file to be written
+	 * @throws IOException If something goes wrong in writing the file
+	 */
+	public static void writeLines(Writer writer, Stream<String> lines) throws IOException{
+		writeLines(writer, lines.iterator());
+	}
+	
+	/**
+	 * Writes the given lines to the file given in the {@link Writer}, one at a time, with a newline between
+	 * each line (and no newline after the last line). The lines are written through a large buffer as they're
+	 * iterated, so they are never joined into a single String. The Writer is closed once all the lines are
+	 * written.
+	 *
+	 * @param writer The Writer to use in writing
+	 * @param lines The lines of the file to be written
+	 * @throws IOException If something goes wrong in writing the file
+	 */
+	public static void writeLines(Writer writer, Iterator<String> lines) throws IOException{
+		try(BufferedWriter buffWriter = new BufferedWriter(writer, WRITE_BUFFER_SIZE)){
+			boolean firstLine = true;
+			while(lines.hasNext()){
+				if(!firstLine){
+					buffWriter.write('\n');
+				}
+				buffWriter.write(String.valueOf(lines.next()));
+				firstLine = false;
+			}
+		}
+	}
+	
+	/**
+	 * Writes the given lines to the file given by the filepath using the given {@link Charset}, one at a time.
+	 * See {@link #writeLines(String, Iterator, Charset)} for more details.
+	 *
+	 * @param filepath The path to save the file to
+	 * @param lines The lines of the file to be written
+	 * @param charset The {@link Charset} to encode the lines with
+	 * @throws IOException If something goes wrong in writing the file
+	 */
+	public static void writeLines(String filepath, Iterable<String> lines, Charset charset) throws IOException{
+		writeLines(filepath, lines.iterator(), charset);
+	}
+	
+	/**
+	 * Writes the given lines to the file given by the filepath using the given {@link Charset}, one at a time.
+	 * See {@link #writeLines(String, Iterator, Charset)} for more details.
+	 *
+	 * @param filepath The path to save the file to
+	 * @param lines The lines of the file to be written
+	 * @param charset The {@link Charset} to encode the lines with
+	 * @throws IOException If something goes wrong in writing the file
+	 */
+	public static void writeLines(String filepath, Stream<String> lines, Charset charset) throws IOException{
+		writeLines(filepath, lines.iterator(), charset);
+	}
+	
+	/**
+	 * Writes the given lines to the file given by the filepath using the given {@link Charset}, one at a time,
+	 * with a newline between each line (and no newline after the last line). Each line is encoded straight
+	 * into a buffer as it's iterated, which is written with a {@link FileChannel} whenever it fills up, so the
+	 * lines are never joined into a single String. The buffer belongs to this call rather than being shared
+	 * with other writes on the thread, as the {@link Iterator} may run code that writes files itself. Will
+	 * create the file and its directories if they don't exist.
+	 *
+	 * @param filepath The path to save the file to
+	 * @param lines The lines of the file to be written
+	 * @param charset The {@link Charset} to encode the lines with
+	 * @throws IOException If something goes wrong in writing the file
+	 */
+	public static void writeLines(String filepath, Iterator<String> lines, Charset charset) throws IOException{
+		try(FileChannel channel = openForWriting(Paths.get(filepath))){
+			CharsetEncoder encoder = newEncoder(charset);
+			ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+			
+			boolean firstLine = true;
+			while(lines.hasNext()){
+				if(!firstLine){
+					encodeContent(channel, buffer, encoder, "\n");
+				}
+				encodeContent(channel, buffer, encoder, String.valueOf(lines.next()));
+				firstLine = false;
+			}
+			finishEncoding(channel, buffer, encoder);
+		}
+	}
+	
+	/**
+	 * Creates a zip file using the file or directory at the given path.
+	 *
+	 * @param pathToZip The path to the file or directory to be zipped
+	 * @param zipPath The path (and name) of the zip file to be created
+	 * @throws IOException If something goes wrong in zipping the files
+	 */
+	public static void zipFile(String pathToZip, String zipPath) throws IOException{
+		zipFile(new File(pathToZip), zipPath);
+	}
+	
+	/**
+	 * Creates a zip file using the given File (can be a file or directory).
+	 *
+	 * @param fileToZip The File to be zipped (can be file or directory)
+	 * @param zipPath The path (and name) of the zip file to be created
+	 * @throws IOException If something goes wrong in zipping the file
+	 */
+	public static void zipFile(File fileToZip, String zipPath) throws IOException{
+		// Setup
+		FileOutputStream fos = new FileOutputStream(zipPath);
+		ZipOutputStream zos = new ZipOutputStream(fos);
+		
+		// Call helper method (which handles if it's a directory)
+		zipFile(fileToZip, fileToZip.getName(), zos);
+		zos.close();
+		fos.close();
+	}
+	
+	/**
+	 * Creates a zip file using the given File (can be a file or directory), fileName for the file to be zipped,
+	 * and a ZipOutputStream to be used. Each call to this method creates a single entry in the zip file, and
+	 * if it's a directory, it will make recursive calls for all children of the directory.
+	 *
+	 * @param fileToZip The File to be zipped (can be file or directory)
+	 * @param fileName The name of the file to be zipped
+	 * @param zos The ZipOutputStream to be used in zipping
+	 * @throws IOException If something goes wrong in zipping the file
+	 */
+	private static void zipFile(File fileToZip, String fileName, ZipOutputStream zos) throws IOException{
+		if(fileToZip.isHidden()){
+			return;
+		}
+		
+		// Handle directories differently
+		if(fileToZip.isDirectory()){
+			// If we're missing the ending /, add it
+			if(!fileName.endsWith("/")){
+				fileName += "/";
+			}
+			
+			// Add the directory as a zip entry
+			zos.putNextEntry(new ZipEntry(fileName));
+			zos.closeEntry();
+			
+			// Grab the children of the directory
+			File[] children = fileToZip.listFiles();
+			if(children == null){
+				return;
+			}
+			
+			// Add all the children to the zip
+			for(File childFile: children){
+				zipFile(childFile, fileName + "/" + childFile.getName(), zos);
+			}
+			return;
+		}
+		
+		// If it's not a directory, just zip the single file
+		FileInputStream fis = new FileInputStream(fileToZip);
+		ZipEntry zipEntry = new ZipEntry(fileName);
+		zos.putNextEntry(zipEntry);
+		byte[] bytes = new byte[1024];
+		int length;
+		while((length = fis.read(bytes)) >= 0){
+			zos.write(bytes, 0, length);
+		}
+		fis.close();
+	}
+	
+	/**
+	 * Creates a zip file using the file or directory at the given path, compressing the files concurrently
+	 * using a thread for each available processor. Files with one of the {@link #COMPRESSED_FILE_EXTENSIONS}
+	 * are stored without compression. See {@link #zipFileParallel(File, String, int, int, Collection)} for
+	 * more details.
+	 *
+	 * @param pathToZip The path to the file or directory to be zipped
+	 * @param zipPath The path (and name) of the zip file to be created
+	 * @throws IOException If something goes wrong in zipping the files
+	 */
+	public static void zipFileParallel(String pathToZip, String zipPath) throws IOException{
+		zipFileParallel(new File(pathToZip), zipPath, Runtime.getRuntime().availableProcessors(),
+				Deflater.DEFAULT_COMPRESSION, COMPRESSED_FILE_EXTENSIONS);
+	}
+	
+	/**
+	 * Creates a zip file using the given File (can be a file or directory), compressing the files concurrently
+	 * on the given number of threads. Each file is compressed on its own (into memory if it's small, or a
+	 * temporary file if it's large), and the compressed files are then copied into the zip file in order.
+	 * Files with one of the given stored extensions (e.g. files that are already compressed) are put in
+	 * the zip file without being compressed.
+	 *
+	 * @param fileToZip The File to be zipped (can be file or directory)
+	 * @param zipPath The path (and name) of the zip file to be created
+	 * @param threads The number of threads to compress files with
+	 * @param compressionLevel The compression level (0-9 or {@link Deflater#DEFAULT_COMPRESSION}) to use
+	 * @param storedExtensions File extensions of files that should be stored without compression
+	 * @throws IOException If something goes wrong in zipping the files
+	 */
+	public static void zipFileParallel(File fileToZip, String zipPath, int threads, int compressionLevel,
+	                                   Collection<String> storedExtensions) throws IOException{
+		new ParallelZipWriter(threads, compressionLevel, storedExtensions).zip(fileToZip, zipPath);
+	}
+	
+	/**
+	 * Unzips a zip file into the given destination path.
+	 *
+	 * @param zipPath The path to the zip file
+	 * @param destinationPath The path to extract the zip file contents to
+	 * @throws IOException If something goes wrong in unzipping the file
+	 */
+	public static void unzipFile(String zipPath, String destinationPath) throws IOException{
+		unzipFile(zipPath, new File(destinationPath));
+	}
+	
+	/**
+	 * Unzips a zip file into the given destination directory.
+	 *
+	 * @param zipPath The path to the zip file
+	 * @param destDirectory The directory to extract the zip file contents to
+	 * @throws IOException If something goes wrong in unzipping the file
+	 */
+	public static void unzipFile(String zipPath, File destDirectory) throws IOException{
+		// Setup
+		byte[] buffer = new byte[1024];
+		ZipInputStream zis = new ZipInputStream(new FileInputStream(zipPath));
+		ZipEntry zipEntry = zis.getNextEntry();
+		
+		// Grab the destination path once to check against for zip slip
+		String destDirPath = destDirectory.getCanonicalPath();
+		
+		// Extract each file
+		while(zipEntry != null){
+			File newFile = new File(destDirectory, zipEntry.getName());
+			
+			// Check destination path to prevent zip slip
+			String destFilePath = newFile.getCanonicalPath();
+			if(!destFilePath.startsWith(destDirPath + File.separator)){
+				throw new IOException("Entry is outside of the target dir: " + zipEntry.getName());
+			}
+			
+			// If it's a directory, make the directory instead of a file
+			if(zipEntry.isDirectory()){
+				if(!newFile.mkdirs() && !newFile.exists()){
+					throw new IOException("Failed to create new directory at " + newFile.getAbsolutePath());
+				}
+			}else{
+				// Write the new file
+				FileOutputStream fos = new FileOutputStream(newFile);
+				int length;
+				while((length = zis.read(buffer)) > 0){
+					fos.write(buffer, 0, length);
+				}
+				
+				// Close the new file and prepare for next one
+				fos.close();
+			}
+			zipEntry = zis.getNextEntry();
+		}
+		zis.closeEntry();
+		zis.close();
+	}
+	
+	/**
+	 * Unzips a zip file into the given destination path, extracting the entries concurrently using a thread for
+	 * each available processor. See {@link #unzipFileParallel(String, File, int)} for more details.
+	 *
+	 * @param zipPath The path to the zip file
+	 * @param destinationPath The path to extract the zip file contents to
+	 * @throws IOException If something goes wrong in unzipping the file
+	 */
+	public static void unzipFileParallel(String zipPath, String destinationPath) throws IOException{
+		unzipFileParallel(zipPath, new File(destinationPath), Runtime.getRuntime().availableProcessors());
+	}
+	
+	/**
+	 * Unzips a zip file into the given destination directory, extracting the entries concurrently on the given
+	 * number of threads. Unlike {@link #unzipFile(String, File)}, this reads the zip file's central directory
+	 * (using {@link ZipFile}) to find the entries, so they can be read independently of each other instead of
+	 * streaming through the whole zip file in order. All directories are created first, then the files are
+	 * split into batches that are extracted in parallel.
+	 *
+	 * @param zipPath The path to the zip file
+	 * @param destDirectory The directory to extract the zip file contents to
+	 * @param threads The number of threads to extract files with
+	 * @throws IOException If something goes wrong in unzipping the file
+	 */
+	public static void unzipFileParallel(String zipPath, File destDirectory, int threads) throws IOException{
+		if(threads <= 0){
+			throw new IllegalArgumentException("Number of threads must be positive, but was " + threads + "!");
+		}
+		
+		try(ZipFile zip = new ZipFile(zipPath)){
+			Path destDirPath = destDirectory.getCanonicalFile().toPath();
+			
+			// Check all the entries for zip slip and create the directories before extracting anything
+			List<ZipEntry> fileEntries = new ArrayList<>();
+			List<Path> filePaths = new ArrayList<>();
+			Set<Path> directories = new HashSet<>();
+			for(ZipEntry entry: Collections.list(zip.entries())){
+				Path entryPath = resolveZipEntry(destDirPath, entry);
+				if(entry.isDirectory()){
+					createDirectories(entryPath, directories);
+				}else{
+					createDirectories(entryPath.getParent(), directories);
+					fileEntries.add(entry);
+					filePaths.add(entryPath);
+				}
+			}
+			
+			// Split the files into batches, with a few batches per thread so the threads stay busy
+			int batchSize = Math.max(1, fileEntries.size() / (threads * 4));
+			List<Callable<Void>> tasks = new ArrayList<>();
+			for(int start = 0; start < fileEntries.size(); start += batchSize){
+				List<ZipEntry> entries = fileEntries.subList(start, Math.min(fileEntries.size(), start + batchSize));
+				List<Path> paths = filePaths.subList(start, Math.min(filePaths.size(), start + batchSize));
+				tasks.add(() -> {
+					byte[] buffer = new byte[UNZIP_BUFFER_SIZE];
+					for(int i = 0; i < entries.size(); i++){
+						extractZipEntry(zip, entries.get(i), paths.get(i), buffer);
+					}
+					return null;
+				});
+			}
+			runInParallel(tasks, threads);
+		}
+	}
+	
+	/**
+	 * Lists the entries in the zip file at the given path, using the zip file's central directory
+	 * (so nothing is decompressed).
+	 *
+	 * @param zipPath The path to the zip file
+	 * @return A List of the {@link ZipEntry ZipEntries} in the zip file
+	 * @throws IOException If something goes wrong in reading the zip file
+	 */
+	public static List<ZipEntry> listZipEntries(String zipPath) throws IOException{
+		try(ZipFile zip = new ZipFile(zipPath)){
+			return zip.stream().collect(Collectors.toList());
+		}
+	}
+	
+	/**
+	 * Opens a single entry of the zip file at the given path as an {@link InputStream}, without extracting
+	 * anything else. The entry is found using the zip file's central directory, so no other entries are
+	 * read. The zip file is closed when the returned stream is closed.
+	 *
+	 * @param zipPath The path to the zip file
+	 * @param entryName The name of the entry to be opened
+	 * @return An {@link InputStream} of the (uncompressed) contents of the entry
+	 * @throws FileNotFoundException If there's no entry with the given name in the zip file
+	 * @throws IOException If something goes wrong in reading the zip file
+	 */
+	public static InputStream openZipEntry(String zipPath, String entryName) throws IOException{
+		ZipFile zip = new ZipFile(zipPath);
+		try{
+			ZipEntry entry = zip.getEntry(entryName);
+			if(entry == null){
+				throw new FileNotFoundException("Entry " + entryName + " not found in zip file: " + zipPath);
+			}
+			
+			// Close the zip file along with the stream
+			return new FilterInputStream(zip.getInputStream(entry)){
+				@Override
+				public void close() throws IOException{
+					try{
+						super.close();
+					}finally{
+						zip.close();
+					}
+				}
+			};
+		}catch(IOException | RuntimeException e){
+			zip.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Opens a single entry of the zip file at the given path as a {@link ReadableByteChannel}, without
+	 * extracting anything else. See {@link #openZipEntry(String, String)} for more details.
+	 *
+	 * @param zipPath The path to the zip file
+	 * @param entryName The name of the entry to be opened
+	 * @return A {@link ReadableByteChannel} of the (uncompressed) contents of the entry
+	 * @throws FileNotFoundException If there's no entry with the given name in the zip file
+	 * @throws IOException If something goes wrong in reading the zip file
+	 */
+	public static ReadableByteChannel openZipEntryChannel(String zipPath, String entryName) throws IOException{
+		return Channels.newChannel(openZipEntry(zipPath, entryName));
+	}
+	
+	/**
+	 * Extracts the entries of the zip file at the given path whose names match the given glob pattern
+	 * (e.g. {@code "data/**.txt"}) into the given destination directory. See
+	 * {@link #unzipEntries(String, File, Predicate)} for more details.
+	 *
+	 * @param zipPath The path to the zip file
+	 * @param destDirectory The directory to extract the entries to
+	 * @param glob The glob pattern (as in {@link FileSystems#getPathMatcher(String)}) for entry names
+	 * @return A List of the Files that were extracted
+	 * @throws IOException If something goes wrong in unzipping the entries
+	 */
+	public static List<File> unzipEntries(String zipPath, File destDirectory, String glob) throws IOException{
+		PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+		return unzipEntries(zipPath, destDirectory, entry -> matcher.matches(Paths.get(entry.getName())));
+	}
+	
+	/**
+	 * Extracts the entries of the zip file at the given path that match the given {@link Predicate} into
+	 * the given destination directory, keeping their paths from the zip file. Only the matching entries are
+	 * read, using the zip file's central directory to find them. Any directories needed for the entries are
+	 * created, and entries are checked against their canonical paths to prevent zip slip, the same as
+	 * {@link #unzipFile(String, File)}.
+	 *
+	 * @param zipPath The path to the zip file
+	 * @param destDirectory The directory to extract the entries to
+	 * @param filter The {@link Predicate} for which entries to extract
+	 * @return A List of the Files that were extracted (not including directories)
+	 * @throws IOException If something goes wrong in unzipping the entries
+	 */
+	public static List<File> unzipEntries(String zipPath, File destDirectory,
+	                                      Predicate<ZipEntry> filter) throws IOException{
+		try(ZipFile zip = new ZipFile(zipPath)){
+			Path destDirPath = destDirectory.getCanonicalFile().toPath();
+			Set<Path> directories = new HashSet<>();
+			List<File> files = new ArrayList<>();
+			byte[] buffer = null;
+			
+			for(ZipEntry entry: Collections.list(zip.entries())){
+				if(!filter.test(entry)){
+					continue;
+				}
+				
+				Path entryPath = resolveZipEntry(destDirPath, entry);
+				if(entry.isDirectory()){
+					createDirectories(entryPath, directories);
+				}else{
+					createDirectories(entryPath.getParent(), directories);
+					if(buffer == null){
+						buffer = new byte[UNZIP_BUFFER_SIZE];
+					}
+					extractZipEntry(zip, entry, entryPath, buffer);
+					files.add(entryPath.toFile());
+				}
+			}
+			return files;
+		}
+	}
+	
+	/**
+	 * Compresses the file at the given source path into a gzip file at the given path, using the default
+	 * compression level.
+	 *
+	 * @param sourcePath The path of the file to be compressed
+	 * @param gzipPath The path (and name) of the gzip file to be created
+	 * @throws IOException If something goes wrong in compressing the file
+	 */
+	public static void gzip(String sourcePath, String gzipPath) throws IOException{
+		gzip(new File(sourcePath), gzipPath, Deflater.DEFAULT_COMPRESSION);
+	}
+	
+	/**
+	 * Compresses the given File into a gzip file at the given path, using the given compression level.
+	 * The file is streamed through large buffers, so it never needs to fit in memory.
+	 *
+	 * @param source The File to be compressed
+	 * @param gzipPath The path (and name) of the gzip file to be created
+	 * @param compressionLevel The compression level (0-9 or {@link Deflater#DEFAULT_COMPRESSION}) to use
+	 * @throws IOException If something goes wrong in compressing the file
+	 */
+	public static void gzip(File source, String gzipPath, int compressionLevel) throws IOException{
+		checkCompressionLevel(compressionLevel);
+		try(InputStream in = Files.newInputStream(source.toPath());
+		    FileChannel channel = openForWriting(Paths.get(gzipPath));
+		    OutputStream out = new LevelGZIPOutputStream(Channels.newOutputStream(channel), compressionLevel)){
+			byte[] buffer = new byte[GZIP_BUFFER_SIZE];
+			int length;
+			while((length = in.read(buffer)) >= 0){
+				out.write(buffer, 0, length);
+			}
+		}
+	}
+	
+	/**
+	 * Compresses the file at the given source path into a gzip file at the given path, compressing blocks of
+	 * the file concurrently using a thread for each available processor and the default compression level.
+	 * See {@link #gzipParallel(File, String, int, int, int)} for more details.
+	 *
+	 * @param sourcePath The path of the file to be compressed
+	 * @param gzipPath The path (and name) of the gzip file to be created
+	 * @throws IOException If something goes wrong in compressing the file
+	 */
+	public static void gzipParallel(String sourcePath, String gzipPath) throws IOException{
+		gzipParallel(new File(sourcePath), gzipPath, Runtime.getRuntime().availableProcessors(),
+				Deflater.DEFAULT_COMPRESSION, DEFAULT_GZIP_BLOCK_SIZE);
+	}
+	
+	/**
+	 * Compresses the given file into a gzip file at the given path, splitting the file into blocks that are
+	 * compressed concurrently on the given number of threads (like pigz). Each block becomes its own gzip
+	 * member, and the members are concatenated in order, which any gzip reader (including {@link #gunzip})
+	 * reads as the original file. As blocks are compressed separately, the result is slightly larger than
+	 * with {@link #gzip(File, String, int)}, and larger blocks make less of a difference.
+	 *
+	 * @param source The file to be compressed
+	 * @param gzipPath The path (and name) of the gzip file to be created
+	 * @param threads The number of threads to compress blocks with
+	 * @param compressionLevel The compression level (0-9 or {@link Deflater#DEFAULT_COMPRESSION}) to use
+	 * @param blockSize The size (in bytes) of the blocks that are compressed separately
+	 * @throws IOException If something goes wrong in compressing the file
+	 */
+	public static void gzipParallel(File source, String gzipPath, int threads, int compressionLevel,
+	                                int blockSize) throws IOException{
+		new ParallelGzipWriter(threads, compressionLevel, blockSize).gzip(source, gzipPath);
+	}
+	
+	/**
+	 * Decompresses the gzip file at the given path into a file at the given destination path, creating any
+	 * directories necessary. Gzip files made of multiple members (e.g. from
+	 * {@link #gzipParallel(File, String, int, int, int)}) are decompressed as a single file.
+	 *
+	 * @param gzipPath The path of the gzip file
+	 * @param destinationPath The path of the file to decompress into
+	 * @throws IOException If something goes wrong in decompressing the file
+	 */
+	public static void gunzip(String gzipPath, String destinationPath) throws IOException{
+		try(InputStream in = new GZIPInputStream(Files.newInputStream(Paths.get(gzipPath)), GZIP_BUFFER_SIZE);
+		    FileChannel out = openForWriting(Paths.get(destinationPath))){
+			byte[] buffer = new byte[GZIP_BUFFER_SIZE];
+			int length;
+			while((length = in.read(buffer)) >= 0){
+				ByteBuffer data = ByteBuffer.wrap(buffer, 0, length);
+				while(data.hasRemaining()){
+					out.write(data);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Finds the path to extract the given {@link ZipEntry} to, checking that it is inside the destination
+	 * directory to prevent zip slip. Like {@link #unzipFile(String, File)}, the check uses the entry's canonical
+	 * path, so an entry can't escape through a symbolic link that already exists in the destination directory.
+	 *
+	 * @param destDirPath The canonical path of the directory being extracted to
+	 * @param entry The {@link ZipEntry} to find the path of
+	 * @return The path to extract the entry to
+	 * @throws IOException If the entry would be outside of the destination directory
+	 */
+	private static Path resolveZipEntry(Path destDirPath, ZipEntry entry) throws IOException{
+		Path entryPath = destDirPath.resolve(entry.getName()).normalize();
+		// The cheap check on the path itself rejects ../ entries without touching the file system
+		if(!entryPath.startsWith(destDirPath) || entryPath.equals(destDirPath)){
+			throw new IOException("Entry is outside of the target dir: " + entry.getName());
+		}
+		Path canonicalPath = entryPath.toFile().getCanonicalFile().toPath();
+		if(!canonicalPath.startsWith(destDirPath) || canonicalPath.equals(destDirPath)){
+			throw new IOException("Entry is outside of the target dir: " + entry.getName());
+		}
+		return entryPath;
+	}
+	
+	/**
+	 * Creates the given directory (and any parent directories) if it hasn't been created already.
+	 *
+	 * @param directory The directory to be created
+	 * @param created The directories that have already been created
+	 * @throws IOException If something goes wrong in creating the directory
+	 */
+	private static void createDirectories(Path directory, Set<Path> created) throws IOException{
+		if(created.add(directory)){
+			Files.createDirectories(directory);
+		}
+	}
+	
+	/**
+	 * Extracts the given {@link ZipEntry} from the {@link ZipFile} to the given path using the given buffer.
+	 *
+	 * @param zip The {@link ZipFile} to extract from
+	 * @param entry The {@link ZipEntry} to extract
+	 * @param entryPath The path to extract the entry to
+	 * @param buffer The buffer to use in copying the entry
+	 * @throws IOException If something goes wrong in extracting the entry
+	 */
+	private static void extractZipEntry(ZipFile zip, ZipEntry entry, Path entryPath, byte[] buffer) throws IOException{
+		try(InputStream in = zip.getInputStream(entry);
+		    FileOutputStream out = new FileOutputStream(entryPath.toFile())){
+			int length;
+			while((length = in.read(buffer)) > 0){
+				out.write(buffer, 0, length);
+			}
+		}
+	}
+	
+	/**
+	 * Checks that the given compression level is valid for a {@link Deflater}.
+	 *
+	 * @param compressionLevel The compression level to check
+	 * @throws IllegalArgumentException If the compression level isn't 0-9 or {@link Deflater#DEFAULT_COMPRESSION}
+	 */
+	static void checkCompressionLevel(int compressionLevel){
+		if(compressionLevel != Deflater.DEFAULT_COMPRESSION &&
+				(compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION)){
+			throw new IllegalArgumentException("Compression level must be between 0 and 9, but was " +
+					compressionLevel + "!");
+		}
+	}
+	
+	/**
+	 * Runs the given tasks on a new thread pool with the given number of threads, waiting for all of them to
+	 * finish. If any of the tasks fail, the first failure (in task order) is rethrown.
+	 *
+	 * @param tasks The tasks to be run
+	 * @param threads The number of threads to run the tasks with
+	 * @param <T> The type of result returned by the tasks
+	 * @return The results of the tasks, in the same order as the tasks
+	 * @throws IOException If any of the tasks throw an IOException, or are interrupted
+	 */
+	private static <T> List<T> runInParallel(List<Callable<T>> tasks, int threads) throws IOException{
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, tasks.size())));
+		try{
+			List<Future<T>> futures = executor.invokeAll(tasks);
+			List<T> results = new ArrayList<>(futures.size());
+			for(Future<T> future: futures){
+				results.add(future.get());
+			}
+			return results;
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for tasks to finish", e);
+		}catch(ExecutionException e){
+			throw ExceptionUtil.unwrapIO(e);
+		}finally{
+			executor.shutdownNow();
+		}
 	}
 }
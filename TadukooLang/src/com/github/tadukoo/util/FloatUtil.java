@@ -1,12 +1,21 @@
 package com.github.tadukoo.util;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Util functions for dealing with floats.
+ * <br><br>
+ * To avoid boxing floats in the first place, use a {@link com.github.tadukoo.util.primitive.FloatList}.
+ * <br><br>
+ * The array math functions (e.g. {@link #dot(float[], float[])}) are unrolled to work on several values at a
+ * time with independent accumulators, so they aren't held up waiting on each addition (and the JIT can
+ * vectorize them). Because of this, their results can differ in the last bits from adding the values up one
+ * at a time in order.
  *
  * @author Logan Ferree (Tadukoo)
- * @version 0.1-Alpha-SNAPSHOT
+ * @version Beta v.0.5
+ * @since 0.1-Alpha-SNAPSHOT
  */
 public final class FloatUtil{
 	
@@ -14,16 +23,219 @@ public final class FloatUtil{
 	private FloatUtil(){ }
 	
 	/**
-	 * Converts a List of Floats into an array of floats.
+	 * Converts a List of Floats into an array of floats. The List is iterated over (rather than using get(i)),
+	 * so this is linear for any kind of List.
 	 *
 	 * @param floatList The List of Floats to convert to an array
 	 * @return An array containing the floats from the List
 	 */
 	public static float[] convertListToArray(List<Float> floatList){
 		float[] floatArray = new float[floatList.size()];
-		for(int i = 0; i < floatList.size(); i++){
-			floatArray[i] = floatList.get(i);
+		int i = 0;
+		for(Float value: floatList){
+			floatArray[i++] = value;
 		}
 		return floatArray;
 	}
+	
+	/**
+	 * Adds up the given floats using Kahan summation, which carries along the rounding error of each addition,
+	 * so the result is much more accurate than adding them up directly (especially for many values of
+	 * different magnitudes).
+	 *
+	 * @param values The floats to be added up
+	 * @return The sum of the floats (0 if there are none)
+	 */
+	public static float sum(float[] values){
+		return sum(values, 0, values.length);
+	}
+	
+	/**
+	 * Adds up the given range of floats using Kahan summation (see {@link #sum(float[])}).
+	 *
+	 * @param values The array of floats to be added up
+	 * @param offset The index of the first float to add
+	 * @param length The number of floats to add
+	 * @return The sum of the floats (0 if there are none)
+	 */
+	public static float sum(float[] values, int offset, int length){
+		Objects.checkFromIndexSize(offset, length, values.length);
+		float sum = 0;
+		float compensation = 0;
+		// The plain sum (without compensation), for when the values are infinite or the sum overflows
+		float simpleSum = 0;
+		int end = offset + length;
+		for(int i = offset; i < end; i++){
+			// The compensation is the part of the previous values that was lost when adding them to the sum
+			float value = values[i] - compensation;
+			float total = sum + value;
+			compensation = (total - sum) - value;
+			sum = total;
+			simpleSum += values[i];
+		}
+		// Once the sum is infinite, the compensation becomes NaN (infinity minus infinity), so use the plain sum
+		if(Float.isNaN(sum) && Float.isInfinite(simpleSum)){
+			return simpleSum;
+		}
+		return sum;
+	}
+	
+	/**
+	 * Calculates the dot product of the given arrays (the sum of the products of their values).
+	 *
+	 * @param a The first array
+	 * @param b The second array
+	 * @return The dot product of the arrays
+	 */
+	public static float dot(float[] a, float[] b){
+		checkSameLength(a, b);
+		float sum0 = 0;
+		float sum1 = 0;
+		float sum2 = 0;
+		float sum3 = 0;
+		int i = 0;
+		for(; i + 3 < a.length; i += 4){
+			sum0 += a[i] * b[i];
+			sum1 += a[i + 1] * b[i + 1];
+			sum2 += a[i + 2] * b[i + 2];
+			sum3 += a[i + 3] * b[i + 3];
+		}
+		for(; i < a.length; i++){
+			sum0 += a[i] * b[i];
+		}
+		return (sum0 + sum1) + (sum2 + sum3);
+	}
+	
+	/**
+	 * Adds the given multiple of x to y, in place (y = a * x + y).
+	 *
+	 * @param a The multiple of x to add
+	 * @param x The array to add a multiple of
+	 * @param y The array to add to, which is changed
+	 */
+	public static void axpy(float a, float[] x, float[] y){
+		checkSameLength(x, y);
+		for(int i = 0; i < x.length; i++){
+			y[i] += a * x[i];
+		}
+	}
+	
+	/**
+	 * Multiplies all the given floats by the given factor, in place.
+	 *
+	 * @param values The floats to be scaled, which are changed
+	 * @param factor The factor to multiply the floats by
+	 */
+	public static void scale(float[] values, float factor){
+		for(int i = 0; i < values.length; i++){
+			values[i] *= factor;
+		}
+	}
+	
+	/**
+	 * Finds the smallest of the given floats, using the same rules as {@link Math#min(float, float)} (so NaN
+	 * is the smallest if there is one, and -0.0 is smaller than 0.0).
+	 *
+	 * @param values The floats to search
+	 * @return The smallest float
+	 */
+	public static float min(float[] values){
+		checkNotEmpty(values);
+		float min0 = values[0];
+		float min1 = values[0];
+		float min2 = values[0];
+		float min3 = values[0];
+		int i = 1;
+		for(; i + 3 < values.length; i += 4){
+			min0 = Math.min(min0, values[i]);
+			min1 = Math.min(min1, values[i + 1]);
+			min2 = Math.min(min2, values[i + 2]);
+			min3 = Math.min(min3, values[i + 3]);
+		}
+		for(; i < values.length; i++){
+			min0 = Math.min(min0, values[i]);
+		}
+		return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+	}
+	
+	/**
+	 * Finds the largest of the given floats, using the same rules as {@link Math#max(float, float)} (so NaN
+	 * is the largest if there is one, and 0.0 is larger than -0.0).
+	 *
+	 * @param values The floats to search
+	 * @return The largest float
+	 */
+	public static float max(float[] values){
+		checkNotEmpty(values);
+		float max0 = values[0];
+		float max1 = values[0];
+		float max2 = values[0];
+		float max3 = values[0];
+		int i = 1;
+		for(; i + 3 < values.length; i += 4){
+			max0 = Math.max(max0, values[i]);
+			max1 = Math.max(max1, values[i + 1]);
+			max2 = Math.max(max2, values[i + 2]);
+			max3 = Math.max(max3, values[i + 3]);
+		}
+		for(; i < values.length; i++){
+			max0 = Math.max(max0, values[i]);
+		}
+		return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+	}
+	
+	/**
+	 * Scales the given floats, in place, so that they have a length (Euclidean norm) of 1. The length is
+	 * calculated using doubles, so it doesn't overflow for large floats. If all the floats are 0, they're left
+	 * as they are.
+	 *
+	 * @param values The floats to be normalized, which are changed
+	 * @return The length of the floats before they were normalized
+	 */
+	public static float normalize(float[] values){
+		double sum0 = 0;
+		double sum1 = 0;
+		int i = 0;
+		for(; i + 1 < values.length; i += 2){
+			sum0 += (double) values[i] * values[i];
+			sum1 += (double) values[i + 1] * values[i + 1];
+		}
+		if(i < values.length){
+			sum0 += (double) values[i] * values[i];
+		}
+		double length = Math.sqrt(sum0 + sum1);
+		if(length != 0){
+			double factor = 1 / length;
+			for(int j = 0; j < values.length; j++){
+				values[j] = (float) (values[j] * factor);
+			}
+		}
+		return (float) length;
+	}
+	
+	/**
+	 * Checks that the given arrays are the same length.
+	 *
+	 * @param a The first array
+	 * @param b The second array
+	 * @throws IllegalArgumentException If the arrays aren't the same length
+	 */
+	private static void checkSameLength(float[] a, float[] b){
+		if(a.length != b.length){
+			throw new IllegalArgumentException("Arrays must be the same length, but were " + a.length + " and " +
+					b.length + "!");
+		}
+	}
+	
+	/**
+	 * Checks that the given array isn't empty.
+	 *
+	 * @param values The array to check
+	 * @throws IllegalArgumentException If the array is empty
+	 */
+	private static void checkNotEmpty(float[] values){
+		if(values.length == 0){
+			throw new IllegalArgumentException("Array must not be empty!");
+		}
+	}
 }
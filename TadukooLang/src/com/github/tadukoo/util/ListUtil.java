@@ -1,14 +1,23 @@
 package com.github.tadukoo.util;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Util functions for dealing with {@link List}s.
  * 
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2
+ * @version Beta v.0.5
  * @since Alpha v.0.1
  */
 public final class ListUtil{
@@ -50,4 +59,236 @@ public final class ListUtil{
 	public static <T> List<T> createList(T ... t){
 		return new ArrayList<>(Arrays.asList(t));
 	}
+	
+	/**
+	 * Creates an immutable snapshot of the given List, which can be shared between threads and held onto without
+	 * making any more copies of it. If the List is already a {@link PersistentList}, it's returned as-is, so
+	 * passing a snapshot along and taking a snapshot of it again costs nothing. Otherwise, the List is copied
+	 * once into a new PersistentList.
+	 * <br><br>
+	 * New versions of the snapshot can be made with {@link PersistentList#plus(Object)} and
+	 * {@link PersistentList#with(int, Object)}, which share structure with the snapshot instead of copying it.
+	 *
+	 * @param <T> The type of values in the List
+	 * @param list The List to take a snapshot of
+	 * @return An immutable PersistentList with the values of the given List
+	 */
+	public static <T> PersistentList<T> snapshot(List<? extends T> list){
+		return PersistentList.from(list);
+	}
+	
+	/**
+	 * Splits the given List into consecutive batches of the given size (the last batch may be smaller). The
+	 * batches are {@link List#subList(int, int) subList} views of the List, so nothing is copied, and they're
+	 * only created as they're grabbed. The List shouldn't be structurally changed while the batches are in use.
+	 * <br><br>
+	 * e.g. partition([1, 2, 3, 4, 5], 2) would produce:
+	 * <br>
+	 * [[1, 2], [3, 4], [5]]
+	 *
+	 * @param <T> The type of values in the List
+	 * @param list The List to be split
+	 * @param size The number of values in each batch
+	 * @return A List of the batches
+	 */
+	public static <T> List<List<T>> partition(List<T> list, int size){
+		checkPositive("Size", size);
+		return new Partition<>(list, size);
+	}
+	
+	/**
+	 * Creates a {@link Stream} of consecutive batches of the given List, the same as
+	 * {@link #partition(List, int)}. The Stream can be made parallel to process the batches across cores.
+	 *
+	 * @param <T> The type of values in the List
+	 * @param list The List to be split
+	 * @param size The number of values in each batch
+	 * @return A Stream of the batches
+	 */
+	public static <T> Stream<List<T>> chunkedStream(List<T> list, int size){
+		List<List<T>> batches = partition(list, size);
+		return IntStream.range(0, batches.size()).mapToObj(batches::get);
+	}
+	
+	/**
+	 * Runs the given consumer on consecutive batches of the given List in parallel, using the common
+	 * {@link ForkJoinPool}. See {@link #parallelForEachBatch(List, int, ForkJoinPool, Consumer)}.
+	 *
+	 * @param <T> The type of values in the List
+	 * @param list The List to be processed
+	 * @param batchSize The number of values in each batch
+	 * @param consumer The consumer to run on each batch
+	 */
+	public static <T> void parallelForEachBatch(List<T> list, int batchSize, Consumer<? super List<T>> consumer){
+		parallelForEachBatch(list, batchSize, ForkJoinPool.commonPool(), consumer);
+	}
+	
+	/**
+	 * Runs the given consumer on consecutive batches of the given List (as in {@link #partition(List, int)}) in
+	 * parallel, using the given {@link ForkJoinPool}, and waits for all of them to finish. The range of batches
+	 * is split in half recursively, so idle threads steal the unprocessed halves from busy ones and the work
+	 * stays balanced even when some batches take longer than others.
+	 * <br><br>
+	 * The consumer can be run on multiple batches at the same time, so it must be thread-safe. If the consumer
+	 * throws an unchecked exception, it's rethrown from here (if it was thrown on another thread, the
+	 * {@link ForkJoinPool} may wrap it as the cause of a new exception of the same type).
+	 *
+	 * @param <T> The type of values in the List
+	 * @param list The List to be processed
+	 * @param batchSize The number of values in each batch
+	 * @param pool The {@link ForkJoinPool} to run the batches in
+	 * @param consumer The consumer to run on each batch
+	 */
+	public static <T> void parallelForEachBatch(List<T> list, int batchSize, ForkJoinPool pool,
+	                                            Consumer<? super List<T>> consumer){
+		List<List<T>> batches = partition(list, batchSize);
+		if(batches.isEmpty()){
+			return;
+		}
+		pool.invoke(new BatchAction<>(batches, 0, batches.size(), consumer));
+	}
+	
+	/**
+	 * Creates a lazily-evaluated Iterable of sliding windows over the given List. Each window holds the given
+	 * number of consecutive values, and each window starts the given step after the previous one. Only full
+	 * windows are included, so a List smaller than the window size has no windows. Like
+	 * {@link #partition(List, int)}, the windows are {@link List#subList(int, int) subList} views, created as
+	 * they're iterated over.
+	 * <br><br>
+	 * e.g. windowed([1, 2, 3, 4, 5], 3, 1) would produce:
+	 * <br>
+	 * [[1, 2, 3], [2, 3, 4], [3, 4, 5]]
+	 *
+	 * @param <T> The type of values in the List
+	 * @param list The List to slide a window over
+	 * @param size The number of values in each window
+	 * @param step The number of values between the starts of consecutive windows
+	 * @return An Iterable over the windows
+	 */
+	public static <T> Iterable<List<T>> windowed(List<T> list, int size, int step){
+		checkPositive("Size", size);
+		checkPositive("Step", step);
+		return () -> new Iterator<>(){
+			/** The start of the next window */
+			private int start = 0;
+			
+			/** {@inheritDoc} */
+			@Override
+			public boolean hasNext(){
+				return start <= list.size() - size;
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public List<T> next(){
+				if(!hasNext()){
+					throw new NoSuchElementException();
+				}
+				List<T> window = list.subList(start, start + size);
+				// Stop instead of overflowing if the step goes past the end of the largest possible List
+				start = start > Integer.MAX_VALUE - step?Integer.MAX_VALUE:start + step;
+				return window;
+			}
+		};
+	}
+	
+	/**
+	 * Checks that the given value is positive.
+	 *
+	 * @param name The name of the value, for the error message
+	 * @param value The value to check
+	 * @throws IllegalArgumentException If the value isn't positive
+	 */
+	private static void checkPositive(String name, int value){
+		if(value <= 0){
+			throw new IllegalArgumentException(name + " must be positive, but was " + value + "!");
+		}
+	}
+	
+	/**
+	 * A List of consecutive batches of another List, used for {@link #partition(List, int)}.
+	 *
+	 * @param <T> The type of values in the List
+	 */
+	private static final class Partition<T> extends AbstractList<List<T>> implements RandomAccess{
+		/** The List being split */
+		private final List<T> list;
+		/** The number of values in each batch */
+		private final int size;
+		
+		/**
+		 * Creates a new Partition of the given List.
+		 *
+		 * @param list The List being split
+		 * @param size The number of values in each batch
+		 */
+		private Partition(List<T> list, int size){
+			this.list = list;
+			this.size = size;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public List<T> get(int index){
+			int batches = size();
+			if(index < 0 || index >= batches){
+				throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + batches);
+			}
+			int start = index * size;
+			return list.subList(start, start + Math.min(size, list.size() - start));
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int size(){
+			int listSize = list.size();
+			return listSize / size + (listSize % size == 0?0:1);
+		}
+	}
+	
+	/**
+	 * Runs a consumer on a range of batches, splitting the range in half until there's only one batch left, so
+	 * the halves can be stolen by other threads in the {@link ForkJoinPool}.
+	 *
+	 * @param <T> The type of values in the List
+	 */
+	private static final class BatchAction<T> extends RecursiveAction{
+		/** The version of this class, for serialization */
+		private static final long serialVersionUID = 1L;
+		/** The batches to run the consumer on */
+		private final List<List<T>> batches;
+		/** The index of the first batch in this range */
+		private final int from;
+		/** The index after the last batch in this range */
+		private final int to;
+		/** The consumer to run on each batch */
+		private final Consumer<? super List<T>> consumer;
+		
+		/**
+		 * Creates a new BatchAction.
+		 *
+		 * @param batches The batches to run the consumer on
+		 * @param from The index of the first batch in this range
+		 * @param to The index after the last batch in this range
+		 * @param consumer The consumer to run on each batch
+		 */
+		private BatchAction(List<List<T>> batches, int from, int to, Consumer<? super List<T>> consumer){
+			this.batches = batches;
+			this.from = from;
+			this.to = to;
+			this.consumer = consumer;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		protected void compute(){
+			if(to - from == 1){
+				consumer.accept(batches.get(from));
+			}else{
+				int middle = (from + to) >>> 1;
+				invokeAll(new BatchAction<>(batches, from, middle, consumer),
+						new BatchAction<>(batches, middle, to, consumer));
+			}
+		}
+	}
 }
@@ -0,0 +1,165 @@
+package com.github.tadukoo.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Creates gzip files by splitting the file into blocks and compressing the blocks concurrently on a pool of
+ * worker threads (the same idea as pigz). Each block is compressed into its own complete gzip member, and the
+ * members are written one after another, which the gzip format allows, so the result can be read by any
+ * gzip reader (including {@link java.util.zip.GZIPInputStream}). Since each block is compressed on its own,
+ * the result is slightly larger than compressing the whole file at once.
+ * <br><br>
+ * This is used by {@link FileUtil#gzipParallel(File, String, int, int, int)}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+final class ParallelGzipWriter{
+	/** The size (in bytes) of the buffer used to collect compressed output */
+	private static final int BUFFER_SIZE = 64 * 1024;
+	/** How many blocks can be compressed ahead of the block being written, per thread */
+	private static final int BLOCKS_AHEAD_PER_THREAD = 4;
+	/** The size (in bytes) of a gzip member header */
+	private static final int HEADER_SIZE = 10;
+	/** The size (in bytes) of a gzip member trailer */
+	private static final int TRAILER_SIZE = 8;
+	/** The operating system field of a gzip header, meaning unknown */
+	private static final int OS_UNKNOWN = 255;
+	
+	/** The number of threads to compress blocks with */
+	private final int threads;
+	/** The compression level to compress blocks with */
+	private final int compressionLevel;
+	/** The size (in bytes) of the blocks that are compressed separately */
+	private final int blockSize;
+	
+	/**
+	 * Creates a new ParallelGzipWriter.
+	 *
+	 * @param threads The number of threads to compress blocks with
+	 * @param compressionLevel The compression level (0-9 or {@link Deflater#DEFAULT_COMPRESSION}) to use
+	 * @param blockSize The size (in bytes) of the blocks that are compressed separately
+	 */
+	ParallelGzipWriter(int threads, int compressionLevel, int blockSize){
+		if(threads <= 0){
+			throw new IllegalArgumentException("Number of threads must be positive, but was " + threads + "!");
+		}
+		FileUtil.checkCompressionLevel(compressionLevel);
+		if(blockSize <= 0){
+			throw new IllegalArgumentException("Block size must be positive, but was " + blockSize + "!");
+		}
+		this.threads = threads;
+		this.compressionLevel = compressionLevel;
+		this.blockSize = blockSize;
+	}
+	
+	/**
+	 * Creates a gzip file at the given path containing the contents of the given file.
+	 *
+	 * @param source The file to be compressed
+	 * @param gzipPath The path (and name) of the gzip file to be created
+	 * @throws IOException If something goes wrong in compressing the file
+	 */
+	void gzip(File source, String gzipPath) throws IOException{
+		try(FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+		    FileChannel gzip = FileChannel.open(Paths.get(gzipPath), StandardOpenOption.CREATE,
+				    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)){
+			// An empty file still needs one (empty) member to be a valid gzip file
+			long size = in.size();
+			long blocks = Math.max(1, (size + blockSize - 1) / blockSize);
+			
+			ExecutorService executor = Executors.newFixedThreadPool((int) Math.min(threads, blocks));
+			Deque<Future<byte[]>> pending = new ArrayDeque<>();
+			try{
+				// Only let the workers get a few blocks ahead of the writer to limit memory use
+				long nextBlock = 0;
+				int maxPending = threads * BLOCKS_AHEAD_PER_THREAD;
+				while(nextBlock < blocks || !pending.isEmpty()){
+					while(nextBlock < blocks && pending.size() < maxPending){
+						long position = nextBlock++ * blockSize;
+						int length = (int) Math.min(blockSize, size - position);
+						pending.add(executor.submit(() -> compressBlock(in, position, length)));
+					}
+					
+					// Write the next member (in order) into the gzip file
+					ByteBuffer member = ByteBuffer.wrap(pending.removeFirst().get());
+					while(member.hasRemaining()){
+						gzip.write(member);
+					}
+				}
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while compressing " + source.getPath(), e);
+			}catch(ExecutionException e){
+				throw ExceptionUtil.unwrapIO(e);
+			}finally{
+				executor.shutdownNow();
+			}
+		}
+	}
+	
+	/**
+	 * Reads a block of the file and compresses it into a complete gzip member.
+	 *
+	 * @param in The {@link FileChannel} of the file being compressed (only positional reads are used, so it
+	 * can be shared between threads)
+	 * @param position The position of the block in the file
+	 * @param length The length of the block
+	 * @return The bytes of the gzip member
+	 * @throws IOException If something goes wrong in reading the block
+	 */
+	private byte[] compressBlock(FileChannel in, long position, int length) throws IOException{
+		// Read the block
+		byte[] block = new byte[length];
+		ByteBuffer blockBuffer = ByteBuffer.wrap(block);
+		while(blockBuffer.hasRemaining()){
+			if(in.read(blockBuffer, position + blockBuffer.position()) < 0){
+				throw new IOException("File was truncated while being compressed");
+			}
+		}
+		CRC32 crc = new CRC32();
+		crc.update(block, 0, length);
+		
+		// Write the header, compressed data, and trailer
+		ByteArrayOutputStream member = new ByteArrayOutputStream(length / 2 + HEADER_SIZE + TRAILER_SIZE);
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		header.putShort((short) 0x8b1f).put((byte) Deflater.DEFLATED).put((byte) 0).putInt(0)
+				.put((byte) (compressionLevel == Deflater.BEST_COMPRESSION?2:
+						(compressionLevel == Deflater.BEST_SPEED?4:0))).put((byte) OS_UNKNOWN);
+		member.write(header.array(), 0, HEADER_SIZE);
+		
+		Deflater deflater = new Deflater(compressionLevel, true);
+		try{
+			deflater.setInput(block, 0, length);
+			deflater.finish();
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while(!deflater.finished()){
+				int compressed = deflater.deflate(buffer);
+				member.write(buffer, 0, compressed);
+			}
+		}finally{
+			deflater.end();
+		}
+		
+		ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		trailer.putInt((int) crc.getValue()).putInt(length);
+		member.write(trailer.array(), 0, TRAILER_SIZE);
+		return member.toByteArray();
+	}
+}
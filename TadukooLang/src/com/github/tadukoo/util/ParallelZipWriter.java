@@ -0,0 +1,538 @@
+package com.github.tadukoo.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Creates zip files by compressing the entries concurrently on a pool of worker threads, then stitching the
+ * compressed entries into the zip file in order. Small entries are compressed into memory, while larger ones
+ * are compressed into temporary files. Entries with an extension in the stored extensions are not compressed,
+ * and are copied straight from the original file into the zip file. ZIP64 records are written when the zip
+ * file needs them (e.g. for entries or zip files over 4GB).
+ * <br><br>
+ * This is used by {@link FileUtil#zipFileParallel(File, String, int, int, Collection)}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+final class ParallelZipWriter{
+	/** The size (in bytes) of the buffers used when compressing entries */
+	private static final int BUFFER_SIZE = 64 * 1024;
+	/** Files up to this size (in bytes) are compressed into memory instead of into a temporary file */
+	private static final long IN_MEMORY_LIMIT = 4 * 1024 * 1024;
+	/** How many entries can be compressed ahead of the entry being written, per thread */
+	private static final int ENTRIES_AHEAD_PER_THREAD = 4;
+	/** The largest value that fits in a 4-byte field of a zip file */
+	private static final long ZIP32_MAX = 0xFFFFFFFFL;
+	/** The largest number of entries that fits in the end of central directory record */
+	private static final int ZIP32_MAX_ENTRIES = 0xFFFF;
+	/** The general purpose flag that marks entry names as UTF-8 */
+	private static final int UTF8_FLAG = 0x0800;
+	/** The compression method for entries that aren't compressed */
+	private static final int METHOD_STORED = 0;
+	/** The compression method for deflated entries */
+	private static final int METHOD_DEFLATED = 8;
+	/** The version needed to extract regular entries */
+	private static final int VERSION_DEFAULT = 20;
+	/** The version needed to extract ZIP64 entries */
+	private static final int VERSION_ZIP64 = 45;
+	/** The MS-DOS date/time for the earliest date that a zip file can hold (1980-01-01) */
+	private static final long EARLIEST_DOS_TIME = 0x00210000L;
+	
+	/**
+	 * A single file or directory to be added to the zip file.
+	 */
+	private static class Entry{
+		/** The File for this entry */
+		private final File file;
+		/** The name of this entry in the zip file */
+		private final String name;
+		/** Whether this entry is a directory */
+		private final boolean directory;
+		
+		/**
+		 * Creates a new Entry.
+		 *
+		 * @param file The File for this entry
+		 * @param name The name of this entry in the zip file
+		 * @param directory Whether this entry is a directory
+		 */
+		private Entry(File file, String name, boolean directory){
+			this.file = file;
+			this.name = name;
+			this.directory = directory;
+		}
+	}
+	
+	/**
+	 * An entry that has been compressed and is ready to be written into the zip file.
+	 */
+	private static class Segment{
+		/** The name of this entry in the zip file, encoded as UTF-8 */
+		private byte[] name;
+		/** Whether this entry is a directory */
+		private boolean directory;
+		/** The compression method of this entry */
+		private int method;
+		/** The MS-DOS last modified date/time of this entry */
+		private long dosTime;
+		/** The CRC-32 of the uncompressed data */
+		private long crc;
+		/** The size (in bytes) of the uncompressed data */
+		private long size;
+		/** The size (in bytes) of the compressed data */
+		private long compressedSize;
+		/** The compressed data, if it was compressed into memory */
+		private byte[] data;
+		/** The file holding the compressed data, if it wasn't compressed into memory */
+		private Path dataFile;
+		/** Whether {@link #dataFile} is a temporary file to be deleted once written */
+		private boolean temporary;
+		/** The offset of the local file header of this entry in the zip file */
+		private long offset;
+		
+		/**
+		 * Deletes the temporary file holding the compressed data, if there is one.
+		 */
+		private void cleanup(){
+			if(temporary && dataFile != null){
+				try{
+					Files.deleteIfExists(dataFile);
+				}catch(IOException ignored){
+					
+				}
+			}
+		}
+	}
+	
+	/** The number of threads to compress entries with */
+	private final int threads;
+	/** The compression level to use for deflated entries */
+	private final int compressionLevel;
+	/** The (lowercase) file extensions of files that should be stored without compression */
+	private final Set<String> storedExtensions;
+	
+	/**
+	 * Creates a new ParallelZipWriter.
+	 *
+	 * @param threads The number of threads to compress entries with
+	 * @param compressionLevel The compression level (0-9 or {@link Deflater#DEFAULT_COMPRESSION}) to use
+	 * @param storedExtensions File extensions of files that should be stored without compression
+	 */
+	ParallelZipWriter(int threads, int compressionLevel, Collection<String> storedExtensions){
+		if(threads <= 0){
+			throw new IllegalArgumentException("Number of threads must be positive, but was " + threads + "!");
+		}
+		FileUtil.checkCompressionLevel(compressionLevel);
+		this.threads = threads;
+		this.compressionLevel = compressionLevel;
+		this.storedExtensions = new HashSet<>();
+		for(String extension: storedExtensions){
+			this.storedExtensions.add(extension.toLowerCase());
+		}
+	}
+	
+	/**
+	 * Creates a zip file at the given path containing the given File (which can be a file or directory).
+	 * Hidden files are skipped, the same as in {@link FileUtil#zipFile(File, String)}.
+	 *
+	 * @param fileToZip The File to be zipped (can be file or directory)
+	 * @param zipPath The path (and name) of the zip file to be created
+	 * @throws IOException If something goes wrong in zipping the file
+	 */
+	void zip(File fileToZip, String zipPath) throws IOException{
+		// Find all the entries to be zipped
+		List<Entry> entries = new ArrayList<>();
+		collectEntries(fileToZip, fileToZip.getName(), entries);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, entries.size())));
+		Deque<Future<Segment>> pending = new ArrayDeque<>();
+		List<Segment> written = new ArrayList<>(entries.size());
+		try(FileChannel zip = FileChannel.open(Paths.get(zipPath), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)){
+			// Only let the workers get a few entries ahead of the writer to limit memory and temp file use
+			int nextEntry = 0;
+			int maxPending = threads * ENTRIES_AHEAD_PER_THREAD;
+			while(nextEntry < entries.size() || !pending.isEmpty()){
+				while(nextEntry < entries.size() && pending.size() < maxPending){
+					Entry entry = entries.get(nextEntry++);
+					pending.add(executor.submit(() -> compress(entry)));
+				}
+				
+				// Write the next entry (in order) into the zip file
+				Segment segment = pending.removeFirst().get();
+				try{
+					segment.offset = zip.position();
+					writeLocalHeader(zip, segment);
+					writeData(zip, segment);
+				}finally{
+					segment.cleanup();
+				}
+				segment.data = null;
+				written.add(segment);
+			}
+			
+			writeCentralDirectory(zip, written);
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while zipping " + fileToZip.getPath(), e);
+		}catch(ExecutionException e){
+			throw ExceptionUtil.unwrapIO(e);
+		}finally{
+			executor.shutdownNow();
+			cleanupPending(executor, pending);
+		}
+	}
+	
+	/**
+	 * Adds an entry for the given File (and any children if it's a directory) to the given List of entries.
+	 *
+	 * @param file The File to add entries for
+	 * @param name The name of the File in the zip file
+	 * @param entries The List of entries to add to
+	 */
+	private static void collectEntries(File file, String name, List<Entry> entries){
+		if(file.isHidden()){
+			return;
+		}
+		
+		if(file.isDirectory()){
+			// Directory entries need to end in /
+			if(!name.endsWith("/")){
+				name += "/";
+			}
+			entries.add(new Entry(file, name, true));
+			
+			// Add all the children to the zip
+			File[] children = file.listFiles();
+			if(children != null){
+				for(File child: children){
+					collectEntries(child, name + child.getName(), entries);
+				}
+			}
+		}else{
+			entries.add(new Entry(file, name, false));
+		}
+	}
+	
+	/**
+	 * Compresses the given entry (unless it should be stored) and calculates its CRC-32.
+	 *
+	 * @param entry The entry to be compressed
+	 * @return The compressed entry, ready to be written into the zip file
+	 * @throws IOException If something goes wrong in compressing the entry
+	 */
+	private Segment compress(Entry entry) throws IOException{
+		Segment segment = new Segment();
+		segment.name = entry.name.getBytes(StandardCharsets.UTF_8);
+		segment.directory = entry.directory;
+		segment.dosTime = toDosTime(entry.file.lastModified());
+		
+		// Directories have no data
+		if(entry.directory){
+			segment.method = METHOD_STORED;
+			return segment;
+		}
+		
+		Path source = entry.file.toPath();
+		long size = Files.size(source);
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		String extension = FileUtil.getFileExtension(entry.file.getName());
+		if(extension != null && storedExtensions.contains(extension.toLowerCase())){
+			// Stored entries are copied straight from the original file, so we only need the CRC
+			segment.method = METHOD_STORED;
+			try(InputStream in = Files.newInputStream(source)){
+				int length;
+				while((length = in.read(buffer)) >= 0){
+					crc.update(buffer, 0, length);
+				}
+			}
+			segment.dataFile = source;
+			segment.compressedSize = size;
+		}else{
+			// Deflate the file into memory or a temporary file
+			segment.method = METHOD_DEFLATED;
+			ByteArrayOutputStream memory = null;
+			OutputStream target;
+			if(size <= IN_MEMORY_LIMIT){
+				memory = new ByteArrayOutputStream((int) Math.max(32, size / 2));
+				target = memory;
+			}else{
+				segment.dataFile = Files.createTempFile("tadukoo-zip", ".segment");
+				segment.temporary = true;
+				target = Files.newOutputStream(segment.dataFile);
+			}
+			
+			Deflater deflater = new Deflater(compressionLevel, true);
+			try(InputStream in = Files.newInputStream(source);
+			    DeflaterOutputStream out = new DeflaterOutputStream(target, deflater, BUFFER_SIZE)){
+				int length;
+				while((length = in.read(buffer)) >= 0){
+					crc.update(buffer, 0, length);
+					out.write(buffer, 0, length);
+				}
+				out.finish();
+				segment.compressedSize = deflater.getBytesWritten();
+			}catch(IOException | RuntimeException e){
+				segment.cleanup();
+				throw e;
+			}finally{
+				deflater.end();
+			}
+			if(memory != null){
+				segment.data = memory.toByteArray();
+			}
+		}
+		segment.crc = crc.getValue();
+		segment.size = size;
+		return segment;
+	}
+	
+	/**
+	 * Writes the local file header for the given segment at the current position of the zip file.
+	 *
+	 * @param zip The {@link FileChannel} for the zip file
+	 * @param segment The segment to write the header for
+	 * @throws IOException If something goes wrong in writing the header
+	 */
+	private static void writeLocalHeader(FileChannel zip, Segment segment) throws IOException{
+		boolean zip64 = segment.size >= ZIP32_MAX || segment.compressedSize >= ZIP32_MAX;
+		ByteBuffer header = newBuffer(30 + segment.name.length + (zip64?20:0));
+		header.putInt(0x04034b50);
+		header.putShort((short) (zip64?VERSION_ZIP64:VERSION_DEFAULT));
+		header.putShort((short) UTF8_FLAG);
+		header.putShort((short) segment.method);
+		header.putInt((int) segment.dosTime);
+		header.putInt((int) segment.crc);
+		header.putInt((int) (zip64?ZIP32_MAX:segment.compressedSize));
+		header.putInt((int) (zip64?ZIP32_MAX:segment.size));
+		header.putShort((short) segment.name.length);
+		header.putShort((short) (zip64?20:0));
+		header.put(segment.name);
+		if(zip64){
+			// The local ZIP64 extra field must contain both sizes
+			header.putShort((short) 0x0001);
+			header.putShort((short) 16);
+			header.putLong(segment.size);
+			header.putLong(segment.compressedSize);
+		}
+		writeFully(zip, header);
+	}
+	
+	/**
+	 * Writes the (compressed) data for the given segment at the current position of the zip file.
+	 *
+	 * @param zip The {@link FileChannel} for the zip file
+	 * @param segment The segment to write the data for
+	 * @throws IOException If something goes wrong in writing the data
+	 */
+	private static void writeData(FileChannel zip, Segment segment) throws IOException{
+		if(segment.data != null){
+			writeFully(zip, ByteBuffer.wrap(segment.data));
+		}else if(segment.dataFile != null){
+			// Let the OS copy the data directly between the files
+			try(FileChannel data = FileChannel.open(segment.dataFile, StandardOpenOption.READ)){
+				long position = 0;
+				while(position < segment.compressedSize){
+					long transferred = data.transferTo(position, segment.compressedSize - position, zip);
+					if(transferred <= 0){
+						throw new IOException("File changed while being zipped: " + segment.dataFile);
+					}
+					position += transferred;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Writes the central directory and end of central directory records (including ZIP64 records if
+	 * needed) for the given segments at the current position of the zip file.
+	 *
+	 * @param zip The {@link FileChannel} for the zip file
+	 * @param segments The segments that have been written into the zip file
+	 * @throws IOException If something goes wrong in writing the central directory
+	 */
+	private static void writeCentralDirectory(FileChannel zip, List<Segment> segments) throws IOException{
+		long centralDirectoryOffset = zip.position();
+		for(Segment segment: segments){
+			// Only the values that don't fit go in the ZIP64 extra field
+			boolean sizeZip64 = segment.size >= ZIP32_MAX;
+			boolean compressedSizeZip64 = segment.compressedSize >= ZIP32_MAX;
+			boolean offsetZip64 = segment.offset >= ZIP32_MAX;
+			int extraLength = (sizeZip64?8:0) + (compressedSizeZip64?8:0) + (offsetZip64?8:0);
+			boolean zip64 = extraLength > 0;
+			
+			ByteBuffer header = newBuffer(46 + segment.name.length + (zip64?4 + extraLength:0));
+			header.putInt(0x02014b50);
+			header.putShort((short) (zip64?VERSION_ZIP64:VERSION_DEFAULT));
+			header.putShort((short) (zip64?VERSION_ZIP64:VERSION_DEFAULT));
+			header.putShort((short) UTF8_FLAG);
+			header.putShort((short) segment.method);
+			header.putInt((int) segment.dosTime);
+			header.putInt((int) segment.crc);
+			header.putInt((int) (compressedSizeZip64?ZIP32_MAX:segment.compressedSize));
+			header.putInt((int) (sizeZip64?ZIP32_MAX:segment.size));
+			header.putShort((short) segment.name.length);
+			header.putShort((short) (zip64?4 + extraLength:0));
+			// Comment length, disk number, and internal attributes
+			header.putShort((short) 0);
+			header.putShort((short) 0);
+			header.putShort((short) 0);
+			// External attributes (MS-DOS directory flag)
+			header.putInt(segment.directory?0x10:0);
+			header.putInt((int) (offsetZip64?ZIP32_MAX:segment.offset));
+			header.put(segment.name);
+			if(zip64){
+				header.putShort((short) 0x0001);
+				header.putShort((short) extraLength);
+				if(sizeZip64){
+					header.putLong(segment.size);
+				}
+				if(compressedSizeZip64){
+					header.putLong(segment.compressedSize);
+				}
+				if(offsetZip64){
+					header.putLong(segment.offset);
+				}
+			}
+			writeFully(zip, header);
+		}
+		long centralDirectoryEnd = zip.position();
+		long centralDirectorySize = centralDirectoryEnd - centralDirectoryOffset;
+		
+		// Write the ZIP64 end of central directory record and locator if they're needed
+		boolean zip64 = segments.size() >= ZIP32_MAX_ENTRIES || centralDirectoryOffset >= ZIP32_MAX ||
+				centralDirectorySize >= ZIP32_MAX;
+		if(zip64){
+			ByteBuffer end64 = newBuffer(56 + 20);
+			end64.putInt(0x06064b50);
+			end64.putLong(44);
+			end64.putShort((short) VERSION_ZIP64);
+			end64.putShort((short) VERSION_ZIP64);
+			end64.putInt(0);
+			end64.putInt(0);
+			end64.putLong(segments.size());
+			end64.putLong(segments.size());
+			end64.putLong(centralDirectorySize);
+			end64.putLong(centralDirectoryOffset);
+			
+			end64.putInt(0x07064b50);
+			end64.putInt(0);
+			end64.putLong(centralDirectoryEnd);
+			end64.putInt(1);
+			writeFully(zip, end64);
+		}
+		
+		ByteBuffer end = newBuffer(22);
+		end.putInt(0x06054b50);
+		end.putShort((short) 0);
+		end.putShort((short) 0);
+		end.putShort((short) (zip64?ZIP32_MAX_ENTRIES:segments.size()));
+		end.putShort((short) (zip64?ZIP32_MAX_ENTRIES:segments.size()));
+		end.putInt((int) (zip64?ZIP32_MAX:centralDirectorySize));
+		end.putInt((int) (zip64?ZIP32_MAX:centralDirectoryOffset));
+		end.putShort((short) 0);
+		writeFully(zip, end);
+	}
+	
+	/**
+	 * Waits for any entries still being compressed to finish and removes their temporary files. Used when
+	 * zipping fails part way through.
+	 *
+	 * @param executor The (already shut down) {@link ExecutorService} compressing the entries
+	 * @param pending The entries that haven't been written into the zip file
+	 */
+	private static void cleanupPending(ExecutorService executor, Deque<Future<Segment>> pending){
+		if(pending.isEmpty()){
+			return;
+		}
+		try{
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+		for(Future<Segment> future: pending){
+			if(future.isDone() && !future.isCancelled()){
+				try{
+					future.get().cleanup();
+				}catch(InterruptedException | ExecutionException ignored){
+					
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Converts the given time (in milliseconds since the epoch) to an MS-DOS date/time, as used in zip files.
+	 *
+	 * @param time The time in milliseconds since the epoch
+	 * @return The MS-DOS date/time (date in the upper 16 bits, time in the lower 16 bits)
+	 */
+	private static long toDosTime(long time){
+		LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+		int year = dateTime.getYear();
+		if(year < 1980){
+			return EARLIEST_DOS_TIME;
+		}
+		return ((long) (year - 1980) << 25) | ((long) dateTime.getMonthValue() << 21) |
+				((long) dateTime.getDayOfMonth() << 16) | ((long) dateTime.getHour() << 11) |
+				((long) dateTime.getMinute() << 5) | ((long) dateTime.getSecond() >> 1);
+	}
+	
+	/**
+	 * Creates a new little-endian {@link ByteBuffer} of the given size, as zip files are little-endian.
+	 *
+	 * @param size The size of the buffer
+	 * @return The new {@link ByteBuffer}
+	 */
+	private static ByteBuffer newBuffer(int size){
+		return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+	}
+	
+	/**
+	 * Writes the whole (filled) buffer to the zip file.
+	 *
+	 * @param zip The {@link FileChannel} for the zip file
+	 * @param buffer The {@link ByteBuffer} to write (it will be flipped first)
+	 * @throws IOException If something goes wrong in writing the buffer
+	 */
+	private static void writeFully(FileChannel zip, ByteBuffer buffer) throws IOException{
+		if(buffer.position() != 0){
+			buffer.flip();
+		}
+		while(buffer.hasRemaining()){
+			zip.write(buffer);
+		}
+	}
+}
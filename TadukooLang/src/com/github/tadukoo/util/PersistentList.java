@@ -0,0 +1,322 @@
+package com.github.tadukoo.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A Persistent List is an immutable {@link List} where "changing" the list (e.g. {@link #plus(Object)} or
+ * {@link #with(int, Object)}) returns a new version of the list, leaving the original as it was. The new version
+ * shares almost all of its structure with the original, so making one only copies a handful of small arrays
+ * instead of the whole list.
+ * <br><br>
+ * The values are stored in a trie of arrays of 32, with the last (up to) 32 values kept in a separate tail array,
+ * so that getting, updating, and appending values are all O(log32 n), which is effectively constant time
+ * (a list of a billion values is only 6 levels deep), and most appends only copy the tail.
+ * <br><br>
+ * As Persistent Lists can never change, they can be shared between threads and held onto without copying
+ * them. The usual {@link List} methods that would change the list (e.g. {@link #add(Object)}) throw an
+ * {@link UnsupportedOperationException}. Null values are allowed.
+ *
+ * @param <E> The type of values in the list
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess{
+	/** The number of bits of an index used at each level of the trie */
+	private static final int BITS = 5;
+	/** The number of children of each node in the trie (and values in each leaf) */
+	private static final int WIDTH = 1 << BITS;
+	/** The mask to grab the bits of an index for one level of the trie */
+	private static final int MASK = WIDTH - 1;
+	/** The empty list, shared by all types since it has no values */
+	private static final PersistentList<?> EMPTY = new PersistentList<>(0, BITS, new Object[0], new Object[0]);
+	
+	/** The number of values in the list */
+	private final int size;
+	/** The number of bits to shift an index by to find its child of the root */
+	private final int shift;
+	/** The root of the trie (each node is an Object[] of its children, and leaves are Object[]s of values) */
+	private final Object[] root;
+	/** The last (up to 32) values in the list, which aren't in the trie yet (it's only empty if the list is) */
+	private final Object[] tail;
+	
+	/**
+	 * Creates a new PersistentList.
+	 *
+	 * @param size The number of values in the list
+	 * @param shift The number of bits to shift an index by to find its child of the root
+	 * @param root The root of the trie
+	 * @param tail The last (up to 32) values in the list
+	 */
+	private PersistentList(int size, int shift, Object[] root, Object[] tail){
+		this.size = size;
+		this.shift = shift;
+		this.root = root;
+		this.tail = tail;
+	}
+	
+	/**
+	 * @param <E> The type of values in the list
+	 * @return An empty PersistentList
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentList<E> empty(){
+		return (PersistentList<E>) EMPTY;
+	}
+	
+	/**
+	 * Creates a PersistentList containing the given values.
+	 *
+	 * @param <E> The type of values in the list
+	 * @param values The values to put in the list
+	 * @return A new PersistentList containing the given values
+	 */
+	@SafeVarargs
+	public static <E> PersistentList<E> of(E ... values){
+		// Copied element by element so the varargs array itself never leaves this method
+		Object[] copy = new Object[values.length];
+		for(int i = 0; i < values.length; i++){
+			copy[i] = values[i];
+		}
+		return build(copy);
+	}
+	
+	/**
+	 * Creates a PersistentList containing the values of the given Collection, in its iteration order. This copies
+	 * the values once, building the trie directly rather than appending one value at a time.
+	 *
+	 * @param <E> The type of values in the list
+	 * @param collection The Collection of values to put in the list
+	 * @return A new PersistentList containing the values of the Collection
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentList<E> from(Collection<? extends E> collection){
+		if(collection instanceof PersistentList){
+			return (PersistentList<E>) collection;
+		}
+		return build(collection.toArray());
+	}
+	
+	/**
+	 * Builds a PersistentList from the given array of values (the values are copied out of the array).
+	 *
+	 * @param <E> The type of values in the list
+	 * @param values The values to put in the list
+	 * @return A new PersistentList containing the values
+	 */
+	private static <E> PersistentList<E> build(Object[] values){
+		int size = values.length;
+		if(size == 0){
+			return empty();
+		}
+		
+		// The tail always holds between 1 and 32 values, and everything before it goes in full leaves
+		int leafCount = (size - 1) >>> BITS;
+		Object[] tail = Arrays.copyOfRange(values, leafCount << BITS, size, Object[].class);
+		Object[][] nodes = new Object[leafCount][];
+		for(int i = 0; i < leafCount; i++){
+			nodes[i] = Arrays.copyOfRange(values, i << BITS, (i + 1) << BITS, Object[].class);
+		}
+		
+		// Group the nodes into parents of 32 until they all fit under the root
+		int shift = BITS;
+		while(nodes.length > WIDTH){
+			Object[][] parents = new Object[(nodes.length + MASK) >>> BITS][];
+			for(int i = 0; i < parents.length; i++){
+				parents[i] = Arrays.copyOfRange(nodes, i << BITS, Math.min((i + 1) << BITS, nodes.length),
+						Object[].class);
+			}
+			nodes = parents;
+			shift += BITS;
+		}
+		return new PersistentList<>(size, shift, Arrays.copyOf(nodes, nodes.length, Object[].class), tail);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int size(){
+		return size;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index){
+		Objects.checkIndex(index, size);
+		return (E) leafFor(index)[index & MASK];
+	}
+	
+	/**
+	 * Creates a new version of this list with the given value added to the end.
+	 *
+	 * @param value The value to be added
+	 * @return A new PersistentList with the value added (this list is unchanged)
+	 */
+	public PersistentList<E> plus(E value){
+		// If there's room in the tail, only the tail needs to be copied
+		if(tail.length < WIDTH){
+			Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+			newTail[tail.length] = value;
+			return new PersistentList<>(size + 1, shift, root, newTail);
+		}
+		
+		// Otherwise the full tail goes into the trie, adding a new level above the root if the trie is full
+		Object[] newRoot;
+		int newShift = shift;
+		if((size >>> BITS) > (1 << shift)){
+			newRoot = new Object[]{root, newPath(shift, tail)};
+			newShift += BITS;
+		}else{
+			newRoot = pushTail(shift, root, tail);
+		}
+		return new PersistentList<>(size + 1, newShift, newRoot, new Object[]{value});
+	}
+	
+	/**
+	 * Creates a new version of this list with the values of the given Collection added to the end.
+	 *
+	 * @param collection The Collection of values to be added
+	 * @return A new PersistentList with the values added (this list is unchanged)
+	 */
+	public PersistentList<E> plusAll(Collection<? extends E> collection){
+		if(size == 0){
+			return from(collection);
+		}
+		PersistentList<E> list = this;
+		for(E value: collection){
+			list = list.plus(value);
+		}
+		return list;
+	}
+	
+	/**
+	 * Creates a new version of this list with the value at the given index replaced.
+	 *
+	 * @param index The index of the value to replace
+	 * @param value The new value
+	 * @return A new PersistentList with the value replaced (this list is unchanged)
+	 */
+	public PersistentList<E> with(int index, E value){
+		Objects.checkIndex(index, size);
+		if(index >= tailOffset()){
+			Object[] newTail = tail.clone();
+			newTail[index & MASK] = value;
+			return new PersistentList<>(size, shift, root, newTail);
+		}
+		return new PersistentList<>(size, shift, replace(shift, root, index, value), tail);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Iterator<E> iterator(){
+		return new Iterator<>(){
+			/** The index of the next value */
+			private int index = 0;
+			/** The leaf holding the next value */
+			private Object[] leaf = leafFor(0);
+			
+			/** {@inheritDoc} */
+			@Override
+			public boolean hasNext(){
+				return index < size;
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next(){
+				if(index >= size){
+					throw new NoSuchElementException();
+				}
+				if((index & MASK) == 0 && index != 0){
+					leaf = leafFor(index);
+				}
+				return (E) leaf[index++ & MASK];
+			}
+		};
+	}
+	
+	/**
+	 * @return The index of the first value in the tail
+	 */
+	private int tailOffset(){
+		return size - tail.length;
+	}
+	
+	/**
+	 * Finds the leaf (or the tail) holding the value at the given index.
+	 *
+	 * @param index The index of the value
+	 * @return The array holding the value
+	 */
+	private Object[] leafFor(int index){
+		if(index >= tailOffset()){
+			return tail;
+		}
+		Object[] node = root;
+		for(int level = shift; level > 0; level -= BITS){
+			node = (Object[]) node[(index >>> level) & MASK];
+		}
+		return node;
+	}
+	
+	/**
+	 * Copies the path from the given node down to where the full tail goes, adding the tail at the end of it.
+	 *
+	 * @param level The level of the given node
+	 * @param node The node to add the tail under
+	 * @param tailLeaf The full tail, to become a leaf
+	 * @return A copy of the node with the tail added under it
+	 */
+	private Object[] pushTail(int level, Object[] node, Object[] tailLeaf){
+		int childIndex = ((size - 1) >>> level) & MASK;
+		Object[] newNode = Arrays.copyOf(node, Math.max(node.length, childIndex + 1));
+		if(level == BITS){
+			newNode[childIndex] = tailLeaf;
+		}else if(childIndex < node.length){
+			newNode[childIndex] = pushTail(level - BITS, (Object[]) node[childIndex], tailLeaf);
+		}else{
+			newNode[childIndex] = newPath(level - BITS, tailLeaf);
+		}
+		return newNode;
+	}
+	
+	/**
+	 * Creates a new path of single-child nodes from the given level down to the given leaf.
+	 *
+	 * @param level The level of the top of the path
+	 * @param leaf The leaf at the bottom of the path
+	 * @return The top of the path
+	 */
+	private static Object[] newPath(int level, Object[] leaf){
+		return level == 0?leaf:new Object[]{newPath(level - BITS, leaf)};
+	}
+	
+	/**
+	 * Copies the path from the given node down to the given index, replacing the value at the index.
+	 *
+	 * @param level The level of the given node
+	 * @param node The node holding the index
+	 * @param index The index of the value to replace
+	 * @param value The new value
+	 * @return A copy of the node with the value replaced
+	 */
+	private static Object[] replace(int level, Object[] node, int index, Object value){
+		Object[] newNode = node.clone();
+		if(level == 0){
+			newNode[index & MASK] = value;
+		}else{
+			int childIndex = (index >>> level) & MASK;
+			newNode[childIndex] = replace(level - BITS, (Object[]) node[childIndex], index, value);
+		}
+		return newNode;
+	}
+}
@@ -0,0 +1,208 @@
+package com.github.tadukoo.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * String Matcher checks whether a string is one of a set of candidate strings, for when the same set is checked
+ * against over and over (e.g. checking incoming names against a set of allowed names). It's compiled once from
+ * the candidates into an open-addressed hash table, so each check is a hash and (usually) a single comparison,
+ * instead of the linear scan done by {@link StringUtil#equalsAny(String, String...)}.
+ * <br><br>
+ * A matcher created with {@link #ofIgnoreCase(String...)} matches the same strings as
+ * {@link StringUtil#equalsAnyIgnoreCase(String, String...)}. It hashes the case-folded characters of the
+ * string as it goes, so no lowercase copy of the string is made.
+ * <br><br>
+ * Null is matched only if null is one of the candidates, the same as in {@link StringUtil}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public final class StringMatcher{
+	/** The (distinct, non-null) candidate strings, in the slots of the hash table (empty slots are null) */
+	private final String[] table;
+	/** The hash of the candidate in each slot of the table */
+	private final int[] hashes;
+	/** The mask to turn a hash into a slot of the table */
+	private final int mask;
+	/** Whether to ignore case when matching */
+	private final boolean ignoreCase;
+	/** Whether null is one of the candidates */
+	private final boolean matchesNull;
+	/** The number of distinct candidates */
+	private final int size;
+	/** The length of the shortest candidate */
+	private final int minLength;
+	/** The length of the longest candidate */
+	private final int maxLength;
+	
+	/**
+	 * Compiles a new StringMatcher from the given candidates.
+	 *
+	 * @param candidates The candidate strings to match
+	 * @param ignoreCase Whether to ignore case when matching
+	 */
+	private StringMatcher(Collection<String> candidates, boolean ignoreCase){
+		this.ignoreCase = ignoreCase;
+		
+		// Keep the table at most half full so probe sequences stay short
+		int capacity = Integer.highestOneBit(Math.max(1, candidates.size()) * 2 - 1) << 1;
+		table = new String[capacity];
+		hashes = new int[capacity];
+		mask = capacity - 1;
+		
+		boolean hasNull = false;
+		int count = 0;
+		int min = Integer.MAX_VALUE;
+		int max = 0;
+		for(String candidate: candidates){
+			if(candidate == null){
+				hasNull = true;
+				continue;
+			}
+			int hash = hash(candidate);
+			int slot = find(candidate, hash);
+			if(table[slot] == null){
+				table[slot] = candidate;
+				hashes[slot] = hash;
+				count++;
+				min = Math.min(min, candidate.length());
+				max = Math.max(max, candidate.length());
+			}
+		}
+		matchesNull = hasNull;
+		size = count;
+		minLength = min;
+		maxLength = max;
+	}
+	
+	/**
+	 * Compiles a StringMatcher that matches strings equal to any of the given candidates.
+	 *
+	 * @param candidates The candidate strings to match (can include null)
+	 * @return A new StringMatcher for the candidates
+	 */
+	public static StringMatcher of(String ... candidates){
+		return new StringMatcher(Arrays.asList(candidates), false);
+	}
+	
+	/**
+	 * Compiles a StringMatcher that matches strings equal to any of the given candidates.
+	 *
+	 * @param candidates The candidate strings to match (can include null)
+	 * @return A new StringMatcher for the candidates
+	 */
+	public static StringMatcher of(Collection<String> candidates){
+		return new StringMatcher(candidates, false);
+	}
+	
+	/**
+	 * Compiles a StringMatcher that matches strings equal to any of the given candidates, ignoring case.
+	 *
+	 * @param candidates The candidate strings to match (can include null)
+	 * @return A new StringMatcher for the candidates
+	 */
+	public static StringMatcher ofIgnoreCase(String ... candidates){
+		return new StringMatcher(Arrays.asList(candidates), true);
+	}
+	
+	/**
+	 * Compiles a StringMatcher that matches strings equal to any of the given candidates, ignoring case.
+	 *
+	 * @param candidates The candidate strings to match (can include null)
+	 * @return A new StringMatcher for the candidates
+	 */
+	public static StringMatcher ofIgnoreCase(Collection<String> candidates){
+		return new StringMatcher(candidates, true);
+	}
+	
+	/**
+	 * @return Whether this StringMatcher ignores case when matching
+	 */
+	public boolean isIgnoreCase(){
+		return ignoreCase;
+	}
+	
+	/**
+	 * @return The number of distinct candidates this StringMatcher matches (including null, if it's a candidate)
+	 */
+	public int size(){
+		return size + (matchesNull?1:0);
+	}
+	
+	/**
+	 * Checks if the given string is one of the candidates.
+	 *
+	 * @param text The string to be checked
+	 * @return true if the string is one of the candidates (or both are null)
+	 */
+	public boolean matches(String text){
+		if(text == null){
+			return matchesNull;
+		}
+		int length = text.length();
+		if(length < minLength || length > maxLength){
+			return false;
+		}
+		int hash = hash(text);
+		return table[find(text, hash)] != null;
+	}
+	
+	/**
+	 * Checks if the given string is NOT one of the candidates.
+	 *
+	 * @param text The string to be checked
+	 * @return false if the string is one of the candidates (or both are null)
+	 */
+	public boolean notMatches(String text){
+		return !matches(text);
+	}
+	
+	/**
+	 * Finds the slot of the table holding the given string, or the empty slot where it would go.
+	 *
+	 * @param text The string to find
+	 * @param hash The hash of the string
+	 * @return The slot for the string
+	 */
+	private int find(String text, int hash){
+		int slot = StringUtil.spreadHash(hash) & mask;
+		while(true){
+			String candidate = table[slot];
+			if(candidate == null ||
+					(hashes[slot] == hash && (ignoreCase?candidate.equalsIgnoreCase(text):candidate.equals(text)))){
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+	
+	/**
+	 * Hashes the given string, using its case-folded characters if ignoring case. Characters (or code points)
+	 * that {@link String#equalsIgnoreCase(String)} treats as equal fold to the same value, so strings that are
+	 * equal ignoring case have the same hash.
+	 *
+	 * @param text The string to hash
+	 * @return The hash of the string
+	 */
+	private int hash(String text){
+		if(!ignoreCase){
+			return text.hashCode();
+		}
+		int hash = 0;
+		int length = text.length();
+		for(int i = 0; i < length; ){
+			char c = text.charAt(i);
+			if(c < 128){
+				hash = 31 * hash + CharacterUtil.toLowerCase(c);
+				i++;
+			}else{
+				int codePoint = text.codePointAt(i);
+				hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(codePoint));
+				i += Character.charCount(codePoint);
+			}
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,154 @@
+package com.github.tadukoo.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * String Pool deduplicates strings, so that long-lived data holding many copies of the same strings (e.g. field
+ * values or tags parsed from input) can share a single copy of each. Unlike {@link String#intern()}, the pool
+ * has a fixed size: it's a direct-mapped hash table with one string per slot, and every miss replaces whatever
+ * string was in its slot (the last string written to a slot wins). There's no admission or eviction policy, so a
+ * one-off string evicts a frequently used one that shares its slot, and the frequent one is only pooled again the
+ * next time it's interned. This keeps each lookup to a single slot, and the pool never grows or holds onto more
+ * than its capacity, but it works best when the pool is a few times bigger than the set of strings that repeat.
+ * <br><br>
+ * The pool is safe to use from multiple threads without locking. Two threads interning the same new string at
+ * the same time may both get their own copy back, which only costs a little deduplication.
+ * <br><br>
+ * Hits and misses are counted, so {@link #getHitRate()} can be used to check that the pool is worth having
+ * (and is big enough).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public final class StringPool{
+	/** The pooled strings, one per slot */
+	private final AtomicReferenceArray<String> slots;
+	/** The mask to turn a hash into a slot */
+	private final int mask;
+	/** The number of times a string was found in the pool */
+	private final LongAdder hits = new LongAdder();
+	/** The number of times a string was not found in the pool */
+	private final LongAdder misses = new LongAdder();
+	
+	/**
+	 * Creates a new StringPool that holds up to the given number of strings (rounded up to a power of two).
+	 *
+	 * @param capacity The maximum number of strings to hold
+	 */
+	public StringPool(int capacity){
+		if(capacity <= 0 || capacity > (1 << 30)){
+			throw new IllegalArgumentException("Capacity must be between 1 and 2^30, but was " + capacity + "!");
+		}
+		int size = capacity == 1?1:Integer.highestOneBit(capacity - 1) << 1;
+		slots = new AtomicReferenceArray<>(size);
+		mask = size - 1;
+	}
+	
+	/**
+	 * @return The maximum number of strings this pool holds
+	 */
+	public int getCapacity(){
+		return slots.length();
+	}
+	
+	/**
+	 * Returns the pooled copy of the given string if there is one, otherwise adds the given string to the pool
+	 * (replacing any other string in its slot) and returns it.
+	 *
+	 * @param text The string to be deduplicated
+	 * @return A string equal to the given string, which is shared if the string is in the pool (or null if
+	 * the string is null)
+	 */
+	public String intern(String text){
+		if(text == null){
+			return null;
+		}
+		int slot = StringUtil.spreadHash(text.hashCode()) & mask;
+		String pooled = slots.get(slot);
+		if(text.equals(pooled)){
+			hits.increment();
+			return pooled;
+		}
+		misses.increment();
+		slots.set(slot, text);
+		return text;
+	}
+	
+	/**
+	 * Returns the pooled copy of the given text if there is one, otherwise creates a string of the text and
+	 * adds it to the pool (replacing any other string in its slot). When the text is in the pool, no string is
+	 * created, so text being parsed (e.g. a piece of a line) can be deduplicated without making a copy first.
+	 *
+	 * @param text The text to be deduplicated
+	 * @return A string equal to the given text, which is shared if the text is in the pool (or null if the
+	 * text is null)
+	 */
+	public String intern(CharSequence text){
+		if(text == null){
+			return null;
+		}
+		if(text instanceof String){
+			return intern((String) text);
+		}
+		
+		// This is the same hash as String.hashCode(), so it lands in the same slot as the equal string
+		int hash = 0;
+		int length = text.length();
+		for(int i = 0; i < length; i++){
+			hash = 31 * hash + text.charAt(i);
+		}
+		int slot = StringUtil.spreadHash(hash) & mask;
+		String pooled = slots.get(slot);
+		if(pooled != null && pooled.contentEquals(text)){
+			hits.increment();
+			return pooled;
+		}
+		misses.increment();
+		String string = text.toString();
+		slots.set(slot, string);
+		return string;
+	}
+	
+	/**
+	 * @return The number of times a string was found in the pool
+	 */
+	public long getHits(){
+		return hits.sum();
+	}
+	
+	/**
+	 * @return The number of times a string was not found in the pool
+	 */
+	public long getMisses(){
+		return misses.sum();
+	}
+	
+	/**
+	 * @return The fraction (from 0 to 1) of strings that were found in the pool, or 0 if nothing has been
+	 * interned yet
+	 */
+	public double getHitRate(){
+		long hitCount = hits.sum();
+		long total = hitCount + misses.sum();
+		return total == 0?0:(double) hitCount / total;
+	}
+	
+	/**
+	 * Resets the hit and miss counts to 0 (the pooled strings are kept).
+	 */
+	public void resetStats(){
+		hits.reset();
+		misses.reset();
+	}
+	
+	/**
+	 * Removes all the strings from the pool (the hit and miss counts are kept).
+	 */
+	public void clear(){
+		for(int i = 0; i < slots.length(); i++){
+			slots.set(i, null);
+		}
+	}
+}
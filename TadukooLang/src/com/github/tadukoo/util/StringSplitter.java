@@ -0,0 +1,300 @@
+package com.github.tadukoo.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * String Splitter splits text on a literal separator, scanning for it with indexOf instead of treating it as a
+ * regular expression like {@link String#split(String)} does (so separators such as "." or "|" work as-is, and
+ * nothing is compiled). A splitter is immutable and can be created once and reused for any number of strings.
+ * Options are added by creating a new splitter from an existing one:
+ * <br><br>
+ * e.g. StringSplitter.on(",").trimResults().omitEmptyStrings().split(" a, ,b ,") would produce:
+ * <br>
+ * ["a", "b"]
+ * <br><br>
+ * Results can either be collected into a List with {@link #split(CharSequence)}, or found lazily with
+ * {@link #splitLazily(CharSequence)}, which returns views over the original text instead of copying each piece.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public final class StringSplitter{
+	/** The literal separator to split on */
+	private final String separator;
+	/** Whether to trim whitespace off the pieces */
+	private final boolean trim;
+	/** Whether to leave out empty pieces (checked after trimming) */
+	private final boolean omitEmpty;
+	/** The maximum number of pieces, where the last piece holds the rest of the text */
+	private final int limit;
+	
+	/**
+	 * Creates a new StringSplitter.
+	 *
+	 * @param separator The literal separator to split on
+	 * @param trim Whether to trim whitespace off the pieces
+	 * @param omitEmpty Whether to leave out empty pieces
+	 * @param limit The maximum number of pieces
+	 */
+	private StringSplitter(String separator, boolean trim, boolean omitEmpty, int limit){
+		this.separator = separator;
+		this.trim = trim;
+		this.omitEmpty = omitEmpty;
+		this.limit = limit;
+	}
+	
+	/**
+	 * Creates a StringSplitter that splits text on the given literal separator, with no trimming, no limit,
+	 * and keeping empty pieces.
+	 *
+	 * @param separator The literal separator to split on
+	 * @return A new StringSplitter for the separator
+	 */
+	public static StringSplitter on(String separator){
+		if(separator == null || separator.isEmpty()){
+			throw new IllegalArgumentException("Separator must not be empty!");
+		}
+		return new StringSplitter(separator, false, false, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * @return A copy of this StringSplitter that also trims whitespace off of each piece (the same
+	 * whitespace as {@link String#trim()})
+	 */
+	public StringSplitter trimResults(){
+		return new StringSplitter(separator, true, omitEmpty, limit);
+	}
+	
+	/**
+	 * @return A copy of this StringSplitter that also leaves out empty pieces (after trimming, if
+	 * {@link #trimResults() trimming} is on)
+	 */
+	public StringSplitter omitEmptyStrings(){
+		return new StringSplitter(separator, trim, true, limit);
+	}
+	
+	/**
+	 * Creates a copy of this StringSplitter that stops splitting after the given number of pieces have been
+	 * found, so that the last piece holds the rest of the text (separators included).
+	 *
+	 * @param limit The maximum number of pieces
+	 * @return A copy of this StringSplitter with the limit
+	 */
+	public StringSplitter limit(int limit){
+		if(limit <= 0){
+			throw new IllegalArgumentException("Limit must be positive, but was " + limit + "!");
+		}
+		return new StringSplitter(separator, trim, omitEmpty, limit);
+	}
+	
+	/**
+	 * @return The literal separator this StringSplitter splits on
+	 */
+	public String getSeparator(){
+		return separator;
+	}
+	
+	/**
+	 * Splits the given text into a List of Strings.
+	 *
+	 * @param text The text to be split
+	 * @return A List of the pieces of the text
+	 */
+	public List<String> split(CharSequence text){
+		List<String> pieces = new ArrayList<>();
+		PieceIterator iterator = new PieceIterator(text);
+		while(iterator.findNext()){
+			pieces.add(text.subSequence(iterator.pieceStart, iterator.pieceEnd).toString());
+		}
+		return pieces;
+	}
+	
+	/**
+	 * Splits the given text lazily, only finding each piece as it's iterated over. Each piece is a view over
+	 * the given text (it isn't copied), so the text shouldn't be changed while the pieces are in use.
+	 *
+	 * @param text The text to be split
+	 * @return An Iterable over the pieces of the text
+	 */
+	public Iterable<CharSequence> splitLazily(CharSequence text){
+		return () -> new Iterator<>(){
+			/** Finds the pieces */
+			private final PieceIterator iterator = new PieceIterator(text);
+			/** Whether the next piece has been found but not returned yet */
+			private boolean found = false;
+			
+			/** {@inheritDoc} */
+			@Override
+			public boolean hasNext(){
+				if(!found){
+					found = iterator.findNext();
+				}
+				return found;
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public CharSequence next(){
+				if(!hasNext()){
+					throw new NoSuchElementException();
+				}
+				found = false;
+				return new Slice(text, iterator.pieceStart, iterator.pieceEnd);
+			}
+		};
+	}
+	
+	/**
+	 * Finds the pieces of a text one at a time, without creating any objects for them.
+	 */
+	private final class PieceIterator{
+		/** The text being split */
+		private final CharSequence text;
+		/** Where to start looking for the next piece */
+		private int position = 0;
+		/** The number of pieces found so far (not including omitted ones) */
+		private int count = 0;
+		/** Whether the whole text has been split */
+		private boolean done = false;
+		/** The start of the most recently found piece */
+		private int pieceStart;
+		/** The end (exclusive) of the most recently found piece */
+		private int pieceEnd;
+		
+		/**
+		 * Creates a new PieceIterator for the given text.
+		 *
+		 * @param text The text to be split
+		 */
+		private PieceIterator(CharSequence text){
+			this.text = text;
+		}
+		
+		/**
+		 * Finds the next piece, setting {@link #pieceStart} and {@link #pieceEnd} to where it is.
+		 *
+		 * @return true if another piece was found, false if the whole text has been split
+		 */
+		private boolean findNext(){
+			while(!done){
+				int start = position;
+				int end;
+				int index = count + 1 < limit?indexOf(text, separator, start):-1;
+				if(index == -1){
+					end = text.length();
+					done = true;
+				}else{
+					end = index;
+					position = index + separator.length();
+				}
+				
+				if(trim){
+					while(start < end && text.charAt(start) <= ' '){
+						start++;
+					}
+					while(end > start && text.charAt(end - 1) <= ' '){
+						end--;
+					}
+				}
+				if(!omitEmpty || start < end){
+					count++;
+					pieceStart = start;
+					pieceEnd = end;
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+	
+	/**
+	 * Finds the index of the given separator in the given text, starting from the given index.
+	 *
+	 * @param text The text to search
+	 * @param separator The separator to find
+	 * @param from The index to start searching from
+	 * @return The index of the separator, or -1 if it isn't found
+	 */
+	private static int indexOf(CharSequence text, String separator, int from){
+		if(text instanceof String){
+			return ((String) text).indexOf(separator, from);
+		}
+		
+		char first = separator.charAt(0);
+		int lastStart = text.length() - separator.length();
+		for(int i = from; i <= lastStart; i++){
+			if(text.charAt(i) != first){
+				continue;
+			}
+			int j = 1;
+			while(j < separator.length() && text.charAt(i + j) == separator.charAt(j)){
+				j++;
+			}
+			if(j == separator.length()){
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * A {@link CharSequence} view over part of another {@link CharSequence}, so that pieces can be
+	 * returned without copying them.
+	 */
+	private static final class Slice implements CharSequence{
+		/** The text this is a view over */
+		private final CharSequence text;
+		/** The start of this view in the text */
+		private final int start;
+		/** The end (exclusive) of this view in the text */
+		private final int end;
+		
+		/**
+		 * Creates a new Slice over the given part of the text.
+		 *
+		 * @param text The text this is a view over
+		 * @param start The start of this view in the text
+		 * @param end The end (exclusive) of this view in the text
+		 */
+		private Slice(CharSequence text, int start, int end){
+			this.text = text;
+			this.start = start;
+			this.end = end;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int length(){
+			return end - start;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public char charAt(int index){
+			if(index < 0 || index >= end - start){
+				throw new IndexOutOfBoundsException("index " + index + ", length " + (end - start));
+			}
+			return text.charAt(start + index);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public CharSequence subSequence(int subStart, int subEnd){
+			if(subStart < 0 || subEnd > end - start || subStart > subEnd){
+				throw new IndexOutOfBoundsException("start " + subStart + ", end " + subEnd + ", length " +
+						(end - start));
+			}
+			return new Slice(text, start + subStart, start + subEnd);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public String toString(){
+			return text.subSequence(start, end).toString();
+		}
+	}
+}
@@ -8,11 +8,14 @@ import java.util.List;
  * Util functions for dealing with Strings, including building and parsing them.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3.1
+ * @version Beta v.0.5
  * @since Pre-Alpha
  */
 public final class StringUtil{
 	
+	/** Extra capacity for the separators added when converting to snake_case and similar cases */
+	private static final int SEPARATED_CASE_EXTRA_CAPACITY = 8;
+	
 	/** Not allowed to create a StringUtil */
 	private StringUtil(){ }
 	
@@ -63,6 +66,9 @@ public final class StringUtil{
 	 * using String.equals(), but properly handles null (if the string is null and 
 	 * null is in the expected strings, returns true, if the string is null and the 
 	 * expected strings don't have null, return false instead of throwing an NPE).
+	 * <br><br>
+	 * This checks the expected strings one at a time, so if the same expected strings are checked
+	 * against many times, use a {@link StringMatcher} from {@link StringMatcher#of(String...)} instead.
 	 * 
 	 * @param actual The actual string being checked
 	 * @param expected The expected strings we want
@@ -114,6 +120,9 @@ public final class StringUtil{
 	 * using String.equalsIgnoreCase(), but properly handles null (if the string is null and 
 	 * null is in the expected strings, returns true, if the string is null and the 
 	 * expected strings don't have null, return false instead of throwing an NPE).
+	 * <br><br>
+	 * This checks the expected strings one at a time, so if the same expected strings are checked
+	 * against many times, use a {@link StringMatcher} from {@link StringMatcher#ofIgnoreCase(String...)} instead.
 	 * 
 	 * @param actual The actual string being checked
 	 * @param expected The expected strings we want
@@ -213,6 +222,19 @@ public final class StringUtil{
 		return String.valueOf(obj);
 	}
 	
+	/**
+	 * Converts the given Object to a String, including proper null handling, and deduplicates the
+	 * String using the given {@link StringPool}. This is useful when the Strings will be held onto for a
+	 * long time and many of them are the same (e.g. values parsed from input).
+	 *
+	 * @param obj The Object to convert to a String
+	 * @param pool The {@link StringPool} to deduplicate the String with
+	 * @return null if obj is null, or a (possibly shared) String representing the Object
+	 */
+	public static String convertToString(Object obj, StringPool pool){
+		return pool.intern(convertToString(obj));
+	}
+	
 	/**
 	 * Converts an entire Collection of items to strings, and
 	 * returns them as a List.
@@ -222,13 +244,30 @@ public final class StringUtil{
 	 * @return A List of the given items converted to Strings
 	 */
 	public static <T> List<String> convertCollectionToStrings(Collection<T> items){
-		List<String> strings = new ArrayList<>();
+		List<String> strings = new ArrayList<>(items.size());
 		for(T item: items){
 			strings.add(convertToString(item));
 		}
 		return strings;
 	}
 	
+	/**
+	 * Converts an entire Collection of items to strings, deduplicating them using the given
+	 * {@link StringPool}, and returns them as a List.
+	 *
+	 * @param items The Collection of items to convert to strings
+	 * @param pool The {@link StringPool} to deduplicate the Strings with
+	 * @param <T> The type of the items in the collection
+	 * @return A List of the given items converted to (possibly shared) Strings
+	 */
+	public static <T> List<String> convertCollectionToStrings(Collection<T> items, StringPool pool){
+		List<String> strings = new ArrayList<>(items.size());
+		for(T item: items){
+			strings.add(convertToString(item, pool));
+		}
+		return strings;
+	}
+	
 	/*
 	 * String Building Section
 	 */
@@ -247,16 +286,24 @@ public final class StringUtil{
 	 * @return A String of the given collection with the separator between each of them
 	 */
 	public static String buildStringWithSeparator(Collection<String> items, String separator){
-		// Start the string
-		StringBuilder fullString = new StringBuilder();
+		// Size the string up front so it never has to grow
+		int length = Math.max(0, items.size() - 1) * separator.length();
+		for(String item: items){
+			length += String.valueOf(item).length();
+		}
+		StringBuilder fullString = new StringBuilder(length);
 		
-		// Add each string and the separator after it
+		// Add each string with the separator before all but the first
+		boolean first = true;
 		for(String item: items){
-			fullString.append(item).append(separator);
+			if(!first){
+				fullString.append(separator);
+			}
+			fullString.append(item);
+			first = false;
 		}
 		
-		// Remove the last separator from the end of the string
-		return fullString.substring(0, fullString.length()-separator.length());
+		return fullString.toString();
 	}
 	
 	/**
@@ -309,29 +356,45 @@ public final class StringUtil{
 	
 	/**
 	 * Parses the given text into a List using the given separator to split and optionally 
-	 * trimming to remove whitespace in the resulting strings.
-	 * 
+	 * trimming to remove whitespace in the resulting strings. The separator is treated as a literal
+	 * string (see {@link StringSplitter} for more options). Otherwise, the results are the same as with
+	 * {@link String#split(String)}: empty strings at the end are removed (so text that's only separators gives
+	 * an empty List), and an empty separator splits the text into its characters.
+	 *
 	 * @param text The text to parse into a List of Strings
 	 * @param separator The separator String to use in separating the given text
 	 * @param trim Whether to trim any whitespace off the resulting strings
 	 * @return The resulting List of Strings
 	 */
 	public static List<String> parseListFromStringWithSeparator(String text, String separator, boolean trim){
-		List<String> strings = new ArrayList<>();
-		
-		// If there is no instance of the separator string, just make a list with the text
-		if(!text.contains(separator)){
-			// Optionally trim the text
-			strings.add(trim?text.trim():text);
+		List<String> strings;
+		if(separator.isEmpty()){
+			// An empty separator splits between each character
+			strings = new ArrayList<>(Math.max(1, text.length()));
+			for(int i = 0; i < text.length(); i++){
+				strings.add(String.valueOf(text.charAt(i)));
+			}
+			if(strings.isEmpty()){
+				strings.add(text);
+			}
 		}else{
-			// Split the text on the separator string
-			String[] textSplit = text.split(separator);
-			for(String split: textSplit){
-				// Add each string to the list, optionally trimming them
-				strings.add(trim?split.trim():split);
+			// Split the text on the separator string (as a literal, not a regex)
+			strings = StringSplitter.on(separator).split(text);
+			
+			// If the separator was found, empty strings at the end are removed, the same as with String.split
+			if(strings.size() > 1){
+				int size = strings.size();
+				while(size > 0 && strings.get(size - 1).isEmpty()){
+					strings.remove(--size);
+				}
 			}
 		}
 		
+		// Optionally trim the strings
+		if(trim){
+			strings.replaceAll(String::trim);
+		}
+		
 		return strings;
 	}
 	
@@ -369,23 +432,19 @@ public final class StringUtil{
 	 * @return The PascalCase version of the given text
 	 */
 	public static String toPascalCase(String text){
-		// If we have spaces, replace them with underscores (in case we have both, to make it easier)
-		text = text.replaceAll(" ", "_");
-		
-		// If we have snake_case, we need to remove the underscores and do some capitalization
-		StringBuilder newText;
-		if(text.contains("_")){
-			String[] pieces = text.split("_");
-			newText = new StringBuilder();
-			for(String piece: pieces){
-				newText.append(CharacterUtil.toUpperCase(piece.charAt(0))).append(piece.substring(1));
-			}
-		}else{
-			// If we don't have snake_case, we only need to make sure the first character is upper case
-			newText = new StringBuilder(CharacterUtil.toUpperCase(text.charAt(0)) + text.substring(1));
-		}
-		
-		return newText.toString();
+		return toPascalCase(text, new StringBuilder(text.length())).toString();
+	}
+	
+	/**
+	 * Converts the given text to PascalCase, appending the result to the given {@link StringBuilder}.
+	 * It removes any spaces and underscores and capitalizes all words in the text.
+	 *
+	 * @param text The text to be converted
+	 * @param builder The {@link StringBuilder} to append the PascalCase text to
+	 * @return The given {@link StringBuilder}
+	 */
+	public static StringBuilder toPascalCase(CharSequence text, StringBuilder builder){
+		return appendCapitalizedWords(text, builder, false);
 	}
 	
 	/**
@@ -409,24 +468,53 @@ public final class StringUtil{
 	 * @return The camelCase version of the given text
 	 */
 	public static String toCamelCase(String text){
-		// If we have spaces, replace them with underscores (in case we have both, to make it easier)
-		text = text.replaceAll(" ", "_");
+		return toCamelCase(text, new StringBuilder(text.length())).toString();
+	}
+	
+	/**
+	 * Converts the given text to camelCase, appending the result to the given {@link StringBuilder}.
+	 * It removes any spaces and underscores and capitalizes all words in the text, except for the first word,
+	 * which is made lowercase.
+	 *
+	 * @param text The text to be converted
+	 * @param builder The {@link StringBuilder} to append the camelCase text to
+	 * @return The given {@link StringBuilder}
+	 */
+	public static StringBuilder toCamelCase(CharSequence text, StringBuilder builder){
+		return appendCapitalizedWords(text, builder, true);
+	}
+	
+	/**
+	 * Appends the given text to the given {@link StringBuilder} with spaces and underscores removed and the
+	 * first letter of each word capitalized, in a single pass over the text.
+	 *
+	 * @param text The text to be converted
+	 * @param builder The {@link StringBuilder} to append to
+	 * @param lowerCaseFirst Whether to make the first character lowercase (for camelCase)
+	 * @return The given {@link StringBuilder}
+	 */
+	private static StringBuilder appendCapitalizedWords(CharSequence text, StringBuilder builder,
+	                                                    boolean lowerCaseFirst){
+		int length = text.length();
+		builder.ensureCapacity(builder.length() + length);
 		
-		// If we have snake_case, we need to remove the underscores and do some capitalization
-		String newText = text;
-		if(text.contains("_")){
-			String[] pieces = text.split("_");
-			StringBuilder newTextBuilder = new StringBuilder();
-			for(String piece: pieces){
-				newTextBuilder.append(CharacterUtil.toUpperCase(piece.charAt(0))).append(piece.substring(1));
+		boolean startOfWord = true;
+		boolean first = true;
+		for(int i = 0; i < length; i++){
+			char c = text.charAt(i);
+			if(c == ' ' || c == '_'){
+				startOfWord = true;
+			}else{
+				if(first && lowerCaseFirst){
+					builder.append(CharacterUtil.toLowerCase(c));
+				}else{
+					builder.append(startOfWord?CharacterUtil.toUpperCase(c):c);
+				}
+				startOfWord = false;
+				first = false;
 			}
-			newText = newTextBuilder.toString();
 		}
-		
-		// Change/Ensure the first character is lower case
-		newText = CharacterUtil.toLowerCase(newText.charAt(0)) + newText.substring(1);
-		
-		return newText;
+		return builder;
 	}
 	
 	/**
@@ -443,33 +531,137 @@ public final class StringUtil{
 	/**
 	 * Converts the given text to snake_case.
 	 * Any spaces are replaced with underscores, underscores are placed between words, and everything
-	 * is made lowercase.
+	 * is made lowercase. Text that already has underscores and no spaces is left alone.
 	 *
 	 * @param text The text to be converted
 	 * @return The snake_case version of the given text
 	 */
 	public static String toSnakeCase(String text){
-		// If we have underscores and no spaces, it's already snake_case
-		if(text.contains("_") && !text.contains(" ")){
-			return text;
-		}else{
-			// Insert an underscore any time there's a capital letter and make it lowercase
-			StringBuilder newText = new StringBuilder();
-			for(char c: text.toCharArray()){
-				if(CharacterUtil.isUpperCase(c)){
-					// Only append an underscore if the previous character is not an underscore
-					if(!newText.toString().equals("") && newText.charAt(newText.length() - 1) != '_'){
-						newText.append('_');
-					}
-					newText.append(CharacterUtil.toLowerCase(c));
-				}else if(c == ' '){
-					// Replace spaces with underscores
-					newText.append('_');
-				}else{
-					newText.append(c);
+		return toSnakeCase(text, new StringBuilder(text.length() + SEPARATED_CASE_EXTRA_CAPACITY)).toString();
+	}
+	
+	/**
+	 * Converts the given text to snake_case, appending the result to the given {@link StringBuilder}.
+	 * Any spaces are replaced with underscores, underscores are placed between words, and everything
+	 * is made lowercase. Text that already has underscores and no spaces is left alone.
+	 *
+	 * @param text The text to be converted
+	 * @param builder The {@link StringBuilder} to append the snake_case text to
+	 * @return The given {@link StringBuilder}
+	 */
+	public static StringBuilder toSnakeCase(CharSequence text, StringBuilder builder){
+		return appendSeparatedWords(text, builder, '_', false);
+	}
+	
+	/**
+	 * Converts the given text to kebab-case.
+	 * This follows the same rules as {@link #toSnakeCase(String)}, but with dashes instead of underscores.
+	 *
+	 * @param text The text to be converted
+	 * @return The kebab-case version of the given text
+	 */
+	public static String toKebabCase(String text){
+		return toKebabCase(text, new StringBuilder(text.length() + SEPARATED_CASE_EXTRA_CAPACITY)).toString();
+	}
+	
+	/**
+	 * Converts the given text to kebab-case, appending the result to the given {@link StringBuilder}.
+	 * This follows the same rules as {@link #toSnakeCase(String)}, but with dashes instead of underscores.
+	 *
+	 * @param text The text to be converted
+	 * @param builder The {@link StringBuilder} to append the kebab-case text to
+	 * @return The given {@link StringBuilder}
+	 */
+	public static StringBuilder toKebabCase(CharSequence text, StringBuilder builder){
+		return appendSeparatedWords(text, builder, '-', false);
+	}
+	
+	/**
+	 * Converts the given text to SCREAMING_SNAKE_CASE.
+	 * This follows the same rules as {@link #toSnakeCase(String)}, but everything is made uppercase.
+	 *
+	 * @param text The text to be converted
+	 * @return The SCREAMING_SNAKE_CASE version of the given text
+	 */
+	public static String toScreamingSnakeCase(String text){
+		return toScreamingSnakeCase(text, new StringBuilder(text.length() + SEPARATED_CASE_EXTRA_CAPACITY))
+				.toString();
+	}
+	
+	/**
+	 * Converts the given text to SCREAMING_SNAKE_CASE, appending the result to the given {@link StringBuilder}.
+	 * This follows the same rules as {@link #toSnakeCase(String)}, but everything is made uppercase.
+	 *
+	 * @param text The text to be converted
+	 * @param builder The {@link StringBuilder} to append the SCREAMING_SNAKE_CASE text to
+	 * @return The given {@link StringBuilder}
+	 */
+	public static StringBuilder toScreamingSnakeCase(CharSequence text, StringBuilder builder){
+		return appendSeparatedWords(text, builder, '_', true);
+	}
+	
+	/**
+	 * Appends the given text to the given {@link StringBuilder} with the given separator between words,
+	 * for snake_case and similar cases. Spaces and underscores are replaced with the separator, and a
+	 * separator is inserted before any capital letter that doesn't already follow one. If the text already
+	 * has underscores and no spaces, only the underscores are replaced (and the case is left alone, unless
+	 * making it uppercase).
+	 *
+	 * @param text The text to be converted
+	 * @param builder The {@link StringBuilder} to append to
+	 * @param separator The character to put between words
+	 * @param upperCase Whether to make the text uppercase (otherwise it's made lowercase)
+	 * @return The given {@link StringBuilder}
+	 */
+	private static StringBuilder appendSeparatedWords(CharSequence text, StringBuilder builder, char separator,
+	                                                  boolean upperCase){
+		int length = text.length();
+		builder.ensureCapacity(builder.length() + length + SEPARATED_CASE_EXTRA_CAPACITY);
+		
+		// Check if the text is already separated by underscores
+		boolean hasUnderscore = false;
+		boolean hasSpace = false;
+		for(int i = 0; i < length && !hasSpace; i++){
+			char c = text.charAt(i);
+			hasUnderscore |= c == '_';
+			hasSpace = c == ' ';
+		}
+		if(hasUnderscore && !hasSpace){
+			for(int i = 0; i < length; i++){
+				char c = text.charAt(i);
+				builder.append(c == '_'?separator:(upperCase?CharacterUtil.toUpperCase(c):c));
+			}
+			return builder;
+		}
+		
+		// Insert a separator before capital letters and replace spaces and underscores with it
+		int start = builder.length();
+		for(int i = 0; i < length; i++){
+			char c = text.charAt(i);
+			if(CharacterUtil.isUpperCase(c)){
+				if(builder.length() > start && builder.charAt(builder.length() - 1) != separator){
+					builder.append(separator);
 				}
+				builder.append(upperCase?c:CharacterUtil.toLowerCase(c));
+			}else if(c == ' ' || c == '_'){
+				builder.append(separator);
+			}else{
+				builder.append(upperCase?CharacterUtil.toUpperCase(c):c);
 			}
-			return newText.toString();
 		}
+		return builder;
+	}
+	
+	/**
+	 * Spreads the bits of the given hash, so that hashes that only differ in their upper bits don't all land in
+	 * the same part of a power-of-two sized table (used by {@link StringMatcher}, {@link StringPool}, and
+	 * {@link CaseConverter}).
+	 *
+	 * @param hash The hash to spread
+	 * @return The spread hash
+	 */
+	static int spreadHash(int hash){
+		hash *= 0x9E3779B9;
+		return hash ^ (hash >>> 16);
 	}
 }
@@ -0,0 +1,312 @@
+package com.github.tadukoo.util.primitive;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Int List is a growable list of ints, stored in an int[] instead of as {@link Integer} objects, so it takes
+ * a fraction of the memory of a List&lt;Integer&gt; and its values can be used as an array without unboxing them.
+ * Appending is amortized constant time, as the array grows by half its size when it's full.
+ * <br><br>
+ * The values can be grabbed as a copied array with {@link #toArray()}, or without copying with
+ * {@link #asArray()} or {@link #asBuffer()}, which share the list's array (so changes to either are seen by
+ * both, until the list grows and moves to a new array).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public class IntList{
+	/** The default capacity of a new list */
+	private static final int DEFAULT_CAPACITY = 10;
+	/** The largest array size to grow to, as some VMs can't allocate arrays all the way up to Integer.MAX_VALUE */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+	
+	/** The values in the list, followed by unused capacity */
+	private int[] values;
+	/** The number of values in the list */
+	private int size;
+	
+	/**
+	 * Creates a new, empty IntList.
+	 */
+	public IntList(){
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Creates a new, empty IntList with room for the given number of values before it needs to grow.
+	 *
+	 * @param initialCapacity The number of values the list can hold before it needs to grow
+	 */
+	public IntList(int initialCapacity){
+		if(initialCapacity < 0){
+			throw new IllegalArgumentException("Initial capacity must not be negative, but was " +
+					initialCapacity + "!");
+		}
+		values = new int[initialCapacity];
+	}
+	
+	/**
+	 * Creates a new IntList containing the given values (the array is copied).
+	 *
+	 * @param values The values to put in the list
+	 * @return A new IntList containing the given values
+	 */
+	public static IntList of(int ... values){
+		IntList list = new IntList(values.length);
+		list.addAll(values);
+		return list;
+	}
+	
+	/**
+	 * Creates a new IntList containing the values of the given Collection, in its iteration order. The
+	 * Collection is iterated over (rather than using get(i)), so this is linear for any kind of Collection.
+	 *
+	 * @param collection The Collection of {@link Integer Integers} to unbox
+	 * @return A new IntList containing the unboxed values
+	 */
+	public static IntList from(Collection<? extends Integer> collection){
+		IntList list = new IntList(collection.size());
+		list.addAll(collection);
+		return list;
+	}
+	
+	/**
+	 * @return The number of values in this list
+	 */
+	public int size(){
+		return size;
+	}
+	
+	/**
+	 * @return true if this list has no values, false otherwise
+	 */
+	public boolean isEmpty(){
+		return size == 0;
+	}
+	
+	/**
+	 * @return The number of values this list can hold before it needs to grow
+	 */
+	public int capacity(){
+		return values.length;
+	}
+	
+	/**
+	 * @param index The index of the value to grab
+	 * @return The value at the given index
+	 */
+	public int get(int index){
+		Objects.checkIndex(index, size);
+		return values[index];
+	}
+	
+	/**
+	 * Replaces the value at the given index.
+	 *
+	 * @param index The index of the value to replace
+	 * @param value The new value
+	 * @return The value that was replaced
+	 */
+	public int set(int index, int value){
+		Objects.checkIndex(index, size);
+		int old = values[index];
+		values[index] = value;
+		return old;
+	}
+	
+	/**
+	 * Adds the given value to the end of this list.
+	 *
+	 * @param value The value to be added
+	 */
+	public void add(int value){
+		if(size == values.length){
+			grow(size + 1);
+		}
+		values[size++] = value;
+	}
+	
+	/**
+	 * Adds all the given values to the end of this list.
+	 *
+	 * @param values The values to be added
+	 */
+	public void addAll(int ... values){
+		addAll(values, 0, values.length);
+	}
+	
+	/**
+	 * Adds the given range of values to the end of this list.
+	 *
+	 * @param values The array of values to be added
+	 * @param offset The index of the first value to add
+	 * @param length The number of values to add
+	 */
+	public void addAll(int[] values, int offset, int length){
+		Objects.checkFromIndexSize(offset, length, values.length);
+		ensureCapacity(size + length);
+		System.arraycopy(values, offset, this.values, size, length);
+		size += length;
+	}
+	
+	/**
+	 * Adds all the values of the given list to the end of this list.
+	 *
+	 * @param list The list of values to be added
+	 */
+	public void addAll(IntList list){
+		addAll(list.values, 0, list.size);
+	}
+	
+	/**
+	 * Adds all the values of the given Collection to the end of this list, in its iteration order.
+	 *
+	 * @param collection The Collection of {@link Integer Integers} to be added
+	 */
+	public void addAll(Collection<? extends Integer> collection){
+		ensureCapacity(size + collection.size());
+		for(Integer value: collection){
+			add(value);
+		}
+	}
+	
+	/**
+	 * Removes all the values from this list (its capacity is kept).
+	 */
+	public void clear(){
+		size = 0;
+	}
+	
+	/**
+	 * Makes sure this list can hold at least the given number of values without needing to grow.
+	 *
+	 * @param minCapacity The number of values the list should be able to hold
+	 */
+	public void ensureCapacity(int minCapacity){
+		if(minCapacity < 0){
+			throw new OutOfMemoryError("Required capacity is too large!");
+		}
+		if(minCapacity > values.length){
+			grow(minCapacity);
+		}
+	}
+	
+	/**
+	 * Shrinks this list's array down to the number of values in it.
+	 */
+	public void trimToSize(){
+		if(size < values.length){
+			values = Arrays.copyOf(values, size);
+		}
+	}
+	
+	/**
+	 * Sorts the values in this list into ascending order.
+	 */
+	public void sort(){
+		Arrays.sort(values, 0, size);
+	}
+	
+	/**
+	 * Searches for the given value using binary search. This list must be sorted (e.g. by {@link #sort()}) for
+	 * the result to be meaningful.
+	 *
+	 * @param value The value to search for
+	 * @return The index of the value if it's in the list, otherwise (-(insertion point) - 1), where the
+	 * insertion point is the index the value would be added at to keep the list sorted
+	 */
+	public int binarySearch(int value){
+		return Arrays.binarySearch(values, 0, size, value);
+	}
+	
+	/**
+	 * @return A new array containing the values in this list
+	 */
+	public int[] toArray(){
+		return Arrays.copyOf(values, size);
+	}
+	
+	/**
+	 * Grabs the values in this list as an array without copying them, when possible. If this list's array has
+	 * unused capacity, it's trimmed first (copying the values once), after which the list and the returned array
+	 * share the same values until the list grows.
+	 *
+	 * @return This list's array, containing exactly the values in the list
+	 */
+	public int[] asArray(){
+		trimToSize();
+		return values;
+	}
+	
+	/**
+	 * @return A {@link IntBuffer} view of the values in this list, sharing this list's array (so it stays in sync
+	 * with the list until the list grows)
+	 */
+	public IntBuffer asBuffer(){
+		return IntBuffer.wrap(values, 0, size).slice();
+	}
+	
+	/**
+	 * @return A sequential {@link IntStream} of the values in this list
+	 */
+	public IntStream stream(){
+		return Arrays.stream(values, 0, size);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean equals(Object o){
+		if(this == o){
+			return true;
+		}
+		if(!(o instanceof IntList)){
+			return false;
+		}
+		IntList other = (IntList) o;
+		return Arrays.equals(values, 0, size, other.values, 0, other.size);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int hashCode(){
+		int hash = 1;
+		for(int i = 0; i < size; i++){
+			hash = 31 * hash + Integer.hashCode(values[i]);
+		}
+		return hash;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString(){
+		StringBuilder builder = new StringBuilder(size * 4 + 2).append('[');
+		for(int i = 0; i < size; i++){
+			if(i > 0){
+				builder.append(", ");
+			}
+			builder.append(values[i]);
+		}
+		return builder.append(']').toString();
+	}
+	
+	/**
+	 * Grows this list's array to hold at least the given number of values, by half its size if that's enough.
+	 *
+	 * @param minCapacity The number of values the list needs to be able to hold
+	 */
+	private void grow(int minCapacity){
+		if(minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE){
+			throw new OutOfMemoryError("Required capacity is too large!");
+		}
+		int newCapacity = values.length + (values.length >> 1);
+		if(newCapacity < minCapacity || newCapacity < 0){
+			newCapacity = minCapacity;
+		}
+		values = Arrays.copyOf(values, Math.min(Math.max(newCapacity, DEFAULT_CAPACITY), MAX_ARRAY_SIZE));
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * A collection of growable lists of primitives, which avoid boxing each value.
+ */
+package com.github.tadukoo.util.primitive;
\ No newline at end of file
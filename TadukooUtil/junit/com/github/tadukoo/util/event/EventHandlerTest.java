@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class EventHandlerTest{
 	private static class TestEvent extends Event{
@@ -49,4 +50,25 @@ public class EventHandlerTest{
 		assertEquals("Testing", event.getType());
 		assertEquals("A test", event.getMessage());
 	}
+	
+	@Test
+	public void testListenerException(){
+		EventListener<TestEvent> badListener = e -> {
+			throw new IllegalStateException("Bad listener");
+		};
+		handler.registerListener(badListener);
+		try{
+			handler.createTestEvent("A test");
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Bad listener", e.getMessage());
+		}
+		
+		// The handler is no longer in process, so listeners are unregistered and registered right away
+		handler.unregisterListener(badListener);
+		handler.registerListener(listener);
+		handler.createTestEvent("Another test");
+		assertNotNull(event);
+		assertEquals("Another test", event.getMessage());
+	}
 }
@@ -0,0 +1,66 @@
+package com.github.tadukoo.util.event.file;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileChangeEventTest{
+	private final Path directory = Paths.get("test");
+	private final Path a = directory.resolve("a.txt");
+	private final Path b = directory.resolve("b.txt");
+	private final Path c = directory.resolve("c.txt");
+	
+	private FileChangeEvent createEvent(boolean overflow){
+		Map<Path, FileChangeType> changes = new LinkedHashMap<>();
+		changes.put(a, FileChangeType.CREATED);
+		changes.put(b, FileChangeType.DELETED);
+		changes.put(c, FileChangeType.CREATED);
+		return new FileChangeEvent(directory, changes, overflow);
+	}
+	
+	@Test
+	public void testGetType(){
+		assertEquals(FileChangeEvent.TYPE, createEvent(false).getType());
+	}
+	
+	@Test
+	public void testGetMessage(){
+		assertEquals("3 file(s) changed in test", createEvent(false).getMessage());
+		assertEquals("3 file(s) changed in test (some changes lost)", createEvent(true).getMessage());
+	}
+	
+	@Test
+	public void testGetDirectory(){
+		assertEquals(directory, createEvent(false).getDirectory());
+	}
+	
+	@Test
+	public void testGetChanges(){
+		Map<Path, FileChangeType> changes = createEvent(false).getChanges();
+		assertEquals(Arrays.asList(a, b, c), Arrays.asList(changes.keySet().toArray(new Path[0])));
+		assertEquals(FileChangeType.DELETED, changes.get(b));
+	}
+	
+	@Test
+	public void testGetPaths(){
+		FileChangeEvent event = createEvent(false);
+		assertEquals(Arrays.asList(a, c), event.getPaths(FileChangeType.CREATED));
+		assertEquals(Collections.emptyList(), event.getPaths(FileChangeType.MODIFIED));
+		assertEquals(Collections.singletonList(b), event.getPaths(FileChangeType.DELETED));
+	}
+	
+	@Test
+	public void testIsOverflow(){
+		assertFalse(createEvent(false).isOverflow());
+		assertTrue(createEvent(true).isOverflow());
+	}
+}
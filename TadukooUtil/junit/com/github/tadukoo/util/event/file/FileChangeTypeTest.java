@@ -0,0 +1,30 @@
+package com.github.tadukoo.util.event.file;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class FileChangeTypeTest{
+	
+	@Test
+	public void testCreatedThen(){
+		assertEquals(FileChangeType.CREATED, FileChangeType.CREATED.then(FileChangeType.CREATED));
+		assertEquals(FileChangeType.CREATED, FileChangeType.CREATED.then(FileChangeType.MODIFIED));
+		assertNull(FileChangeType.CREATED.then(FileChangeType.DELETED));
+	}
+	
+	@Test
+	public void testModifiedThen(){
+		assertEquals(FileChangeType.MODIFIED, FileChangeType.MODIFIED.then(FileChangeType.CREATED));
+		assertEquals(FileChangeType.MODIFIED, FileChangeType.MODIFIED.then(FileChangeType.MODIFIED));
+		assertEquals(FileChangeType.DELETED, FileChangeType.MODIFIED.then(FileChangeType.DELETED));
+	}
+	
+	@Test
+	public void testDeletedThen(){
+		assertEquals(FileChangeType.MODIFIED, FileChangeType.DELETED.then(FileChangeType.CREATED));
+		assertEquals(FileChangeType.MODIFIED, FileChangeType.DELETED.then(FileChangeType.MODIFIED));
+		assertEquals(FileChangeType.DELETED, FileChangeType.DELETED.then(FileChangeType.DELETED));
+	}
+}
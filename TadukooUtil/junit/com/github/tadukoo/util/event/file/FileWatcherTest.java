@@ -0,0 +1,168 @@
+package com.github.tadukoo.util.event.file;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class FileWatcherTest{
+	private final BlockingQueue<FileChangeEvent> events = new LinkedBlockingQueue<>();
+	private FileWatcher watcher;
+	
+	private Path startWatcher(String name) throws IOException{
+		return startWatcher(name, null);
+	}
+	
+	private Path startWatcher(String name, FileChangeListener extraListener) throws IOException{
+		Path directory = Paths.get("target/test-files/" + name).toAbsolutePath();
+		if(Files.exists(directory)){
+			try(Stream<Path> paths = Files.walk(directory)){
+				for(Path path: paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())){
+					Files.delete(path);
+				}
+			}
+		}
+		Files.createDirectories(directory.resolve("sub"));
+		Files.writeString(directory.resolve("sub/existing.txt"), "Existing");
+		
+		watcher = new FileWatcher(directory, 300);
+		watcher.registerListener(events::add);
+		if(extraListener != null){
+			watcher.registerListener(extraListener);
+		}
+		watcher.start();
+		return directory;
+	}
+	
+	private FileChangeEvent nextEvent() throws InterruptedException{
+		FileChangeEvent event = events.poll(10, TimeUnit.SECONDS);
+		assertNotNull(event);
+		assertFalse(event.isOverflow());
+		return event;
+	}
+	
+	@AfterEach
+	public void closeWatcher() throws IOException{
+		if(watcher != null){
+			watcher.close();
+		}
+	}
+	
+	@Test
+	public void testBadDebounce() throws IOException{
+		try{
+			new FileWatcher(Paths.get("target"), 0);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Debounce window must be positive, but was 0!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetters() throws IOException{
+		Path directory = startWatcher("fileWatcherGetters");
+		assertEquals(directory.normalize(), watcher.getDirectory());
+		assertEquals(300, watcher.getDebounceMillis());
+	}
+	
+	@Test
+	public void testStartTwice() throws IOException{
+		Path directory = startWatcher("fileWatcherStartTwice");
+		try{
+			watcher.start();
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("FileWatcher for " + directory + " has already been started!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testBurstIsBatched() throws IOException, InterruptedException{
+		Path directory = startWatcher("fileWatcherBurst");
+		for(int i = 0; i < 5; i++){
+			Files.writeString(directory.resolve("test" + i + ".txt"), "Test " + i);
+			Files.writeString(directory.resolve("test" + i + ".txt"), "Test " + i + " again");
+		}
+		Files.writeString(directory.resolve("sub/existing.txt"), "Modified");
+		
+		FileChangeEvent event = nextEvent();
+		assertEquals(6, event.getChanges().size());
+		for(int i = 0; i < 5; i++){
+			assertEquals(FileChangeType.CREATED, event.getChanges().get(directory.resolve("test" + i + ".txt")));
+		}
+		assertEquals(FileChangeType.MODIFIED, event.getChanges().get(directory.resolve("sub/existing.txt")));
+		assertNull(events.poll(1, TimeUnit.SECONDS));
+	}
+	
+	@Test
+	public void testCreatedAndDeletedCancelOut() throws IOException, InterruptedException{
+		Path directory = startWatcher("fileWatcherCancelOut");
+		Files.writeString(directory.resolve("temp.txt"), "Temp");
+		Files.delete(directory.resolve("temp.txt"));
+		Files.delete(directory.resolve("sub/existing.txt"));
+		
+		FileChangeEvent event = nextEvent();
+		assertEquals(List.of(directory.resolve("sub/existing.txt")), event.getPaths(FileChangeType.DELETED));
+		assertEquals(1, event.getChanges().size());
+	}
+	
+	@Test
+	public void testNewDirectory() throws IOException, InterruptedException{
+		Path directory = startWatcher("fileWatcherNewDirectory");
+		Files.createDirectories(directory.resolve("new/deeper"));
+		Files.writeString(directory.resolve("new/deeper/test.txt"), "Test");
+		
+		FileChangeEvent event = nextEvent();
+		assertEquals(FileChangeType.CREATED, event.getChanges().get(directory.resolve("new")));
+		assertEquals(FileChangeType.CREATED, event.getChanges().get(directory.resolve("new/deeper/test.txt")));
+		
+		// Changes in the new directory are now being watched as well
+		Files.writeString(directory.resolve("new/deeper/test.txt"), "Modified");
+		event = nextEvent();
+		assertEquals(List.of(directory.resolve("new/deeper/test.txt")), event.getPaths(FileChangeType.MODIFIED));
+	}
+	
+	@Test
+	public void testListenerException() throws IOException, InterruptedException{
+		// Only the first batch fails, so nothing is left to report once the handler is put back
+		AtomicBoolean failed = new AtomicBoolean();
+		Path directory = startWatcher("fileWatcherListenerException", event -> {
+			if(!failed.getAndSet(true)){
+				throw new IllegalStateException("Bad listener");
+			}
+		});
+		Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+		BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+		Thread.setDefaultUncaughtExceptionHandler((thread, e) -> errors.add(e));
+		try{
+			Files.writeString(directory.resolve("first.txt"), "First");
+			nextEvent();
+			Throwable error = errors.poll(10, TimeUnit.SECONDS);
+			assertNotNull(error);
+			assertEquals("Bad listener", error.getMessage());
+			
+			// The watcher keeps going after the listener failed
+			Files.writeString(directory.resolve("second.txt"), "Second");
+			assertEquals(List.of(directory.resolve("second.txt")), nextEvent().getPaths(FileChangeType.CREATED));
+		}finally{
+			Thread.setDefaultUncaughtExceptionHandler(handler);
+		}
+	}
+}
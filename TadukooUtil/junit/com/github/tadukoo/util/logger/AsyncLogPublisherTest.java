@@ -0,0 +1,278 @@
+package com.github.tadukoo.util.logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class AsyncLogPublisherTest{
+	// Logger that keeps the records logged to it, optionally waiting on a latch before taking each one
+	private static class RecordingLogger extends Logger{
+		private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+		private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+		private volatile CountDownLatch gate = null;
+		
+		public RecordingLogger(){
+			super("Recording", null);
+			setLevel(Level.ALL);
+		}
+		
+		@Override
+		public void log(LogRecord record){
+			CountDownLatch currentGate = gate;
+			if(currentGate != null){
+				try{
+					currentGate.await();
+				}catch(InterruptedException e){
+					Thread.currentThread().interrupt();
+				}
+			}
+			records.add(record);
+			threads.add(Thread.currentThread());
+		}
+		
+		public List<String> getMessages(){
+			List<String> messages = new ArrayList<>();
+			synchronized(records){
+				for(LogRecord record: records){
+					messages.add(record.getMessage());
+				}
+			}
+			return messages;
+		}
+	}
+	
+	private RecordingLogger logger;
+	private AsyncLogPublisher publisher;
+	
+	@BeforeEach
+	public void setup(){
+		logger = new RecordingLogger();
+	}
+	
+	@AfterEach
+	public void tearDown(){
+		if(logger.gate != null){
+			logger.gate.countDown();
+		}
+		if(publisher != null){
+			publisher.close();
+		}
+	}
+	
+	@Test
+	public void testCapacity(){
+		publisher = new AsyncLogPublisher(100, AsyncLogPublisher.OverflowPolicy.BLOCK);
+		assertEquals(128, publisher.getCapacity());
+		assertEquals(AsyncLogPublisher.OverflowPolicy.BLOCK, publisher.getOverflowPolicy());
+	}
+	
+	@Test
+	public void testBadCapacity(){
+		try{
+			new AsyncLogPublisher(0, AsyncLogPublisher.OverflowPolicy.BLOCK);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Capacity must be between 1 and 2^30, but was 0!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testPublish(){
+		publisher = new AsyncLogPublisher(16, AsyncLogPublisher.OverflowPolicy.BLOCK);
+		IllegalStateException e = new IllegalStateException("Derp");
+		publisher.publish(logger, Level.WARNING, "Some warning", e);
+		publisher.flush();
+		
+		assertEquals(1, logger.records.size());
+		LogRecord record = logger.records.get(0);
+		assertEquals(Level.WARNING, record.getLevel());
+		assertEquals("Some warning", record.getMessage());
+		assertEquals("Recording", record.getLoggerName());
+		assertSame(e, record.getThrown());
+		assertNull(record.getSourceClassName());
+		assertNotSame(Thread.currentThread(), logger.threads.get(0));
+	}
+	
+	@Test
+	public void testPublishNotLoggable(){
+		publisher = new AsyncLogPublisher(16, AsyncLogPublisher.OverflowPolicy.BLOCK);
+		logger.setLevel(Level.INFO);
+		publisher.publish(logger, Level.FINE, "Some debug", null);
+		publisher.flush();
+		assertTrue(logger.records.isEmpty());
+	}
+	
+	@Test
+	public void testPublishInOrder(){
+		// More records than the capacity, so the buffer wraps around
+		publisher = new AsyncLogPublisher(8, AsyncLogPublisher.OverflowPolicy.BLOCK);
+		List<String> expected = new ArrayList<>();
+		for(int i = 0; i < 1000; i++){
+			publisher.publish(logger, Level.INFO, "Message " + i, null);
+			expected.add("Message " + i);
+		}
+		publisher.flush();
+		assertEquals(expected, logger.getMessages());
+		assertEquals(0, publisher.getDroppedCount());
+	}
+	
+	@Test
+	public void testPublishFromManyThreads() throws InterruptedException{
+		publisher = new AsyncLogPublisher(64, AsyncLogPublisher.OverflowPolicy.BLOCK);
+		List<Thread> threads = new ArrayList<>();
+		for(int t = 0; t < 4; t++){
+			String prefix = "Thread " + t + ": ";
+			Thread thread = new Thread(() -> {
+				for(int i = 0; i < 2500; i++){
+					publisher.publish(logger, Level.INFO, prefix + i, null);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for(Thread thread: threads){
+			thread.join();
+		}
+		publisher.flush();
+		
+		// Every record is logged, and each thread's records stay in order
+		List<String> messages = logger.getMessages();
+		assertEquals(10000, messages.size());
+		for(int t = 0; t < 4; t++){
+			int next = 0;
+			for(String message: messages){
+				if(message.startsWith("Thread " + t + ": ")){
+					assertEquals("Thread " + t + ": " + next, message);
+					next++;
+				}
+			}
+			assertEquals(2500, next);
+		}
+	}
+	
+	@Test
+	public void testDropPolicy(){
+		publisher = new AsyncLogPublisher(4, AsyncLogPublisher.OverflowPolicy.DROP);
+		logger.gate = new CountDownLatch(1);
+		
+		// The first record is taken by the background thread (which waits on the gate), then 4 fill the buffer
+		for(int i = 0; i < 10; i++){
+			publisher.publish(logger, Level.SEVERE, "Message " + i, null);
+		}
+		logger.gate.countDown();
+		publisher.flush();
+		
+		int logged = logger.records.size();
+		assertTrue(logged >= 4 && logged <= 5);
+		assertEquals(10 - logged, publisher.getDroppedCount());
+	}
+	
+	@Test
+	public void testDropLowLevelsPolicy() throws InterruptedException{
+		publisher = new AsyncLogPublisher(2, AsyncLogPublisher.OverflowPolicy.DROP_LOW_LEVELS);
+		logger.gate = new CountDownLatch(1);
+		for(int i = 0; i < 5; i++){
+			publisher.publish(logger, Level.INFO, "Info " + i, null);
+		}
+		long droppedInfo = publisher.getDroppedCount();
+		assertTrue(droppedInfo >= 2);
+		
+		// Errors wait for room instead of being dropped
+		Thread errors = new Thread(() -> {
+			for(int i = 0; i < 3; i++){
+				publisher.publish(logger, Level.SEVERE, "Error " + i, null);
+			}
+		});
+		errors.start();
+		Thread.sleep(50);
+		assertTrue(errors.isAlive());
+		logger.gate.countDown();
+		errors.join();
+		publisher.flush();
+		
+		List<String> messages = logger.getMessages();
+		assertEquals(droppedInfo, publisher.getDroppedCount());
+		assertEquals(List.of("Error 0", "Error 1", "Error 2"), messages.subList(messages.size() - 3, messages.size()));
+	}
+	
+	@Test
+	public void testClose(){
+		publisher = new AsyncLogPublisher(16, AsyncLogPublisher.OverflowPolicy.BLOCK);
+		for(int i = 0; i < 10; i++){
+			publisher.publish(logger, Level.INFO, "Message " + i, null);
+		}
+		publisher.close();
+		assertTrue(publisher.isClosed());
+		assertEquals(10, logger.records.size());
+		
+		// Records published after closing are logged directly
+		publisher.publish(logger, Level.INFO, "After", null);
+		assertEquals(11, logger.records.size());
+		assertSame(Thread.currentThread(), logger.threads.get(10));
+	}
+	
+	@Test
+	public void testCloseInterrupted() throws InterruptedException{
+		publisher = new AsyncLogPublisher(16, AsyncLogPublisher.OverflowPolicy.BLOCK);
+		logger.gate = new CountDownLatch(1);
+		publisher.publish(logger, Level.INFO, "Waiting", null);
+		
+		// close returns early instead of throwing, leaving the interrupt flag set
+		Thread.currentThread().interrupt();
+		publisher.close();
+		assertTrue(Thread.interrupted());
+		assertTrue(publisher.isClosed());
+		
+		// The background thread still passes on the remaining record
+		logger.gate.countDown();
+		publisher.flush();
+		assertEquals(List.of("Waiting"), logger.getMessages());
+	}
+	
+	@Test
+	public void testBackgroundThreadDied() throws InterruptedException{
+		CountDownLatch died = new CountDownLatch(1);
+		Logger dyingLogger = new Logger("Dying", null){
+			@Override
+			public void log(LogRecord record){
+				if(died.getCount() != 0){
+					died.countDown();
+					throw new AssertionError("Handler failed");
+				}
+				logger.log(record);
+			}
+		};
+		Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+		Thread.setDefaultUncaughtExceptionHandler((thread, e) -> { });
+		try{
+			publisher = new AsyncLogPublisher(1, AsyncLogPublisher.OverflowPolicy.BLOCK);
+			publisher.publish(dyingLogger, Level.INFO, "Dies", null);
+			died.await();
+			
+			// The record that killed the thread is never taken out of the buffer, so the rest are logged directly
+			// instead of waiting for room forever
+			for(int i = 0; i < 3; i++){
+				publisher.publish(dyingLogger, Level.INFO, "Message " + i, null);
+			}
+			assertEquals(List.of("Message 0", "Message 1", "Message 2"), logger.getMessages());
+			assertSame(Thread.currentThread(), logger.threads.get(0));
+		}finally{
+			Thread.setDefaultUncaughtExceptionHandler(handler);
+		}
+	}
+}
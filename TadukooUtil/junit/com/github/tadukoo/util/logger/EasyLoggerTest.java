@@ -3,11 +3,20 @@ package com.github.tadukoo.util.logger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class EasyLoggerTest{
 	// DummyLogger to test EasyLogger
@@ -241,4 +250,141 @@ public class EasyLoggerTest{
 		assertEquals("The debug", actualLogger.getMessage());
 		assertEquals(e, actualLogger.getT());
 	}
+	
+	@Test
+	public void testIsAsync(){
+		assertFalse(logger.isAsync());
+		assertNull(logger.getPublisher());
+	}
+	
+	@Test
+	public void testAsyncLogger(){
+		List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+		Logger recordingLogger = new Logger("Recording", null){
+			@Override
+			public void log(LogRecord record){
+				records.add(record);
+			}
+		};
+		AsyncLogPublisher publisher = new AsyncLogPublisher(16, AsyncLogPublisher.OverflowPolicy.BLOCK);
+		try{
+			EasyLogger asyncLogger = new EasyLogger(recordingLogger, publisher);
+			assertTrue(asyncLogger.isAsync());
+			assertEquals(publisher, asyncLogger.getPublisher());
+			
+			IllegalArgumentException e = new IllegalArgumentException("Derp");
+			asyncLogger.logWarning("The warning", e);
+			asyncLogger.logError(e);
+			publisher.flush();
+			
+			assertEquals(2, records.size());
+			assertEquals(Level.WARNING, records.get(0).getLevel());
+			assertEquals("The warning", records.get(0).getMessage());
+			assertEquals(e, records.get(0).getThrown());
+			assertEquals(Level.SEVERE, records.get(1).getLevel());
+			assertEquals("Derp", records.get(1).getMessage());
+		}finally{
+			publisher.close();
+		}
+	}
+	
+	@Test
+	public void testLogInfoSupplier(){
+		logger.logInfo(() -> "Some info");
+		assertEquals(Level.INFO, actualLogger.getLevel());
+		assertEquals("Some info", actualLogger.getMessage());
+		assertNull(actualLogger.getT());
+	}
+	
+	@Test
+	public void testLogWarningSupplierBoth(){
+		IllegalArgumentException e = new IllegalArgumentException("Derp");
+		logger.logWarning(() -> "The warning", e);
+		assertEquals(Level.WARNING, actualLogger.getLevel());
+		assertEquals("The warning", actualLogger.getMessage());
+		assertEquals(e, actualLogger.getT());
+	}
+	
+	@Test
+	public void testLogErrorTemplate(){
+		logger.logError("Failed {} of {} items", 3, 10);
+		assertEquals(Level.SEVERE, actualLogger.getLevel());
+		assertEquals("Failed 3 of 10 items", actualLogger.getMessage());
+		assertNull(actualLogger.getT());
+	}
+	
+	@Test
+	public void testLogConfigTemplateWithThrowable(){
+		actualLogger.setLevel(Level.ALL);
+		IllegalArgumentException e = new IllegalArgumentException("Derp");
+		logger.logConfig("Bad setting {}", "name", e);
+		assertEquals(Level.CONFIG, actualLogger.getLevel());
+		assertEquals("Bad setting name", actualLogger.getMessage());
+		assertEquals(e, actualLogger.getT());
+	}
+	
+	@Test
+	public void testLogTemplateThrowableUsedInTemplate(){
+		IllegalArgumentException e = new IllegalArgumentException("Derp");
+		logger.logInfo("Caught {} in {}", e, "parser");
+		assertEquals(Level.INFO, actualLogger.getLevel());
+		assertEquals("Caught java.lang.IllegalArgumentException: Derp in parser", actualLogger.getMessage());
+		assertNull(actualLogger.getT());
+	}
+	
+	@Test
+	public void testLogDebugSupplierNotLoggable(){
+		// The DummyLogger logs at INFO, so FINE, FINER, and FINEST messages shouldn't be built
+		logger.logDebugFine(() -> {
+			fail("Shouldn't be built");
+			return "built";
+		});
+		logger.logDebugFiner(() -> {
+			fail("Shouldn't be built");
+			return "built";
+		}, new IllegalArgumentException("Derp"));
+		logger.logDebugFinest("Not {}", new Object(){
+			@Override
+			public String toString(){
+				fail("Shouldn't be built");
+				return "built";
+			}
+		});
+		assertNull(actualLogger.getLevel());
+		assertNull(actualLogger.getMessage());
+	}
+	
+	@Test
+	public void testLogDebugSupplierLoggable(){
+		actualLogger.setLevel(Level.ALL);
+		logger.logDebugFine(() -> "Fine");
+		assertEquals(Level.FINE, actualLogger.getLevel());
+		assertEquals("Fine", actualLogger.getMessage());
+		logger.logDebugFiner("Finer {}", 2);
+		assertEquals(Level.FINER, actualLogger.getLevel());
+		assertEquals("Finer 2", actualLogger.getMessage());
+		logger.logDebugFinest(() -> "Finest");
+		assertEquals(Level.FINEST, actualLogger.getLevel());
+		assertEquals("Finest", actualLogger.getMessage());
+	}
+	
+	@Test
+	public void testStructuredNotLoggable(){
+		assertSame(StructuredLogEntry.DISABLED, logger.logConfig());
+		assertSame(StructuredLogEntry.DISABLED, logger.logDebugFine());
+		assertSame(StructuredLogEntry.DISABLED, logger.logDebugFiner());
+		assertSame(StructuredLogEntry.DISABLED, logger.logDebugFinest());
+		StructuredLogEntry entry = logger.logInfo();
+		assertNotSame(StructuredLogEntry.DISABLED, entry);
+		entry.log();
+	}
+	
+	@Test
+	public void testFormatTemplate(){
+		assertEquals("a 1 b null c", EasyLogger.formatTemplate("a {} b {} c", new Object[]{1, null}, 2));
+		assertEquals("a 1 b {} c", EasyLogger.formatTemplate("a {} b {} c", new Object[]{1}, 1));
+		assertEquals("a 1", EasyLogger.formatTemplate("a {}", new Object[]{1, 2}, 2));
+		assertEquals("no args {}", EasyLogger.formatTemplate("no args {}", new Object[0], 0));
+		assertNull(EasyLogger.formatTemplate(null, new Object[]{1}, 1));
+	}
 }
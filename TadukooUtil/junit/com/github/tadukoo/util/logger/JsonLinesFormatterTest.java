@@ -0,0 +1,48 @@
+package com.github.tadukoo.util.logger;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonLinesFormatterTest{
+	private final JsonLinesFormatter formatter = new JsonLinesFormatter();
+	
+	@Test
+	public void testFormatStructured(){
+		LogRecord[] logged = new LogRecord[1];
+		EasyLogger logger = new EasyLogger(new Logger("Test", null){
+			@Override
+			public void log(LogRecord record){
+				logged[0] = record;
+			}
+		});
+		logger.logInfo().with("userId", 42).log("Done");
+		assertEquals(logged[0].getMessage() + System.lineSeparator(), formatter.format(logged[0]));
+	}
+	
+	@Test
+	public void testFormatRegular(){
+		LogRecord record = new LogRecord(Level.WARNING, "Some \"warning\"");
+		record.setInstant(Instant.parse("2020-01-02T03:04:05Z"));
+		record.setLoggerName("Test");
+		assertEquals("{\"time\":\"2020-01-02T03:04:05Z\",\"level\":\"WARNING\",\"logger\":\"Test\"," +
+				"\"message\":\"Some \\\"warning\\\"\"}" + System.lineSeparator(), formatter.format(record));
+	}
+	
+	@Test
+	public void testFormatRegularThrown(){
+		LogRecord record = new LogRecord(Level.SEVERE, null);
+		record.setInstant(Instant.parse("2020-01-02T03:04:05Z"));
+		record.setThrown(new IllegalStateException("Derp"));
+		String json = formatter.format(record);
+		assertTrue(json.startsWith("{\"time\":\"2020-01-02T03:04:05Z\",\"level\":\"SEVERE\",\"logger\":null," +
+				"\"message\":null,\"thrown\":\"java.lang.IllegalStateException: Derp\\n"), json);
+		assertTrue(json.endsWith("\"}" + System.lineSeparator()));
+	}
+}
@@ -0,0 +1,187 @@
+package com.github.tadukoo.util.logger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StructuredLogEntryTest{
+	// Logger that keeps the records logged to it
+	private static class RecordingLogger extends Logger{
+		private final List<LogRecord> records = new ArrayList<>();
+		
+		public RecordingLogger(){
+			super("Recording", null);
+		}
+		
+		@Override
+		public void log(LogRecord record){
+			records.add(record);
+		}
+		
+		public LogRecord getLastRecord(){
+			return records.get(records.size() - 1);
+		}
+	}
+	
+	private RecordingLogger actualLogger;
+	private EasyLogger logger;
+	
+	@BeforeEach
+	public void setup(){
+		actualLogger = new RecordingLogger();
+		logger = new EasyLogger(actualLogger);
+	}
+	
+	/**
+	 * Removes the "time" field from the start of the given JSON, checking that it matches the record's time
+	 *
+	 * @param record The record holding the JSON
+	 * @return The JSON after the "time" field
+	 */
+	private static String withoutTime(LogRecord record){
+		String json = record.getMessage();
+		String start = "{\"time\":\"" + record.getInstant() + "\"";
+		assertTrue(json.startsWith(start), json);
+		return json.substring(start.length());
+	}
+	
+	@Test
+	public void testLog(){
+		logger.logInfo().with("userId", "derp").with("latencyMs", 12L).log("Request done");
+		LogRecord record = actualLogger.getLastRecord();
+		assertEquals(Level.INFO, record.getLevel());
+		assertEquals("Recording", record.getLoggerName());
+		assertNull(record.getSourceClassName());
+		assertEquals(",\"level\":\"INFO\",\"logger\":\"Recording\",\"userId\":\"derp\",\"latencyMs\":12," +
+				"\"message\":\"Request done\"}", withoutTime(record));
+	}
+	
+	@Test
+	public void testLogNoMessage(){
+		logger.logWarning().with("count", 3).log();
+		LogRecord record = actualLogger.getLastRecord();
+		assertEquals(Level.WARNING, record.getLevel());
+		assertEquals(",\"level\":\"WARNING\",\"logger\":\"Recording\",\"count\":3}", withoutTime(record));
+	}
+	
+	@Test
+	public void testFieldTypes(){
+		logger.logError().with("double", 1.5).with("nan", Double.NaN).with("bool", true)
+				.with("int", (Object) 7).with("float", (Object) 2.5f).with("decimal", new BigDecimal("1.25"))
+				.with("null", (Object) null).with("other", (Object) Level.INFO).log();
+		assertEquals(",\"level\":\"SEVERE\",\"logger\":\"Recording\",\"double\":1.5,\"nan\":\"NaN\",\"bool\":true," +
+				"\"int\":7,\"float\":2.5,\"decimal\":1.25,\"null\":null,\"other\":\"INFO\"}",
+				withoutTime(actualLogger.getLastRecord()));
+	}
+	
+	@Test
+	public void testChar(){
+		logger.logInfo().with("grade", 'A').with("quote", '"').with("boxed", (Object) 'B').log();
+		assertEquals(",\"level\":\"INFO\",\"logger\":\"Recording\",\"grade\":\"A\",\"quote\":\"\\\"\"," +
+				"\"boxed\":\"B\"}", withoutTime(actualLogger.getLastRecord()));
+	}
+	
+	@Test
+	public void testEscaping(){
+		logger.logInfo().with("quote\"key", "back\\slash").log("line\nbreak\ttab\r\u0001");
+		assertEquals(",\"level\":\"INFO\",\"logger\":\"Recording\",\"quote\\\"key\":\"back\\\\slash\"," +
+				"\"message\":\"line\\nbreak\\ttab\\r\\u0001\"}", withoutTime(actualLogger.getLastRecord()));
+	}
+	
+	@Test
+	public void testWithThrowable(){
+		IllegalStateException e = new IllegalStateException("Derp");
+		logger.logError().withThrowable(e).log("Failed");
+		LogRecord record = actualLogger.getLastRecord();
+		assertSame(e, record.getThrown());
+		assertTrue(record.getMessage().contains(",\"message\":\"Failed\",\"thrown\":\"" +
+				"java.lang.IllegalStateException: Derp"), record.getMessage());
+		assertTrue(record.getMessage().endsWith("\"}"));
+	}
+	
+	@Test
+	public void testTime(){
+		Instant before = Instant.now();
+		logger.logInfo().log();
+		Instant time = actualLogger.getLastRecord().getInstant();
+		assertTrue(!time.isBefore(before) && !time.isAfter(Instant.now()));
+	}
+	
+	@Test
+	public void testNotLoggable(){
+		actualLogger.setLevel(Level.WARNING);
+		StructuredLogEntry entry = logger.logInfo();
+		assertSame(StructuredLogEntry.DISABLED, entry);
+		entry.with("userId", "derp").with("count", 1).withThrowable(new IllegalStateException()).log("Nope");
+		assertTrue(actualLogger.records.isEmpty());
+	}
+	
+	@Test
+	public void testReused(){
+		StructuredLogEntry entry = logger.logInfo();
+		entry.log("First");
+		StructuredLogEntry second = logger.logInfo();
+		assertSame(entry, second);
+		// The buffer is cleared between entries
+		second.log("Second");
+		assertEquals(",\"level\":\"INFO\",\"logger\":\"Recording\",\"message\":\"Second\"}",
+				withoutTime(actualLogger.getLastRecord()));
+	}
+	
+	@Test
+	public void testNested(){
+		StructuredLogEntry outer = logger.logInfo().with("outer", true);
+		StructuredLogEntry inner = logger.logWarning().with("inner", true);
+		assertNotSame(outer, inner);
+		inner.log();
+		outer.log();
+		assertEquals(",\"level\":\"WARNING\",\"logger\":\"Recording\",\"inner\":true}",
+				withoutTime(actualLogger.records.get(0)));
+		assertEquals(",\"level\":\"INFO\",\"logger\":\"Recording\",\"outer\":true}",
+				withoutTime(actualLogger.records.get(1)));
+	}
+	
+	@Test
+	public void testNeverLogged(){
+		StructuredLogEntry abandoned = logger.logInfo().with("abandoned", true);
+		StructuredLogEntry entry = logger.logInfo();
+		assertNotSame(abandoned, entry);
+		entry.log();
+		// The new entry is reused from then on
+		StructuredLogEntry next = logger.logInfo();
+		assertSame(entry, next);
+		next.log();
+	}
+	
+	@Test
+	public void testLoggedAfterLogIgnored(){
+		StructuredLogEntry entry = logger.logInfo();
+		entry.log("Once");
+		entry.log("Twice");
+		assertEquals(1, actualLogger.records.size());
+	}
+	
+	@Test
+	public void testAsync(){
+		try(AsyncLogPublisher publisher = new AsyncLogPublisher(16, AsyncLogPublisher.OverflowPolicy.BLOCK)){
+			logger = new EasyLogger(actualLogger, publisher);
+			logger.logInfo().with("async", true).log();
+			publisher.flush();
+		}
+		assertEquals(",\"level\":\"INFO\",\"logger\":\"Recording\",\"async\":true}",
+				withoutTime(actualLogger.getLastRecord()));
+	}
+}
@@ -61,17 +61,20 @@ public abstract class EventHandler<EventType extends Event, Listener extends Eve
 	protected final void sendEventToListeners(EventType e){
 		// Set this in process until done
 		inProcess = true;
-		// Send the event to the listeners
-		listeners.forEach(listener -> listener.handleEvent(e));
-		// Set this as no longer in process
-		inProcess = false;
-		
-		// Remove the listeners that are in the remove queue
-		listeners.removeAll(listenerRemoveQueue);
-		listenerRemoveQueue.clear();
-		
-		// Add the listeners that are in the add queue
-		listeners.addAll(listenerAddQueue);
-		listenerAddQueue.clear();
+		try{
+			// Send the event to the listeners
+			listeners.forEach(listener -> listener.handleEvent(e));
+		}finally{
+			// Set this as no longer in process, even if a listener threw an exception
+			inProcess = false;
+			
+			// Remove the listeners that are in the remove queue
+			listeners.removeAll(listenerRemoveQueue);
+			listenerRemoveQueue.clear();
+			
+			// Add the listeners that are in the add queue
+			listeners.addAll(listenerAddQueue);
+			listenerAddQueue.clear();
+		}
 	}
 }
@@ -0,0 +1,82 @@
+package com.github.tadukoo.util.event.file;
+
+import com.github.tadukoo.util.event.Event;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link Event} for a batch of changes to files in a directory being watched by a {@link FileWatcher}.
+ * Each file appears at most once in the batch, with all of its changes in the batch combined into one
+ * (see {@link FileChangeType#then(FileChangeType)}).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public class FileChangeEvent extends Event{
+	/** The type of {@link Event} this is */
+	public static final String TYPE = "FileChange";
+	
+	/** The directory being watched */
+	private final Path directory;
+	/** The changed files and how they changed, in the order they first changed */
+	private final Map<Path, FileChangeType> changes;
+	/** Whether some changes were lost because they happened faster than they could be recorded */
+	private final boolean overflow;
+	
+	/**
+	 * Creates a new FileChangeEvent for the given batch of changes.
+	 *
+	 * @param directory The directory being watched
+	 * @param changes The changed files and how they changed
+	 * @param overflow Whether some changes were lost because they happened faster than they could be recorded
+	 */
+	public FileChangeEvent(Path directory, Map<Path, FileChangeType> changes, boolean overflow){
+		super(TYPE, changes.size() + " file(s) changed in " + directory + (overflow?" (some changes lost)":""));
+		this.directory = directory;
+		this.changes = Collections.unmodifiableMap(changes);
+		this.overflow = overflow;
+	}
+	
+	/**
+	 * @return The directory being watched
+	 */
+	public Path getDirectory(){
+		return directory;
+	}
+	
+	/**
+	 * @return An unmodifiable Map of the changed files (as absolute paths) to how they changed
+	 */
+	public Map<Path, FileChangeType> getChanges(){
+		return changes;
+	}
+	
+	/**
+	 * @param type The type of change to grab files for
+	 * @return The files that had the given type of change
+	 */
+	public List<Path> getPaths(FileChangeType type){
+		List<Path> paths = new ArrayList<>();
+		for(Map.Entry<Path, FileChangeType> change: changes.entrySet()){
+			if(change.getValue() == type){
+				paths.add(change.getKey());
+			}
+		}
+		return paths;
+	}
+	
+	/**
+	 * If this is true, some changes were lost because they happened faster than they could be recorded, so
+	 * {@link #getChanges()} is incomplete, and the directory should be checked fully to find all the changes.
+	 *
+	 * @return Whether some changes were lost
+	 */
+	public boolean isOverflow(){
+		return overflow;
+	}
+}
@@ -0,0 +1,12 @@
+package com.github.tadukoo.util.event.file;
+
+import com.github.tadukoo.util.event.EventListener;
+
+/**
+ * An {@link EventListener} that is notified of batches of file changes from a {@link FileWatcher}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public interface FileChangeListener extends EventListener<FileChangeEvent>{ }
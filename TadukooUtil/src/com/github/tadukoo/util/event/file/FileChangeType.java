@@ -0,0 +1,35 @@
+package com.github.tadukoo.util.event.file;
+
+/**
+ * The types of changes to a file that can be reported in a {@link FileChangeEvent}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public enum FileChangeType{
+	/** The file was created */
+	CREATED,
+	/** The file's contents were modified */
+	MODIFIED,
+	/** The file was deleted */
+	DELETED;
+	
+	/**
+	 * Combines this change with a later change to the same file, so that a burst of changes can be reported
+	 * as a single change (e.g. a file being created and then modified is just created).
+	 *
+	 * @param later The change that happened after this one
+	 * @return The combined change, or null if the changes cancel out (a file was created and then deleted)
+	 */
+	public FileChangeType then(FileChangeType later){
+		switch(this){
+			case CREATED:
+				return later == DELETED?null:CREATED;
+			case DELETED:
+				return later == DELETED?DELETED:MODIFIED;
+			default:
+				return later == DELETED?DELETED:MODIFIED;
+		}
+	}
+}
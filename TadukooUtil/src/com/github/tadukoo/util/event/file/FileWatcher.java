@@ -0,0 +1,253 @@
+package com.github.tadukoo.util.event.file;
+
+import com.github.tadukoo.util.event.EventHandler;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * File Watcher watches a directory and all of its sub-directories for files being created, modified, or deleted,
+ * using a {@link WatchService} so that the operating system reports the changes instead of the directory being
+ * polled. Changes are collected until no more have happened for the debounce window, then sent to the
+ * registered {@link FileChangeListener FileChangeListeners} as a single {@link FileChangeEvent}, so a burst of
+ * changes (e.g. a build writing many files) results in one event. If changes keep happening, a batch is sent at
+ * least every 10 debounce windows.
+ * <br><br>
+ * Listeners are called on the watcher's thread, and should be registered before calling {@link #start()}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public class FileWatcher extends EventHandler<FileChangeEvent, FileChangeListener> implements AutoCloseable{
+	/** The number of debounce windows that a batch can keep growing for before it's sent anyway */
+	private static final int MAX_DEBOUNCE_WINDOWS = 10;
+	
+	/** The directory being watched */
+	private final Path directory;
+	/** How long to wait (in milliseconds) for more changes before sending a batch */
+	private final long debounceMillis;
+	/** The {@link WatchService} reporting changes */
+	private final WatchService watchService;
+	/** The directories being watched, by their {@link WatchKey WatchKeys} */
+	private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+	/** The changes in the current batch */
+	private Map<Path, FileChangeType> changes = new LinkedHashMap<>();
+	/** Whether changes were lost in the current batch */
+	private boolean overflow = false;
+	/** The thread that waits for changes and sends the batches */
+	private Thread thread;
+	
+	/**
+	 * Creates a new FileWatcher for the given directory and all of its sub-directories. Nothing is watched until
+	 * {@link #start()} is called.
+	 *
+	 * @param directory The directory to be watched
+	 * @param debounceMillis How long to wait (in milliseconds) for more changes before sending a batch
+	 * @throws IOException If something goes wrong in creating the {@link WatchService}
+	 */
+	public FileWatcher(Path directory, long debounceMillis) throws IOException{
+		if(debounceMillis <= 0){
+			throw new IllegalArgumentException("Debounce window must be positive, but was " + debounceMillis + "!");
+		}
+		this.directory = directory.toAbsolutePath().normalize();
+		this.debounceMillis = debounceMillis;
+		this.watchService = FileSystems.getDefault().newWatchService();
+	}
+	
+	/**
+	 * @return The directory being watched
+	 */
+	public Path getDirectory(){
+		return directory;
+	}
+	
+	/**
+	 * @return How long to wait (in milliseconds) for more changes before sending a batch
+	 */
+	public long getDebounceMillis(){
+		return debounceMillis;
+	}
+	
+	/**
+	 * Registers the directory and all of its current sub-directories to be watched, then starts a daemon thread
+	 * that waits for changes and sends them to the listeners.
+	 *
+	 * @throws IOException If something goes wrong in registering the directories
+	 */
+	public synchronized void start() throws IOException{
+		if(thread != null){
+			throw new IllegalStateException("FileWatcher for " + directory + " has already been started!");
+		}
+		registerAll(directory, false);
+		thread = new Thread(this::run, "FileWatcher-" + directory);
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	/**
+	 * Stops watching for changes. Any changes that haven't been sent yet are dropped.
+	 *
+	 * @throws IOException If something goes wrong in closing the {@link WatchService}
+	 */
+	@Override
+	public synchronized void close() throws IOException{
+		watchService.close();
+		if(thread != null && thread != Thread.currentThread()){
+			thread.interrupt();
+		}
+	}
+	
+	/**
+	 * Waits for changes and sends the batches to the listeners until this FileWatcher is closed.
+	 */
+	private void run(){
+		// Times are from System.nanoTime(), so changes to the wall clock don't affect the debounce window
+		long debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+		long firstChangeTime = 0;
+		long lastChangeTime = 0;
+		try{
+			while(true){
+				// Wait for changes, or until the current batch should be sent
+				WatchKey key;
+				if(changes.isEmpty() && !overflow){
+					key = watchService.take();
+				}else{
+					long waitNanos = Math.min(lastChangeTime + debounceNanos,
+							firstChangeTime + debounceNanos * MAX_DEBOUNCE_WINDOWS) - System.nanoTime();
+					key = waitNanos > 0?watchService.poll(waitNanos, TimeUnit.NANOSECONDS):null;
+				}
+				
+				if(key != null){
+					boolean firstChange = changes.isEmpty() && !overflow;
+					processEvents(key);
+					if(firstChange && (!changes.isEmpty() || overflow)){
+						firstChangeTime = System.nanoTime();
+					}
+					lastChangeTime = System.nanoTime();
+				}else{
+					sendBatch();
+				}
+			}
+		}catch(InterruptedException | ClosedWatchServiceException e){
+			// The watcher was closed
+		}
+	}
+	
+	/**
+	 * Adds the changes reported by the given {@link WatchKey} to the current batch, and starts watching
+	 * any new directories.
+	 *
+	 * @param key The {@link WatchKey} that has changes
+	 */
+	private void processEvents(WatchKey key){
+		Path keyDirectory = watchedDirectories.get(key);
+		for(WatchEvent<?> event: key.pollEvents()){
+			WatchEvent.Kind<?> kind = event.kind();
+			if(kind == StandardWatchEventKinds.OVERFLOW || keyDirectory == null){
+				overflow = true;
+				continue;
+			}
+			
+			Path path = keyDirectory.resolve((Path) event.context());
+			if(kind == StandardWatchEventKinds.ENTRY_CREATE){
+				addChange(path, FileChangeType.CREATED);
+				// Files can be created in a new directory before it's registered, so they're found by walking it
+				if(Files.isDirectory(path)){
+					try{
+						registerAll(path, true);
+					}catch(IOException e){
+						overflow = true;
+					}
+				}
+			}else if(kind == StandardWatchEventKinds.ENTRY_MODIFY){
+				addChange(path, FileChangeType.MODIFIED);
+			}else{
+				addChange(path, FileChangeType.DELETED);
+			}
+		}
+		
+		// The key is no longer valid if its directory was deleted
+		if(!key.reset()){
+			watchedDirectories.remove(key);
+		}
+	}
+	
+	/**
+	 * Adds a change to the current batch, combining it with any earlier change to the same file.
+	 *
+	 * @param path The file that changed
+	 * @param type How the file changed
+	 */
+	private void addChange(Path path, FileChangeType type){
+		FileChangeType earlier = changes.get(path);
+		FileChangeType combined = earlier == null?type:earlier.then(type);
+		if(combined == null){
+			changes.remove(path);
+		}else{
+			changes.put(path, combined);
+		}
+	}
+	
+	/**
+	 * Registers the given directory and all of its sub-directories with the {@link WatchService}.
+	 *
+	 * @param start The directory to start registering from
+	 * @param newDirectory Whether this is a newly created directory, in which case everything in it is
+	 * added to the current batch as created
+	 * @throws IOException If something goes wrong in registering the directories
+	 */
+	private void registerAll(Path start, boolean newDirectory) throws IOException{
+		Files.walkFileTree(start, new SimpleFileVisitor<>(){
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) throws IOException{
+				WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+				watchedDirectories.put(key, dir);
+				if(newDirectory && !dir.equals(start)){
+					addChange(dir, FileChangeType.CREATED);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+			
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes){
+				if(newDirectory){
+					addChange(file, FileChangeType.CREATED);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+	
+	/**
+	 * Sends the current batch of changes to the listeners and starts a new batch. If a listener throws an
+	 * exception, it's passed to the thread's {@link Thread.UncaughtExceptionHandler} and the watcher keeps going.
+	 */
+	private void sendBatch(){
+		FileChangeEvent event = new FileChangeEvent(directory, changes, overflow);
+		changes = new LinkedHashMap<>();
+		overflow = false;
+		try{
+			sendEventToListeners(event);
+		}catch(RuntimeException e){
+			// A failing listener shouldn't stop the watcher
+			Thread current = Thread.currentThread();
+			current.getUncaughtExceptionHandler().uncaughtException(current, e);
+		}
+	}
+}
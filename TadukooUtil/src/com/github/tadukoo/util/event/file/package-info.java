@@ -0,0 +1,5 @@
+/**
+ * Contains a recursive watcher for changes to files in a directory, which sends batches of the changes out as
+ * {@link com.github.tadukoo.util.event.Event Events}
+ */
+package com.github.tadukoo.util.event.file;
@@ -0,0 +1,310 @@
+package com.github.tadukoo.util.logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Async Log Publisher takes log records off of the threads doing the logging, so they don't have to wait on the
+ * {@link Logger Logger's} handlers (e.g. a {@link java.util.logging.FileHandler} writing to disk). Records are
+ * put in a bounded ring buffer without locking, and a single background thread takes them out in batches and
+ * passes them on to their {@link Logger Loggers}. One publisher can be shared by any number of
+ * {@link EasyLogger EasyLoggers} (see {@link EasyLogger#EasyLogger(Logger, AsyncLogPublisher)}).
+ * <br><br>
+ * When the buffer is full, what happens to new records depends on the {@link OverflowPolicy}. Dropped records
+ * are counted, see {@link #getDroppedCount()}.
+ * <br><br>
+ * If the background thread dies (e.g. a handler throws an {@link Error}), logging threads that would wait for room
+ * in the buffer log their records directly instead.
+ * <br><br>
+ * Records are created on the logging thread, so they have the right time and thread ID, but their source class
+ * and method aren't looked up (as that means walking the stack), so formatters will show the logger's name
+ * instead. Records are only created if their {@link Level} is loggable by the {@link Logger}.
+ * <br><br>
+ * {@link #close()} should be called when the publisher is no longer needed, to write out the remaining records
+ * and stop the background thread. Records published after it's closed are logged directly.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public class AsyncLogPublisher implements AutoCloseable{
+	
+	/**
+	 * What to do with a new log record when the buffer is full.
+	 */
+	public enum OverflowPolicy{
+		/** Wait until there's room in the buffer, so no records are lost */
+		BLOCK,
+		/**
+		 * Drop records below {@link Level#WARNING}, but wait until there's room for warnings and errors, so
+		 * they're never lost
+		 */
+		DROP_LOW_LEVELS,
+		/** Drop the new record */
+		DROP
+	}
+	
+	/**
+	 * A log record in the buffer, along with the {@link Logger} to pass it on to.
+	 */
+	private static final class Entry{
+		/** The {@link Logger} to pass the record on to */
+		private final Logger logger;
+		/** The log record */
+		private final LogRecord record;
+		
+		/**
+		 * Creates a new Entry.
+		 *
+		 * @param logger The {@link Logger} to pass the record on to
+		 * @param record The log record
+		 */
+		private Entry(Logger logger, LogRecord record){
+			this.logger = logger;
+			this.record = record;
+		}
+	}
+	
+	/** The most records the background thread takes out of the buffer before checking if it should stop */
+	private static final int BATCH_SIZE = 256;
+	/** The longest the background thread waits for new records before checking again, in nanoseconds */
+	private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+	/** How long a blocked logging thread (or {@link #flush()}) waits before checking again, in nanoseconds */
+	private static final long BLOCKED_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+	
+	/** The buffer of records waiting to be passed on (empty slots are null) */
+	private final AtomicReferenceArray<Entry> buffer;
+	/** The mask to turn a sequence number into a slot of the buffer */
+	private final int mask;
+	/** What to do with a new record when the buffer is full */
+	private final OverflowPolicy overflowPolicy;
+	/** The sequence number of the next slot to be claimed by a logging thread */
+	private final AtomicLong tail = new AtomicLong();
+	/** The sequence number of the next slot to be taken out by the background thread */
+	private volatile long head = 0;
+	/** The number of logging threads currently putting a record in the buffer */
+	private final AtomicInteger publishing = new AtomicInteger();
+	/** The number of records that were dropped */
+	private final LongAdder dropped = new LongAdder();
+	/** Whether the background thread is (about to be) waiting for new records */
+	private volatile boolean waiting = false;
+	/** Whether this publisher has been closed */
+	private volatile boolean closed = false;
+	/** The background thread that passes the records on */
+	private final Thread thread;
+	
+	/**
+	 * Creates a new AsyncLogPublisher and starts its background thread.
+	 *
+	 * @param capacity The number of records the buffer can hold (rounded up to a power of two)
+	 * @param overflowPolicy What to do with a new record when the buffer is full
+	 */
+	public AsyncLogPublisher(int capacity, OverflowPolicy overflowPolicy){
+		if(capacity <= 0 || capacity > (1 << 30)){
+			throw new IllegalArgumentException("Capacity must be between 1 and 2^30, but was " + capacity + "!");
+		}
+		int size = capacity == 1?1:Integer.highestOneBit(capacity - 1) << 1;
+		buffer = new AtomicReferenceArray<>(size);
+		mask = size - 1;
+		this.overflowPolicy = overflowPolicy;
+		
+		thread = new Thread(this::run, "AsyncLogPublisher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	/**
+	 * @return The number of records the buffer can hold
+	 */
+	public int getCapacity(){
+		return buffer.length();
+	}
+	
+	/**
+	 * @return What to do with a new record when the buffer is full
+	 */
+	public OverflowPolicy getOverflowPolicy(){
+		return overflowPolicy;
+	}
+	
+	/**
+	 * @return The number of records that were dropped because the buffer was full
+	 */
+	public long getDroppedCount(){
+		return dropped.sum();
+	}
+	
+	/**
+	 * @return Whether this publisher has been closed
+	 */
+	public boolean isClosed(){
+		return closed;
+	}
+	
+	/**
+	 * Publishes a record with the given message and {@link Throwable} to the given {@link Logger}, if the
+	 * {@link Level} is loggable by it.
+	 *
+	 * @param logger The {@link Logger} to log to
+	 * @param level The {@link Level} to log at
+	 * @param message The message to be logged
+	 * @param t The {@link Throwable} to be logged (can be null)
+	 */
+	public void publish(Logger logger, Level level, String message, Throwable t){
+		if(!logger.isLoggable(level)){
+			return;
+		}
+		LogRecord record = new LogRecord(level, message);
+		record.setLoggerName(logger.getName());
+		record.setResourceBundle(logger.getResourceBundle());
+		record.setResourceBundleName(logger.getResourceBundleName());
+		record.setThrown(t);
+		// Setting the source class stops the record from walking the stack to find it on the background thread
+		record.setSourceClassName(null);
+		publish(logger, record);
+	}
+	
+	/**
+	 * Publishes the given record to the given {@link Logger}.
+	 *
+	 * @param logger The {@link Logger} to log to
+	 * @param record The record to be logged
+	 */
+	public void publish(Logger logger, LogRecord record){
+		publishing.incrementAndGet();
+		try{
+			if(closed){
+				logger.log(record);
+				return;
+			}
+			
+			long sequence;
+			while((sequence = claim()) == -1){
+				if(overflowPolicy == OverflowPolicy.DROP ||
+						(overflowPolicy == OverflowPolicy.DROP_LOW_LEVELS &&
+								record.getLevel().intValue() < Level.WARNING.intValue())){
+					dropped.increment();
+					return;
+				}
+				if(!thread.isAlive()){
+					// The background thread died, so the buffer will never have room again
+					logger.log(record);
+					return;
+				}
+				LockSupport.parkNanos(BLOCKED_WAIT_NANOS);
+			}
+			buffer.set((int) sequence & mask, new Entry(logger, record));
+			if(waiting){
+				LockSupport.unpark(thread);
+			}
+		}finally{
+			publishing.decrementAndGet();
+		}
+	}
+	
+	/**
+	 * Waits until all the records published before this was called have been passed on to their
+	 * {@link Logger Loggers}.
+	 */
+	public void flush(){
+		long target = tail.get();
+		while(head < target && thread.isAlive()){
+			LockSupport.unpark(thread);
+			LockSupport.parkNanos(BLOCKED_WAIT_NANOS);
+		}
+	}
+	
+	/**
+	 * Passes on all the remaining records and stops the background thread. Records published after this are
+	 * logged directly on the logging thread. If interrupted while waiting for the background thread to stop, this
+	 * returns early with the interrupt flag set, and the background thread finishes passing on the records by
+	 * itself.
+	 */
+	@Override
+	public void close(){
+		closed = true;
+		// Let any records already being put in the buffer finish, so they're passed on before stopping
+		while(publishing.get() != 0){
+			Thread.onSpinWait();
+		}
+		LockSupport.unpark(thread);
+		try{
+			thread.join();
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	/**
+	 * Claims the next slot of the buffer, if there's room.
+	 *
+	 * @return The sequence number of the claimed slot, or -1 if the buffer is full
+	 */
+	private long claim(){
+		while(true){
+			long sequence = tail.get();
+			if(sequence - head >= buffer.length()){
+				return -1;
+			}
+			if(tail.compareAndSet(sequence, sequence + 1)){
+				return sequence;
+			}
+		}
+	}
+	
+	/**
+	 * Runs the background thread, passing the records on in order until this publisher is closed and the buffer
+	 * is empty.
+	 */
+	private void run(){
+		while(true){
+			int count = drain();
+			if(count == 0){
+				if(closed && publishing.get() == 0 && head == tail.get()){
+					return;
+				}
+				waiting = true;
+				// Check again after saying we're waiting, so a record published just before isn't missed
+				if(buffer.get((int) head & mask) == null && !closed){
+					LockSupport.parkNanos(this, MAX_WAIT_NANOS);
+				}
+				waiting = false;
+			}
+		}
+	}
+	
+	/**
+	 * Takes a batch of records out of the buffer and passes them on to their {@link Logger Loggers}.
+	 *
+	 * @return The number of records passed on
+	 */
+	private int drain(){
+		int count = 0;
+		long next = head;
+		while(count < BATCH_SIZE){
+			int slot = (int) next & mask;
+			Entry entry = buffer.get(slot);
+			if(entry == null){
+				// Either the buffer is empty, or the next slot was claimed but its record isn't in it yet
+				break;
+			}
+			try{
+				entry.logger.log(entry.record);
+			}catch(RuntimeException e){
+				// A failing handler shouldn't stop the other records from being logged
+				thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+			}
+			buffer.set(slot, null);
+			head = ++next;
+			count++;
+		}
+		return count;
+	}
+}
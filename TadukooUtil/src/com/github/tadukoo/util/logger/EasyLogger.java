@@ -1,17 +1,35 @@
 package com.github.tadukoo.util.logger;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
 /**
- * EasyLogger is a wrapper around {@link Logger} that provides methods to simplify logging operations
+ * EasyLogger is a wrapper around {@link Logger} that provides methods to simplify logging operations.
+ * <br><br>
+ * By default, messages are logged directly to the {@link Logger}, on the calling thread. If an
+ * {@link AsyncLogPublisher} is given, messages are instead handed off to it, and passed on to the {@link Logger}
+ * on its background thread, so the calling thread doesn't wait on the {@link Logger Logger's} handlers.
+ * <br><br>
+ * Each level also accepts a {@link Supplier} of the message, or a template with arguments (e.g.
+ * logDebugFine("Loaded {} items in {}ms", count, time)). These check if the level is loggable first, and only
+ * build the message if it will be logged, so leaving debug logging in costs almost nothing when it's off. Note
+ * that a template with only a {@link Throwable} as its argument calls the (String, Throwable) version instead,
+ * which logs the template as-is.
+ * <br><br>
+ * Calling a level's method without arguments (e.g. {@link #logInfo()}) starts a {@link StructuredLogEntry}, which
+ * logs key/value fields as a single line of JSON.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2
+ * @version Beta v.0.5
+ * @since Alpha v.0.2
  */
 public class EasyLogger{
 	/** The {@link Logger} wrapped in this EasyLogger */
 	private final Logger logger;
+	/** The {@link AsyncLogPublisher} to hand messages off to (null if logging directly) */
+	private final AsyncLogPublisher publisher;
 	
 	/**
 	 * Wraps the given {@link Logger} as an EasyLogger.
@@ -19,7 +37,20 @@ public class EasyLogger{
 	 * @param logger The {@link Logger} to be wrapped
 	 */
 	public EasyLogger(Logger logger){
+		this(logger, null);
+	}
+	
+	/**
+	 * Wraps the given {@link Logger} as an EasyLogger that hands its messages off to the given
+	 * {@link AsyncLogPublisher}, to be logged on its background thread.
+	 *
+	 * @param logger The {@link Logger} to be wrapped
+	 * @param publisher The {@link AsyncLogPublisher} to hand messages off to (if null, messages are logged
+	 * directly)
+	 */
+	public EasyLogger(Logger logger, AsyncLogPublisher publisher){
 		this.logger = logger;
+		this.publisher = publisher;
 	}
 	
 	/**
@@ -29,13 +60,27 @@ public class EasyLogger{
 		return logger;
 	}
 	
+	/**
+	 * @return The {@link AsyncLogPublisher} messages are handed off to, or null if they're logged directly
+	 */
+	public AsyncLogPublisher getPublisher(){
+		return publisher;
+	}
+	
+	/**
+	 * @return true if messages are handed off to an {@link AsyncLogPublisher}, false if they're logged directly
+	 */
+	public boolean isAsync(){
+		return publisher != null;
+	}
+	
 	/**
 	 * Logs the given {@link Level#INFO info} message to the {@link Logger}
 	 *
 	 * @param info The message to be logged
 	 */
 	public void logInfo(String info){
-		logger.log(Level.INFO, info);
+		log(Level.INFO, info);
 	}
 	
 	/**
@@ -45,7 +90,7 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logInfo(Throwable t){
-		logger.log(Level.INFO, t.getMessage(), t);
+		log(Level.INFO, t.getMessage(), t);
 	}
 	
 	/**
@@ -55,7 +100,52 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logInfo(String info, Throwable t){
-		logger.log(Level.INFO, info, t);
+		log(Level.INFO, info, t);
+	}
+	
+	/**
+	 * Logs the {@link Level#INFO info} message from the given {@link Supplier} to the {@link Logger}. The
+	 * {@link Supplier} is only called if {@link Level#INFO} is loggable, so the message isn't built when it won't be
+	 * logged.
+	 *
+	 * @param info The {@link Supplier} of the message to be logged
+	 */
+	public void logInfo(Supplier<String> info){
+		log(Level.INFO, info);
+	}
+	
+	/**
+	 * Logs the {@link Level#INFO info} message from the given {@link Supplier} with the given {@link Throwable} to the
+	 * {@link Logger}. The {@link Supplier} is only called if {@link Level#INFO} is loggable.
+	 *
+	 * @param info The {@link Supplier} of the message to be logged
+	 * @param t The {@link Throwable} to be logged
+	 */
+	public void logInfo(Supplier<String> info, Throwable t){
+		log(Level.INFO, info, t);
+	}
+	
+	/**
+	 * Logs the {@link Level#INFO info} message built from the given template to the {@link Logger}, replacing each {}
+	 * in the template with the next argument. The message is only built if {@link Level#INFO} is loggable. If the last
+	 * argument is a {@link Throwable} that isn't used in the template, it's logged as the {@link Throwable}.
+	 *
+	 * @param template The template of the message to be logged
+	 * @param args The arguments to put in the template
+	 */
+	public void logInfo(String template, Object ... args){
+		logTemplate(Level.INFO, template, args);
+	}
+	
+	/**
+	 * Starts a structured {@link Level#INFO info} entry, to add fields to and then log as a line of JSON (e.g.
+	 * logInfo().with("userId", id).log("Message")). If {@link Level#INFO} isn't loggable, an entry that ignores
+	 * everything is returned, so the fields aren't built.
+	 *
+	 * @return The started {@link StructuredLogEntry}
+	 */
+	public StructuredLogEntry logInfo(){
+		return structured(Level.INFO);
 	}
 	
 	/**
@@ -64,7 +154,7 @@ public class EasyLogger{
 	 * @param warning The message to be logged
 	 */
 	public void logWarning(String warning){
-		logger.log(Level.WARNING, warning);
+		log(Level.WARNING, warning);
 	}
 	
 	/**
@@ -74,7 +164,7 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logWarning(Throwable t){
-		logger.log(Level.WARNING, t.getMessage(), t);
+		log(Level.WARNING, t.getMessage(), t);
 	}
 	
 	/**
@@ -84,7 +174,53 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logWarning(String warning, Throwable t){
-		logger.log(Level.WARNING, warning, t);
+		log(Level.WARNING, warning, t);
+	}
+	
+	/**
+	 * Logs the {@link Level#WARNING warning} message from the given {@link Supplier} to the {@link Logger}. The
+	 * {@link Supplier} is only called if {@link Level#WARNING} is loggable, so the message isn't built when it won't be
+	 * logged.
+	 *
+	 * @param warning The {@link Supplier} of the message to be logged
+	 */
+	public void logWarning(Supplier<String> warning){
+		log(Level.WARNING, warning);
+	}
+	
+	/**
+	 * Logs the {@link Level#WARNING warning} message from the given {@link Supplier} with the given {@link Throwable}
+	 * to the {@link Logger}. The {@link Supplier} is only called if {@link Level#WARNING} is loggable.
+	 *
+	 * @param warning The {@link Supplier} of the message to be logged
+	 * @param t The {@link Throwable} to be logged
+	 */
+	public void logWarning(Supplier<String> warning, Throwable t){
+		log(Level.WARNING, warning, t);
+	}
+	
+	/**
+	 * Logs the {@link Level#WARNING warning} message built from the given template to the {@link Logger}, replacing
+	 * each {} in the template with the next argument. The message is only built if {@link Level#WARNING} is loggable.
+	 * If the last argument is a {@link Throwable} that isn't used in the template, it's logged as the
+	 * {@link Throwable}.
+	 *
+	 * @param template The template of the message to be logged
+	 * @param args The arguments to put in the template
+	 */
+	public void logWarning(String template, Object ... args){
+		logTemplate(Level.WARNING, template, args);
+	}
+	
+	/**
+	 * Starts a structured {@link Level#WARNING warning} entry, to add fields to and then log as a line of JSON (e.g.
+	 * logWarning().with("userId", id).log("Message")). If {@link Level#WARNING} isn't loggable, an entry that ignores
+	 * everything is returned, so the fields aren't built.
+	 *
+	 * @return The started {@link StructuredLogEntry}
+	 */
+	public StructuredLogEntry logWarning(){
+		return structured(Level.WARNING);
 	}
 	
 	/**
@@ -93,7 +229,7 @@ public class EasyLogger{
 	 * @param error The message to be logged
 	 */
 	public void logError(String error){
-		logger.log(Level.SEVERE, error);
+		log(Level.SEVERE, error);
 	}
 	
 	/**
@@ -103,7 +239,7 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logError(Throwable t){
-		logger.log(Level.SEVERE, t.getMessage(), t);
+		log(Level.SEVERE, t.getMessage(), t);
 	}
 	
 	/**
@@ -113,7 +249,52 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logError(String error, Throwable t){
-		logger.log(Level.SEVERE, error, t);
+		log(Level.SEVERE, error, t);
+	}
+	
+	/**
+	 * Logs the {@link Level#SEVERE error} message from the given {@link Supplier} to the {@link Logger}. The
+	 * {@link Supplier} is only called if {@link Level#SEVERE} is loggable, so the message isn't built when it won't be
+	 * logged.
+	 *
+	 * @param error The {@link Supplier} of the message to be logged
+	 */
+	public void logError(Supplier<String> error){
+		log(Level.SEVERE, error);
+	}
+	
+	/**
+	 * Logs the {@link Level#SEVERE error} message from the given {@link Supplier} with the given {@link Throwable} to
+	 * the {@link Logger}. The {@link Supplier} is only called if {@link Level#SEVERE} is loggable.
+	 *
+	 * @param error The {@link Supplier} of the message to be logged
+	 * @param t The {@link Throwable} to be logged
+	 */
+	public void logError(Supplier<String> error, Throwable t){
+		log(Level.SEVERE, error, t);
+	}
+	
+	/**
+	 * Logs the {@link Level#SEVERE error} message built from the given template to the {@link Logger}, replacing each
+	 * {} in the template with the next argument. The message is only built if {@link Level#SEVERE} is loggable. If the
+	 * last argument is a {@link Throwable} that isn't used in the template, it's logged as the {@link Throwable}.
+	 *
+	 * @param template The template of the message to be logged
+	 * @param args The arguments to put in the template
+	 */
+	public void logError(String template, Object ... args){
+		logTemplate(Level.SEVERE, template, args);
+	}
+	
+	/**
+	 * Starts a structured {@link Level#SEVERE error} entry, to add fields to and then log as a line of JSON (e.g.
+	 * logError().with("userId", id).log("Message")). If {@link Level#SEVERE} isn't loggable, an entry that ignores
+	 * everything is returned, so the fields aren't built.
+	 *
+	 * @return The started {@link StructuredLogEntry}
+	 */
+	public StructuredLogEntry logError(){
+		return structured(Level.SEVERE);
 	}
 	
 	/**
@@ -122,7 +303,7 @@ public class EasyLogger{
 	 * @param config The message to be logged
 	 */
 	public void logConfig(String config){
-		logger.log(Level.CONFIG, config);
+		log(Level.CONFIG, config);
 	}
 	
 	/**
@@ -132,7 +313,7 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logConfig(Throwable t){
-		logger.log(Level.CONFIG, t.getMessage(), t);
+		log(Level.CONFIG, t.getMessage(), t);
 	}
 	
 	/**
@@ -142,7 +323,52 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logConfig(String config, Throwable t){
-		logger.log(Level.CONFIG, config, t);
+		log(Level.CONFIG, config, t);
+	}
+	
+	/**
+	 * Logs the {@link Level#CONFIG config} message from the given {@link Supplier} to the {@link Logger}. The
+	 * {@link Supplier} is only called if {@link Level#CONFIG} is loggable, so the message isn't built when it won't be
+	 * logged.
+	 *
+	 * @param config The {@link Supplier} of the message to be logged
+	 */
+	public void logConfig(Supplier<String> config){
+		log(Level.CONFIG, config);
+	}
+	
+	/**
+	 * Logs the {@link Level#CONFIG config} message from the given {@link Supplier} with the given {@link Throwable} to
+	 * the {@link Logger}. The {@link Supplier} is only called if {@link Level#CONFIG} is loggable.
+	 *
+	 * @param config The {@link Supplier} of the message to be logged
+	 * @param t The {@link Throwable} to be logged
+	 */
+	public void logConfig(Supplier<String> config, Throwable t){
+		log(Level.CONFIG, config, t);
+	}
+	
+	/**
+	 * Logs the {@link Level#CONFIG config} message built from the given template to the {@link Logger}, replacing each
+	 * {} in the template with the next argument. The message is only built if {@link Level#CONFIG} is loggable. If the
+	 * last argument is a {@link Throwable} that isn't used in the template, it's logged as the {@link Throwable}.
+	 *
+	 * @param template The template of the message to be logged
+	 * @param args The arguments to put in the template
+	 */
+	public void logConfig(String template, Object ... args){
+		logTemplate(Level.CONFIG, template, args);
+	}
+	
+	/**
+	 * Starts a structured {@link Level#CONFIG config} entry, to add fields to and then log as a line of JSON (e.g.
+	 * logConfig().with("userId", id).log("Message")). If {@link Level#CONFIG} isn't loggable, an entry that ignores
+	 * everything is returned, so the fields aren't built.
+	 *
+	 * @return The started {@link StructuredLogEntry}
+	 */
+	public StructuredLogEntry logConfig(){
+		return structured(Level.CONFIG);
 	}
 	
 	/**
@@ -151,7 +377,7 @@ public class EasyLogger{
 	 * @param debug The message to be logged
 	 */
 	public void logDebugFine(String debug){
-		logger.log(Level.FINE, debug);
+		log(Level.FINE, debug);
 	}
 	
 	/**
@@ -161,7 +387,7 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logDebugFine(Throwable t){
-		logger.log(Level.FINE, t.getMessage(), t);
+		log(Level.FINE, t.getMessage(), t);
 	}
 	
 	/**
@@ -171,7 +397,52 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logDebugFine(String debug, Throwable t){
-		logger.log(Level.FINE, debug, t);
+		log(Level.FINE, debug, t);
+	}
+	
+	/**
+	 * Logs the debug message at {@link Level#FINE} from the given {@link Supplier} to the {@link Logger}. The
+	 * {@link Supplier} is only called if {@link Level#FINE} is loggable, so the message isn't built when it won't be
+	 * logged.
+	 *
+	 * @param debug The {@link Supplier} of the message to be logged
+	 */
+	public void logDebugFine(Supplier<String> debug){
+		log(Level.FINE, debug);
+	}
+	
+	/**
+	 * Logs the debug message at {@link Level#FINE} from the given {@link Supplier} with the given {@link Throwable} to
+	 * the {@link Logger}. The {@link Supplier} is only called if {@link Level#FINE} is loggable.
+	 *
+	 * @param debug The {@link Supplier} of the message to be logged
+	 * @param t The {@link Throwable} to be logged
+	 */
+	public void logDebugFine(Supplier<String> debug, Throwable t){
+		log(Level.FINE, debug, t);
+	}
+	
+	/**
+	 * Logs the debug message at {@link Level#FINE} built from the given template to the {@link Logger}, replacing each
+	 * {} in the template with the next argument. The message is only built if {@link Level#FINE} is loggable. If the
+	 * last argument is a {@link Throwable} that isn't used in the template, it's logged as the {@link Throwable}.
+	 *
+	 * @param template The template of the message to be logged
+	 * @param args The arguments to put in the template
+	 */
+	public void logDebugFine(String template, Object ... args){
+		logTemplate(Level.FINE, template, args);
+	}
+	
+	/**
+	 * Starts a structured debug entry at {@link Level#FINE}, to add fields to and then log as a line of JSON (e.g.
+	 * logDebugFine().with("userId", id).log("Message")). If {@link Level#FINE} isn't loggable, an entry that ignores
+	 * everything is returned, so the fields aren't built.
+	 *
+	 * @return The started {@link StructuredLogEntry}
+	 */
+	public StructuredLogEntry logDebugFine(){
+		return structured(Level.FINE);
 	}
 	
 	/**
@@ -180,7 +451,7 @@ public class EasyLogger{
 	 * @param debug The message to be logged
 	 */
 	public void logDebugFiner(String debug){
-		logger.log(Level.FINER, debug);
+		log(Level.FINER, debug);
 	}
 	
 	/**
@@ -190,7 +461,7 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logDebugFiner(Throwable t){
-		logger.log(Level.FINER, t.getMessage(), t);
+		log(Level.FINER, t.getMessage(), t);
 	}
 	
 	/**
@@ -200,7 +471,52 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logDebugFiner(String debug, Throwable t){
-		logger.log(Level.FINER, debug, t);
+		log(Level.FINER, debug, t);
+	}
+	
+	/**
+	 * Logs the debug message at {@link Level#FINER} from the given {@link Supplier} to the {@link Logger}. The
+	 * {@link Supplier} is only called if {@link Level#FINER} is loggable, so the message isn't built when it won't be
+	 * logged.
+	 *
+	 * @param debug The {@link Supplier} of the message to be logged
+	 */
+	public void logDebugFiner(Supplier<String> debug){
+		log(Level.FINER, debug);
+	}
+	
+	/**
+	 * Logs the debug message at {@link Level#FINER} from the given {@link Supplier} with the given {@link Throwable} to
+	 * the {@link Logger}. The {@link Supplier} is only called if {@link Level#FINER} is loggable.
+	 *
+	 * @param debug The {@link Supplier} of the message to be logged
+	 * @param t The {@link Throwable} to be logged
+	 */
+	public void logDebugFiner(Supplier<String> debug, Throwable t){
+		log(Level.FINER, debug, t);
+	}
+	
+	/**
+	 * Logs the debug message at {@link Level#FINER} built from the given template to the {@link Logger}, replacing each
+	 * {} in the template with the next argument. The message is only built if {@link Level#FINER} is loggable. If the
+	 * last argument is a {@link Throwable} that isn't used in the template, it's logged as the {@link Throwable}.
+	 *
+	 * @param template The template of the message to be logged
+	 * @param args The arguments to put in the template
+	 */
+	public void logDebugFiner(String template, Object ... args){
+		logTemplate(Level.FINER, template, args);
+	}
+	
+	/**
+	 * Starts a structured debug entry at {@link Level#FINER}, to add fields to and then log as a line of JSON (e.g.
+	 * logDebugFiner().with("userId", id).log("Message")). If {@link Level#FINER} isn't loggable, an entry that ignores
+	 * everything is returned, so the fields aren't built.
+	 *
+	 * @return The started {@link StructuredLogEntry}
+	 */
+	public StructuredLogEntry logDebugFiner(){
+		return structured(Level.FINER);
 	}
 	
 	/**
@@ -209,7 +525,7 @@ public class EasyLogger{
 	 * @param debug The message to be logged
 	 */
 	public void logDebugFinest(String debug){
-		logger.log(Level.FINEST, debug);
+		log(Level.FINEST, debug);
 	}
 	
 	/**
@@ -219,7 +535,7 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logDebugFinest(Throwable t){
-		logger.log(Level.FINEST, t.getMessage(), t);
+		log(Level.FINEST, t.getMessage(), t);
 	}
 	
 	/**
@@ -229,6 +545,199 @@ public class EasyLogger{
 	 * @param t The {@link Throwable} to be logged
 	 */
 	public void logDebugFinest(String debug, Throwable t){
-		logger.log(Level.FINEST, debug, t);
+		log(Level.FINEST, debug, t);
+	}
+	
+	/**
+	 * Logs the debug message at {@link Level#FINEST} from the given {@link Supplier} to the {@link Logger}. The
+	 * {@link Supplier} is only called if {@link Level#FINEST} is loggable, so the message isn't built when it won't be
+	 * logged.
+	 *
+	 * @param debug The {@link Supplier} of the message to be logged
+	 */
+	public void logDebugFinest(Supplier<String> debug){
+		log(Level.FINEST, debug);
+	}
+	
+	/**
+	 * Logs the debug message at {@link Level#FINEST} from the given {@link Supplier} with the given {@link Throwable}
+	 * to the {@link Logger}. The {@link Supplier} is only called if {@link Level#FINEST} is loggable.
+	 *
+	 * @param debug The {@link Supplier} of the message to be logged
+	 * @param t The {@link Throwable} to be logged
+	 */
+	public void logDebugFinest(Supplier<String> debug, Throwable t){
+		log(Level.FINEST, debug, t);
+	}
+	
+	/**
+	 * Logs the debug message at {@link Level#FINEST} built from the given template to the {@link Logger}, replacing
+	 * each {} in the template with the next argument. The message is only built if {@link Level#FINEST} is loggable. If
+	 * the last argument is a {@link Throwable} that isn't used in the template, it's logged as the {@link Throwable}.
+	 *
+	 * @param template The template of the message to be logged
+	 * @param args The arguments to put in the template
+	 */
+	public void logDebugFinest(String template, Object ... args){
+		logTemplate(Level.FINEST, template, args);
+	}
+	
+	/**
+	 * Starts a structured debug entry at {@link Level#FINEST}, to add fields to and then log as a line of JSON (e.g.
+	 * logDebugFinest().with("userId", id).log("Message")). If {@link Level#FINEST} isn't loggable, an entry that
+	 * ignores everything is returned, so the fields aren't built.
+	 *
+	 * @return The started {@link StructuredLogEntry}
+	 */
+	public StructuredLogEntry logDebugFinest(){
+		return structured(Level.FINEST);
+	}
+	
+	/**
+	 * Logs the given record, either directly to the {@link Logger} or through the {@link AsyncLogPublisher}.
+	 *
+	 * @param record The record to be logged
+	 */
+	void log(LogRecord record){
+		if(publisher != null){
+			publisher.publish(logger, record);
+		}else{
+			logger.log(record);
+		}
+	}
+	
+	/**
+	 * Logs the given message, either directly to the {@link Logger} or through the {@link AsyncLogPublisher}.
+	 *
+	 * @param level The {@link Level} to log at
+	 * @param message The message to be logged
+	 */
+	private void log(Level level, String message){
+		if(publisher != null){
+			publisher.publish(logger, level, message, null);
+		}else{
+			logger.log(level, message);
+		}
+	}
+	
+	/**
+	 * Logs the given message and {@link Throwable}, either directly to the {@link Logger} or through the
+	 * {@link AsyncLogPublisher}.
+	 *
+	 * @param level The {@link Level} to log at
+	 * @param message The message to be logged
+	 * @param t The {@link Throwable} to be logged
+	 */
+	private void log(Level level, String message, Throwable t){
+		if(publisher != null){
+			publisher.publish(logger, level, message, t);
+		}else{
+			logger.log(level, message, t);
+		}
+	}
+	
+	/**
+	 * Logs the message from the given {@link Supplier}, if the {@link Level} is loggable.
+	 *
+	 * @param level The {@link Level} to log at
+	 * @param message The {@link Supplier} of the message to be logged
+	 */
+	private void log(Level level, Supplier<String> message){
+		if(logger.isLoggable(level)){
+			log(level, message.get());
+		}
+	}
+	
+	/**
+	 * Logs the message from the given {@link Supplier} and the given {@link Throwable}, if the {@link Level} is
+	 * loggable.
+	 *
+	 * @param level The {@link Level} to log at
+	 * @param message The {@link Supplier} of the message to be logged
+	 * @param t The {@link Throwable} to be logged
+	 */
+	private void log(Level level, Supplier<String> message, Throwable t){
+		if(logger.isLoggable(level)){
+			log(level, message.get(), t);
+		}
+	}
+	
+	/**
+	 * Starts a {@link StructuredLogEntry} at the given {@link Level}, if it's loggable.
+	 *
+	 * @param level The {@link Level} to log at
+	 * @return The started entry, or an entry that ignores everything if the {@link Level} isn't loggable
+	 */
+	private StructuredLogEntry structured(Level level){
+		return logger.isLoggable(level)?StructuredLogEntry.start(this, level):StructuredLogEntry.DISABLED;
+	}
+	
+	/**
+	 * Logs the message built from the given template and arguments, if the {@link Level} is loggable. If the last
+	 * argument is a {@link Throwable} that isn't used in the template, it's logged as the {@link Throwable}.
+	 *
+	 * @param level The {@link Level} to log at
+	 * @param template The template of the message to be logged
+	 * @param args The arguments to put in the template
+	 */
+	private void logTemplate(Level level, String template, Object[] args){
+		if(!logger.isLoggable(level)){
+			return;
+		}
+		int argCount = args == null?0:args.length;
+		if(argCount == 0 || template == null){
+			log(level, template);
+			return;
+		}
+		
+		// Build the message in one pass, then check whether the last argument was used
+		StringBuilder message = new StringBuilder(template.length() + 16 * argCount);
+		int used = appendTemplate(message, template, args, argCount);
+		if(used < argCount && args[argCount - 1] instanceof Throwable){
+			log(level, message.toString(), (Throwable) args[argCount - 1]);
+		}else{
+			log(level, message.toString());
+		}
+	}
+	
+	/**
+	 * Builds a message by replacing each {} in the given template with the next argument, in a single pass
+	 * (without the parsing done by {@link java.text.MessageFormat}). If there are more {}s than arguments, the
+	 * extra {}s are left as they are, and extra arguments are ignored.
+	 *
+	 * @param template The template of the message
+	 * @param args The arguments to put in the template
+	 * @param argCount The number of arguments to use
+	 * @return The built message
+	 */
+	static String formatTemplate(String template, Object[] args, int argCount){
+		if(template == null || argCount == 0){
+			return template;
+		}
+		StringBuilder message = new StringBuilder(template.length() + 16 * argCount);
+		appendTemplate(message, template, args, argCount);
+		return message.toString();
+	}
+	
+	/**
+	 * Appends the message built from the given template to the given StringBuilder, replacing each {} in the
+	 * template with the next argument.
+	 *
+	 * @param message The StringBuilder to append the message to
+	 * @param template The template of the message
+	 * @param args The arguments to put in the template
+	 * @param argCount The number of arguments to use
+	 * @return The number of arguments that were used in the template
+	 */
+	private static int appendTemplate(StringBuilder message, String template, Object[] args, int argCount){
+		int start = 0;
+		int arg = 0;
+		int placeholder;
+		while(arg < argCount && (placeholder = template.indexOf("{}", start)) != -1){
+			message.append(template, start, placeholder).append(args[arg++]);
+			start = placeholder + 2;
+		}
+		message.append(template, start, template.length());
+		return arg;
 	}
 }
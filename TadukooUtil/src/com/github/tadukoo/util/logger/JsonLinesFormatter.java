@@ -0,0 +1,44 @@
+package com.github.tadukoo.util.logger;
+
+import com.github.tadukoo.util.ExceptionUtil;
+
+import java.time.format.DateTimeFormatter;
+import java.util.logging.Formatter;
+import java.util.logging.LogRecord;
+
+/**
+ * JSON Lines Formatter is a {@link Formatter} that writes each log record as a single line of JSON, to go with
+ * {@link StructuredLogEntry}. Records from a {@link StructuredLogEntry} are already JSON, so they're written
+ * as-is, without being formatted again. Any other record is written in the same shape, with the "time", "level",
+ * "logger", and "message" fields (and "thrown" if it has a {@link Throwable}), so a log file can mix both.
+ * <br><br>
+ * Unlike {@link java.util.logging.SimpleFormatter}, the message is used as-is, without filling in its parameters
+ * or looking it up in a resource bundle.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public class JsonLinesFormatter extends Formatter{
+	
+	/** {@inheritDoc} */
+	@Override
+	public String format(LogRecord record){
+		if(record instanceof StructuredLogEntry.StructuredLogRecord){
+			return record.getMessage() + System.lineSeparator();
+		}
+		
+		StringBuilder json = new StringBuilder(128);
+		json.append("{\"time\":\"");
+		DateTimeFormatter.ISO_INSTANT.formatTo(record.getInstant(), json);
+		json.append("\",\"level\":\"").append(record.getLevel().getName()).append("\",\"logger\":");
+		StructuredLogEntry.appendValue(json, record.getLoggerName());
+		json.append(",\"message\":");
+		StructuredLogEntry.appendValue(json, record.getMessage());
+		if(record.getThrown() != null){
+			json.append(",\"thrown\":");
+			StructuredLogEntry.appendValue(json, ExceptionUtil.getStackTraceAsString(record.getThrown()));
+		}
+		return json.append('}').append(System.lineSeparator()).toString();
+	}
+}
@@ -0,0 +1,343 @@
+package com.github.tadukoo.util.logger;
+
+import com.github.tadukoo.util.ExceptionUtil;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Structured Log Entry builds a log entry with key/value fields, which is logged as a single line of JSON
+ * (e.g. {"time":"...","level":"INFO","logger":"app","userId":42,"latencyMs":12.5,"message":"Request done"}),
+ * so it can be sent to a log indexer without being parsed out of a message. Entries are started by the
+ * no-argument methods of {@link EasyLogger} (e.g. {@link EasyLogger#logInfo()}):
+ * <br><br>
+ * logger.logInfo().with("userId", id).with("latencyMs", latency).log("Request done");
+ * <br><br>
+ * The JSON is written into a buffer as each field is added, and each thread reuses its own entry (and buffer),
+ * so the fields don't need a map or a String per value. Logging an entry still creates a few objects (the
+ * timestamp, the final line, and its {@link LogRecord}), and fields given as other Objects are converted with
+ * their {@link Object#toString()}. If the level isn't loggable, a shared entry that ignores everything is
+ * returned, so nothing is built at all.
+ * <br><br>
+ * An entry must be logged (with {@link #log(String)} or {@link #log()}) on the thread that started it, and
+ * can't be used after it's logged. To write the lines without any other formatting, use a
+ * {@link JsonLinesFormatter} on the {@link java.util.logging.Handler Handler}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.5
+ * @since Beta v.0.5
+ */
+public final class StructuredLogEntry{
+	
+	/**
+	 * A {@link LogRecord} whose message is an already-built line of JSON, so that {@link JsonLinesFormatter}
+	 * can write it as-is.
+	 */
+	static final class StructuredLogRecord extends LogRecord{
+		/** The version of this class, for serialization */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * Creates a new StructuredLogRecord.
+		 *
+		 * @param level The {@link Level} of the record
+		 * @param json The line of JSON for the record
+		 */
+		StructuredLogRecord(Level level, String json){
+			super(level, json);
+		}
+	}
+	
+	/** The initial size of each thread's buffer */
+	private static final int INITIAL_CAPACITY = 256;
+	/** The largest buffer to keep for reuse, so one huge entry doesn't hold onto memory forever */
+	private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+	/** Hex digits, for escaping control characters */
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+	/** The entry for each thread to reuse */
+	private static final ThreadLocal<StructuredLogEntry> ENTRIES = ThreadLocal.withInitial(StructuredLogEntry::new);
+	/** The shared entry that ignores everything, for levels that aren't loggable */
+	static final StructuredLogEntry DISABLED = new StructuredLogEntry();
+	
+	/** The JSON being built */
+	private final StringBuilder json = new StringBuilder(INITIAL_CAPACITY);
+	/** The {@link EasyLogger} to log the entry to (null if the entry isn't in use) */
+	private EasyLogger logger;
+	/** The {@link Level} to log the entry at */
+	private Level level;
+	/** When the entry was started */
+	private Instant instant;
+	/** The {@link Throwable} to be logged with the entry */
+	private Throwable thrown;
+	
+	/** Not allowed to create a StructuredLogEntry outside of {@link #start(EasyLogger, Level)} */
+	private StructuredLogEntry(){ }
+	
+	/**
+	 * Starts a new entry for the given {@link EasyLogger}, reusing this thread's entry if it isn't already in use.
+	 *
+	 * @param logger The {@link EasyLogger} to log the entry to
+	 * @param level The {@link Level} to log the entry at
+	 * @return The started entry
+	 */
+	static StructuredLogEntry start(EasyLogger logger, Level level){
+		StructuredLogEntry entry = ENTRIES.get();
+		if(entry.logger != null){
+			// This thread is in the middle of building another entry (or one was never logged), so use a new one,
+			// and reuse it from now on so an entry that's never logged doesn't stop reuse on this thread for good
+			entry = new StructuredLogEntry();
+			ENTRIES.set(entry);
+		}
+		entry.logger = logger;
+		entry.level = level;
+		entry.instant = Instant.now();
+		entry.json.append("{\"time\":\"");
+		DateTimeFormatter.ISO_INSTANT.formatTo(entry.instant, entry.json);
+		entry.json.append("\",\"level\":\"").append(level.getName()).append("\",\"logger\":");
+		appendValue(entry.json, logger.getLogger().getName());
+		return entry;
+	}
+	
+	/**
+	 * Adds the given field to this entry.
+	 *
+	 * @param key The name of the field
+	 * @param value The value of the field
+	 * @return This entry, to continue building it
+	 */
+	public StructuredLogEntry with(String key, String value){
+		if(logger != null){
+			appendKey(key);
+			appendValue(json, value);
+		}
+		return this;
+	}
+	
+	/**
+	 * Adds the given field to this entry as a string (without this, a char would be widened and written as its
+	 * number).
+	 *
+	 * @param key The name of the field
+	 * @param value The value of the field
+	 * @return This entry, to continue building it
+	 */
+	public StructuredLogEntry with(String key, char value){
+		if(logger != null){
+			appendKey(key);
+			appendString(json, String.valueOf(value));
+		}
+		return this;
+	}
+	
+	/**
+	 * Adds the given field to this entry.
+	 *
+	 * @param key The name of the field
+	 * @param value The value of the field
+	 * @return This entry, to continue building it
+	 */
+	public StructuredLogEntry with(String key, long value){
+		if(logger != null){
+			appendKey(key);
+			json.append(value);
+		}
+		return this;
+	}
+	
+	/**
+	 * Adds the given field to this entry. As JSON has no way to write NaN or infinite numbers, those are
+	 * written as strings.
+	 *
+	 * @param key The name of the field
+	 * @param value The value of the field
+	 * @return This entry, to continue building it
+	 */
+	public StructuredLogEntry with(String key, double value){
+		if(logger != null){
+			appendKey(key);
+			appendDouble(json, value);
+		}
+		return this;
+	}
+	
+	/**
+	 * Adds the given field to this entry.
+	 *
+	 * @param key The name of the field
+	 * @param value The value of the field
+	 * @return This entry, to continue building it
+	 */
+	public StructuredLogEntry with(String key, boolean value){
+		if(logger != null){
+			appendKey(key);
+			json.append(value);
+		}
+		return this;
+	}
+	
+	/**
+	 * Adds the given field to this entry. Numbers and Booleans are written as JSON numbers and booleans, null
+	 * is written as null, and anything else is written as a string of its {@link Object#toString()}.
+	 *
+	 * @param key The name of the field
+	 * @param value The value of the field
+	 * @return This entry, to continue building it
+	 */
+	public StructuredLogEntry with(String key, Object value){
+		if(logger != null){
+			appendKey(key);
+			appendValue(json, value);
+		}
+		return this;
+	}
+	
+	/**
+	 * Adds the given {@link Throwable} to this entry. Its stack trace is added as the "thrown" field, and it's
+	 * set as the {@link LogRecord LogRecord's} {@link Throwable}.
+	 *
+	 * @param t The {@link Throwable} to be logged
+	 * @return This entry, to continue building it
+	 */
+	public StructuredLogEntry withThrowable(Throwable t){
+		if(logger != null){
+			thrown = t;
+		}
+		return this;
+	}
+	
+	/**
+	 * Logs this entry with the given message.
+	 *
+	 * @param message The message to be logged
+	 */
+	public void log(String message){
+		if(logger == null){
+			return;
+		}
+		json.append(",\"message\":");
+		appendValue(json, message);
+		finish();
+	}
+	
+	/**
+	 * Logs this entry without a message.
+	 */
+	public void log(){
+		if(logger == null){
+			return;
+		}
+		finish();
+	}
+	
+	/**
+	 * Finishes the JSON, logs it, and resets this entry so it can be reused.
+	 */
+	private void finish(){
+		if(thrown != null){
+			json.append(",\"thrown\":");
+			appendValue(json, ExceptionUtil.getStackTraceAsString(thrown));
+		}
+		json.append('}');
+		
+		LogRecord record = new StructuredLogRecord(level, json.toString());
+		record.setInstant(instant);
+		record.setLoggerName(logger.getLogger().getName());
+		record.setThrown(thrown);
+		// Setting the source class stops the record from walking the stack to find it
+		record.setSourceClassName(null);
+		EasyLogger entryLogger = logger;
+		
+		// Reset before logging, so that anything logged by the handlers can reuse this entry
+		json.setLength(0);
+		if(json.capacity() > MAX_RETAINED_CAPACITY){
+			json.trimToSize();
+			json.ensureCapacity(INITIAL_CAPACITY);
+		}
+		logger = null;
+		level = null;
+		instant = null;
+		thrown = null;
+		
+		entryLogger.log(record);
+	}
+	
+	/**
+	 * Appends the given key, and the separators before it, to the JSON.
+	 *
+	 * @param key The key to be appended
+	 */
+	private void appendKey(String key){
+		json.append(',');
+		appendString(json, key);
+		json.append(':');
+	}
+	
+	/**
+	 * Appends the given value to the given JSON.
+	 *
+	 * @param json The JSON being built
+	 * @param value The value to be appended
+	 */
+	static void appendValue(StringBuilder json, Object value){
+		if(value == null){
+			json.append("null");
+		}else if(value instanceof Double || value instanceof Float){
+			appendDouble(json, ((Number) value).doubleValue());
+		}else if(value instanceof Long || value instanceof Integer || value instanceof Short ||
+				value instanceof Byte || value instanceof BigInteger || value instanceof BigDecimal ||
+				value instanceof Boolean){
+			json.append(value);
+		}else{
+			appendString(json, value.toString());
+		}
+	}
+	
+	/**
+	 * Appends the given double to the given JSON, as a string if it's NaN or infinite.
+	 *
+	 * @param json The JSON being built
+	 * @param value The value to be appended
+	 */
+	private static void appendDouble(StringBuilder json, double value){
+		if(Double.isFinite(value)){
+			json.append(value);
+		}else{
+			json.append('"').append(value).append('"');
+		}
+	}
+	
+	/**
+	 * Appends the given text to the given JSON as a string, escaping quotes, backslashes, and control characters.
+	 *
+	 * @param json The JSON being built
+	 * @param text The text to be appended
+	 */
+	static void appendString(StringBuilder json, CharSequence text){
+		json.append('"');
+		int length = text.length();
+		int start = 0;
+		for(int i = 0; i < length; i++){
+			char c = text.charAt(i);
+			if(c >= ' ' && c != '"' && c != '\\'){
+				continue;
+			}
+			
+			// Append the characters that didn't need escaping in one go
+			json.append(text, start, i);
+			start = i + 1;
+			switch(c){
+				case '"' -> json.append("\\\"");
+				case '\\' -> json.append("\\\\");
+				case '\n' -> json.append("\\n");
+				case '\r' -> json.append("\\r");
+				case '\t' -> json.append("\\t");
+				default -> json.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+			}
+		}
+		json.append(text, start, length).append('"');
+	}
+}
@@ -1,4 +1,8 @@
 /**
- * Contains {@link com.github.tadukoo.util.logger.EasyLogger EasyLogger}, which makes it easier to log information.
+ * Contains {@link com.github.tadukoo.util.logger.EasyLogger EasyLogger}, which makes it easier to log information,
+ * {@link com.github.tadukoo.util.logger.AsyncLogPublisher AsyncLogPublisher}, which moves logging off of the
+ * calling threads, and {@link com.github.tadukoo.util.logger.StructuredLogEntry StructuredLogEntry} and
+ * {@link com.github.tadukoo.util.logger.JsonLinesFormatter JsonLinesFormatter}, which log key/value fields as lines
+ * of JSON.
  */
-package com.github.tadukoo.util.logger;
\ No newline at end of file
+package com.github.tadukoo.util.logger;